@@ -0,0 +1,24 @@
+package com.yj.jwtauth.reactive;
+
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorResponseDto;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ReactiveExceptionHandler {
+
+	private final AuthMetrics authMetrics;
+
+	@ExceptionHandler(CustomRuntimeException.class)
+	protected ResponseEntity<ErrorResponseDto> handleCustomException(CustomRuntimeException e) {
+		authMetrics.countError(e.getErrorCode());
+		return ResponseEntity
+			.status(e.getErrorCode().getStatus())
+			.body(new ErrorResponseDto(e.getErrorCode()));
+	}
+}
@@ -0,0 +1,30 @@
+package com.yj.jwtauth.reactive;
+
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.config.ClockConfig;
+import com.yj.jwtauth.auth.refresh.RefreshTokenStore;
+import com.yj.jwtauth.auth.route.RouteRegistry;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * WebFlux + R2DBC 버전.
+ * 서블릿 버전의 컴포넌트 스캔 대상(필터, JPA 리포지토리 등)은 가져오지 않고
+ * 스택과 무관한 토큰/경로 컴포넌트만 명시적으로 등록함
+ */
+@SpringBootApplication
+@Import({
+	ClockConfig.class,
+	AuthMetrics.class,
+	JwtService.class,
+	RefreshTokenStore.class,
+	RouteRegistry.class
+})
+public class ReactiveJwtAuthApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveJwtAuthApplication.class, args);
+	}
+}
@@ -0,0 +1,80 @@
+package com.yj.jwtauth.reactive.auth;
+
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.VerifiedToken;
+import com.yj.jwtauth.auth.principal.AuthPrincipal;
+import com.yj.jwtauth.auth.route.Route;
+import com.yj.jwtauth.auth.route.RouteAccess;
+import com.yj.jwtauth.auth.route.RouteRegistry;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * JwtAuthenticationFilter + SecurityConfig 인가의 WebFlux 버전.
+ * 같은 RouteRegistry로 경로를 분류하고, 토큰 검증(HMAC 한 번, 블로킹 없음)은 이벤트 루프에서 바로 처리함.
+ * 인증된 사용자는 요청 속성(PRINCIPAL_ATTRIBUTE)으로 컨트롤러에 전달
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+	public static final String PRINCIPAL_ATTRIBUTE = "authPrincipal";
+
+	private final JwtService jwtService;
+	private final RouteRegistry routeRegistry;
+	private final ReactiveErrorResponses errorResponses;
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		Route route = routeRegistry.classify(decodedPath(exchange.getRequest().getPath().pathWithinApplication()));
+		if (route.isPublic()) {
+			return chain.filter(exchange);
+		}
+
+		String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+			return errorResponses.write(exchange, ErrorCode.INVALID_TOKEN);
+		}
+
+		AuthPrincipal principal;
+		try {
+			VerifiedToken verified = jwtService.verifyClaims(authorizationHeader.substring(7));
+			principal = verified.toPrincipal();
+		} catch (CustomRuntimeException e) {
+			return errorResponses.write(exchange, e.getErrorCode());
+		}
+
+		if (route.access() == RouteAccess.ROLE_RESTRICTED && !route.isGrantedTo(principal.authorities())) {
+			return errorResponses.write(exchange, ErrorCode.ACCESS_DENIED);
+		}
+		exchange.getAttributes().put(PRINCIPAL_ATTRIBUTE, principal);
+		return chain.filter(exchange);
+	}
+
+	/**
+	 * 라우팅과 같은 기준(디코딩, ";" 파라미터 제거)의 경로.
+	 * 원본 값으로 분류하면 /api/admin%73/... 같은 인코딩 경로가 역할 제한을 피해 감
+	 */
+	static String decodedPath(PathContainer path) {
+		StringBuilder decoded = new StringBuilder();
+		for (PathContainer.Element element : path.elements()) {
+			if (element instanceof PathContainer.PathSegment segment) {
+				decoded.append(segment.valueToMatch());
+			} else {
+				decoded.append(element.value());
+			}
+		}
+		return decoded.toString();
+	}
+}
@@ -0,0 +1,44 @@
+package com.yj.jwtauth.reactive.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.common.exception.error.ErrorResponseDto;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// WebFilter 오류 응답, ErrorCode별 본문을 기동 시 한 번만 직렬화 (서블릿 버전의 ErrorResponseWriter)
+@Component
+public class ReactiveErrorResponses {
+
+	private final AuthMetrics authMetrics;
+	private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+
+	public ReactiveErrorResponses(ObjectMapper objectMapper, AuthMetrics authMetrics) {
+		this.authMetrics = authMetrics;
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			try {
+				bodies.put(errorCode, objectMapper.writeValueAsBytes(new ErrorResponseDto(errorCode)));
+			} catch (JsonProcessingException e) {
+				throw new IllegalStateException("오류 응답 직렬화 실패: " + errorCode, e);
+			}
+		}
+	}
+
+	public Mono<Void> write(ServerWebExchange exchange, ErrorCode errorCode) {
+		authMetrics.countError(errorCode);
+		byte[] body = bodies.get(errorCode);
+		ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(errorCode.getStatus());
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		response.getHeaders().setContentLength(body.length);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+	}
+}
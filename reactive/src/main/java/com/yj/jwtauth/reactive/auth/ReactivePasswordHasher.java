@@ -0,0 +1,55 @@
+package com.yj.jwtauth.reactive.auth;
+
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import com.yj.jwtauth.common.metrics.TimedPasswordEncoder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * BCrypt를 이벤트 루프 밖의 제한된 스케줄러(코어 수 스레드, 스레드당 대기 작업 수 제한)에서 실행.
+ * 대기열이 가득 차면 SERVER_BUSY로 거부 (서블릿 버전의 PasswordHashingPool과 같은 정책)
+ */
+@Component
+public class ReactivePasswordHasher {
+
+	private final PasswordEncoder passwordEncoder;
+	private final Scheduler scheduler;
+
+	public ReactivePasswordHasher(
+		@Value("${bcrypt.pool.size:0}") int poolSize,
+		@Value("${bcrypt.pool.queue-capacity:256}") int queueCapacity,
+		AuthMetrics authMetrics
+	) {
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		this.passwordEncoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(), authMetrics);
+		this.scheduler = Schedulers.newBoundedElastic(threads, Math.max(1, queueCapacity / threads), "bcrypt");
+	}
+
+	public Mono<String> encode(CharSequence rawPassword) {
+		return offload(Mono.fromCallable(() -> passwordEncoder.encode(rawPassword)));
+	}
+
+	public Mono<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+		return offload(Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.dispose();
+	}
+
+	private <T> Mono<T> offload(Mono<T> task) {
+		return task.subscribeOn(scheduler)
+			.onErrorMap(RejectedExecutionException.class, e -> CustomRuntimeException.of(ErrorCode.SERVER_BUSY));
+	}
+}
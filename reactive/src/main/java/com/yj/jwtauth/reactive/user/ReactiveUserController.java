@@ -0,0 +1,60 @@
+package com.yj.jwtauth.reactive.user;
+
+import com.yj.jwtauth.auth.principal.AuthPrincipal;
+import com.yj.jwtauth.domain.user.dto.request.RoleUpdateRequestDto;
+import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
+import com.yj.jwtauth.domain.user.dto.request.SignupRequestDto;
+import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
+import com.yj.jwtauth.domain.user.dto.response.SignupResponseDto;
+import com.yj.jwtauth.reactive.auth.JwtAuthenticationWebFilter;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+// 서블릿 버전 UserController와 같은 엔드포인트
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ReactiveUserController {
+
+	private final ReactiveUserService userService;
+
+	// 회원가입: 유저(사용자)
+	@PostMapping("/users/signup")
+	@ResponseStatus(HttpStatus.CREATED)
+	public Mono<SignupResponseDto> userSignupAPI(@Valid @RequestBody SignupRequestDto requestDto) {
+		return userService.userSignup(requestDto);
+	}
+
+	// 회원가입: 어드민(관리자)
+	@PostMapping("/admins/signup")
+	@ResponseStatus(HttpStatus.CREATED)
+	public Mono<SignupResponseDto> adminSignupAPI(@Valid @RequestBody SignupRequestDto requestDto) {
+		return userService.adminSignup(requestDto);
+	}
+
+	// 로그인
+	@PostMapping("/signin")
+	public Mono<SigninResponseDto> signinAPI(@Valid @RequestBody SigninRequestDto requestDto) {
+		return userService.userOrAdminSignin(requestDto);
+	}
+
+	// 내 정보 조회
+	@GetMapping("/my-informations")
+	public Mono<UserInfoResponse> getMyInfoAPI(
+		@RequestAttribute(JwtAuthenticationWebFilter.PRINCIPAL_ATTRIBUTE) AuthPrincipal principal
+	) {
+		return userService.getMyInfo(principal.id());
+	}
+
+	// 관리자 권한 부여
+	@PatchMapping("/admins/users/{userId}/roles")
+	public Mono<UserInfoResponse> assignAdminRoleAPI(
+		@PathVariable Long userId,
+		@Valid @RequestBody RoleUpdateRequestDto requestDto
+	) {
+		return userService.assignAdminRole(userId, requestDto);
+	}
+}
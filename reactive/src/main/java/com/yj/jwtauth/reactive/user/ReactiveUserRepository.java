@@ -0,0 +1,10 @@
+package com.yj.jwtauth.reactive.user;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepository extends ReactiveCrudRepository<UserRecord, Long> {
+
+	// 정규화한 이메일로 유저 조회 (email_normalized 유니크 인덱스 사용)
+	Mono<UserRecord> findByEmailNormalized(String emailNormalized);
+}
@@ -0,0 +1,21 @@
+package com.yj.jwtauth.reactive.user;
+
+import com.yj.jwtauth.domain.user.dto.request.RoleUpdateRequestDto;
+import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
+import com.yj.jwtauth.domain.user.dto.request.SignupRequestDto;
+import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
+import com.yj.jwtauth.domain.user.dto.response.SignupResponseDto;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserService {
+
+	Mono<SignupResponseDto> userSignup(SignupRequestDto requestDto);
+
+	Mono<SignupResponseDto> adminSignup(SignupRequestDto requestDto);
+
+	Mono<SigninResponseDto> userOrAdminSignin(SigninRequestDto requestDto);
+
+	Mono<UserInfoResponse> assignAdminRole(Long userId, RoleUpdateRequestDto dto);
+
+	Mono<UserInfoResponse> getMyInfo(Long userId);
+}
@@ -0,0 +1,134 @@
+package com.yj.jwtauth.reactive.user;
+
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.refresh.RefreshTokenStore;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.domain.user.dto.request.RoleUpdateRequestDto;
+import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
+import com.yj.jwtauth.domain.user.dto.request.SignupRequestDto;
+import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
+import com.yj.jwtauth.domain.user.dto.response.SignupResponseDto;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import com.yj.jwtauth.reactive.auth.ReactivePasswordHasher;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.Locale;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReactiveUserServiceImpl.class);
+	private static final String EMAIL_NORMALIZED_UNIQUE = "uk_users_email_normalized";
+	private final ReactiveUserRepository userRepository;
+	private final ReactivePasswordHasher passwordHasher;
+	private final JwtService jwtService;
+	private final RefreshTokenStore refreshTokenStore;
+	private final Clock clock;
+	private final TransactionalOperator transactionalOperator;
+
+	@Override
+	public Mono<SignupResponseDto> userSignup(SignupRequestDto requestDto) {
+		logger.debug("User signup for email: {}", requestDto.getEmail());
+		return signup(requestDto, UserRole.USER);
+	}
+
+	@Override
+	public Mono<SignupResponseDto> adminSignup(SignupRequestDto requestDto) {
+		logger.debug("Admin signup for email: {}", requestDto.getEmail());
+		return signup(requestDto, UserRole.ADMIN);
+	}
+
+	@Override
+	public Mono<SigninResponseDto> userOrAdminSignin(SigninRequestDto requestDto) {
+		logger.debug("Signin attempt for email: {}", requestDto.getEmail());
+		return userRepository.findByEmailNormalized(UserRecord.normalizeEmail(requestDto.getEmail()))
+			.switchIfEmpty(Mono.error(() -> CustomRuntimeException.of(ErrorCode.INVALID_CREDENTIALS)))
+			.flatMap(user -> passwordHasher.matches(requestDto.getPassword(), user.getPassword())
+				.flatMap(matches -> matches
+					? Mono.just(issueTokens(user))
+					: Mono.error(CustomRuntimeException.of(ErrorCode.INVALID_CREDENTIALS))));
+	}
+
+	@Override
+	@Transactional
+	public Mono<UserInfoResponse> assignAdminRole(Long userId, RoleUpdateRequestDto dto) {
+		logger.debug("Assigning role {} to user ID: {}", dto.getRole(), userId);
+		return findUser(userId)
+			.flatMap(user -> {
+				user.updateRole(dto.getRole());
+				return userRepository.save(user);
+			})
+			.map(UserInfoResponse::from);
+	}
+
+	@Override
+	public Mono<UserInfoResponse> getMyInfo(Long userId) {
+		logger.debug("Fetching info for user ID: {}", userId);
+		return findUser(userId).map(UserInfoResponse::from);
+	}
+
+	/**
+	 * BCrypt(boundedElastic)는 트랜잭션 밖에서 먼저 계산하고, INSERT만 트랜잭션으로 실행.
+	 * 해시 대기와 해시 시간 동안 커넥션을 잡지 않게 함
+	 */
+	private Mono<SignupResponseDto> signup(SignupRequestDto requestDto, UserRole role) {
+		// 존재 여부를 먼저 조회하지 않고 INSERT 한 번으로 중복 확인 (email_normalized 유니크 제약)
+		return passwordHasher.encode(requestDto.getPassword())
+			.map(encodedPassword -> UserRecord.builder()
+				.username(requestDto.getUsername())
+				.email(requestDto.getEmail())
+				.password(encodedPassword)
+				.role(role)
+				.build())
+			.flatMap(user -> transactionalOperator.transactional(userRepository.save(user)))
+			.onErrorMap(ReactiveUserServiceImpl::isEmailNormalizedConflict,
+				e -> CustomRuntimeException.of(ErrorCode.EMAIL_ALREADY_EXISTS))
+			.map(this::toSignupResponse);
+	}
+
+	// schema.sql의 email_normalized 유니크 제약 위반만 이메일 중복 (NOT NULL, 길이 위반 등은 그대로 전파)
+	private static boolean isEmailNormalizedConflict(Throwable e) {
+		if (!(e instanceof DataIntegrityViolationException)) {
+			return false;
+		}
+		for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+			String message = cause.getMessage();
+			if (message != null && message.toLowerCase(Locale.ROOT).contains(EMAIL_NORMALIZED_UNIQUE)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private SigninResponseDto issueTokens(UserRecord user) {
+		String token = jwtService.createToken(user.getId(), user.getEmail(), user.getRole());
+		String refreshToken = refreshTokenStore.issue(user.getId(), clock.millis());
+		return new SigninResponseDto(token, refreshToken);
+	}
+
+	private Mono<UserRecord> findUser(Long userId) {
+		return userRepository.findById(userId)
+			.switchIfEmpty(Mono.error(() -> CustomRuntimeException.of(ErrorCode.ACCESS_DENIED)));
+	}
+
+	private SignupResponseDto toSignupResponse(UserRecord user) {
+		return SignupResponseDto.builder()
+			.id(user.getId())
+			.username(user.getUsername())
+			.email(user.getEmail())
+			.role(user.getRole())
+			.createdAt(user.getCreatedAt())
+			.updatedAt(user.getUpdatedAt())
+			.build();
+	}
+}
@@ -0,0 +1,33 @@
+package com.yj.jwtauth.reactive.user;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 서블릿 버전 UserResponseDto와 같은 JSON 형태
+public record UserInfoResponse(
+	Long id,
+	String username,
+	String email,
+	List<String> roles,
+	String role,
+	@JsonProperty("deleted") boolean isDeleted,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt
+) {
+
+	static UserInfoResponse from(UserRecord user) {
+		String role = user.getRole().name();
+		return new UserInfoResponse(
+			user.getId(),
+			user.getUsername(),
+			user.getEmail(),
+			List.of(role),
+			role,
+			user.isDeleted(),
+			user.getCreatedAt(),
+			user.getUpdatedAt()
+		);
+	}
+}
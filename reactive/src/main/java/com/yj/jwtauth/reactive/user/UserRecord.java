@@ -0,0 +1,67 @@
+package com.yj.jwtauth.reactive.user;
+
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+// USERS 테이블 (서블릿 버전의 User 엔티티와 같은 컬럼)
+@Table("users")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserRecord {
+
+	@Id
+	private Long id;
+
+	private String username;
+
+	private String email;
+
+	@Column("email_normalized")
+	private String emailNormalized;
+
+	private String password;
+
+	@Column("user_role")
+	private UserRole role;
+
+	@Column("is_deleted")
+	private boolean isDeleted;
+
+	@CreatedDate
+	@Column("created_at")
+	private LocalDateTime createdAt;
+
+	@LastModifiedDate
+	@Column("updated_at")
+	private LocalDateTime updatedAt;
+
+	@Builder
+	public UserRecord(String username, String email, String password, UserRole role) {
+		this.username = username;
+		this.email = email;
+		this.emailNormalized = normalizeEmail(email);
+		this.password = password;
+		this.role = role == null ? UserRole.USER : role;
+		this.isDeleted = false;
+	}
+
+	// 서블릿 버전 User.normalizeEmail과 같은 규칙 (JPA 엔티티를 끌어오지 않기 위해 따로 둠)
+	public static String normalizeEmail(String email) {
+		return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+	}
+
+	public void updateRole(UserRole role) {
+		this.role = role;
+	}
+}
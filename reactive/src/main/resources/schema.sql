@@ -0,0 +1,13 @@
+-- 서블릿 버전(JPA)의 USERS 테이블과 같은 구조
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    email_normalized VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    user_role VARCHAR(255) NOT NULL,
+    is_deleted TINYINT,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_users_email_normalized UNIQUE (email_normalized)
+);
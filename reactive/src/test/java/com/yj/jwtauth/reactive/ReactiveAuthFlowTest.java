@@ -0,0 +1,137 @@
+package com.yj.jwtauth.reactive;
+
+import com.jayway.jsonpath.JsonPath;
+import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
+import com.yj.jwtauth.domain.user.dto.request.SignupRequestDto;
+import com.yj.jwtauth.reactive.user.ReactiveUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"jwt.secret.key=reactive-test-secret-key-0123456789abcdef",
+		"jwt.expiration.time=60"
+	}
+)
+// WebFlux 버전 통합 테스트 (서블릿 버전 AuthIntegrationTest와 같은 시나리오)
+class ReactiveAuthFlowTest {
+
+	@Autowired private WebTestClient webTestClient;
+	@Autowired private ReactiveUserRepository userRepository;
+	@LocalServerPort private int port;
+
+	@BeforeEach
+	void setUp() {
+		userRepository.deleteAll().block();
+	}
+
+	@Test
+	@DisplayName("success: 회원가입 → 로그인 → 내 정보 조회")
+	void signupSigninMyInfo_success() {
+		// given
+		signup("/api/users/signup", "user@example.com");
+
+		// when
+		String token = signin("user@example.com");
+
+		// then
+		webTestClient.get().uri("/api/my-informations")
+			.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.jsonPath("$.email").isEqualTo("user@example.com")
+			.jsonPath("$.role").isEqualTo("USER");
+	}
+
+	@Test
+	@DisplayName("fail: 중복 이메일 회원가입 시 409")
+	void signup_fail_duplicateEmail() {
+		// given
+		signup("/api/users/signup", "user@example.com");
+
+		// when & then
+		webTestClient.post().uri("/api/users/signup")
+			.bodyValue(new SignupRequestDto("user@example.com", "사용자", "Password123!"))
+			.exchange()
+			.expectStatus().isEqualTo(409)
+			.expectBody()
+			.jsonPath("$.error.code").isEqualTo("EMAIL_ALREADY_EXISTS");
+	}
+
+	@Test
+	@DisplayName("fail: 토큰 없이 내 정보 조회 시 401")
+	void myInfo_fail_missingToken() {
+		webTestClient.get().uri("/api/my-informations")
+			.exchange()
+			.expectStatus().isUnauthorized()
+			.expectBody()
+			.jsonPath("$.error.code").isEqualTo("INVALID_TOKEN");
+	}
+
+	@Test
+	@DisplayName("fail: 일반 사용자가 관리자 API 호출 시 403")
+	void assignAdminRole_fail_notAdmin() {
+		// given
+		signup("/api/users/signup", "user@example.com");
+		String token = signin("user@example.com");
+
+		// when & then
+		webTestClient.patch().uri("/api/admins/users/{userId}/roles", 1L)
+			.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+			.bodyValue("{\"role\":\"ADMIN\"}")
+			.header(HttpHeaders.CONTENT_TYPE, "application/json")
+			.exchange()
+			.expectStatus().isForbidden()
+			.expectBody()
+			.jsonPath("$.error.code").isEqualTo("ACCESS_DENIED");
+	}
+
+	@Test
+	@DisplayName("fail: 일반 사용자가 인코딩된 관리자 경로를 호출해도 403")
+	void assignAdminRole_fail_encodedPath() {
+		// given
+		signup("/api/users/signup", "user@example.com");
+		String token = signin("user@example.com");
+
+		// when & then
+		webTestClient.patch().uri(URI.create("http://localhost:" + port + "/api/admin%73/users/1/roles"))
+			.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+			.bodyValue("{\"role\":\"ADMIN\"}")
+			.header(HttpHeaders.CONTENT_TYPE, "application/json")
+			.exchange()
+			.expectStatus().isForbidden()
+			.expectBody()
+			.jsonPath("$.error.code").isEqualTo("ACCESS_DENIED");
+	}
+
+	private void signup(String uri, String email) {
+		webTestClient.post().uri(uri)
+			.bodyValue(new SignupRequestDto(email, "사용자", "Password123!"))
+			.exchange()
+			.expectStatus().isCreated();
+	}
+
+	private String signin(String email) {
+		String body = webTestClient.post().uri("/api/signin")
+			.bodyValue(new SigninRequestDto(email, "Password123!"))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(String.class)
+			.returnResult()
+			.getResponseBody();
+		assertThat(body).isNotNull();
+		return JsonPath.read(body, "$.token");
+	}
+}
@@ -0,0 +1,58 @@
+package com.yj.jwtauth.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.cache.VerifiedTokenCache;
+import com.yj.jwtauth.auth.revocation.TokenRevocationList;
+import com.yj.jwtauth.common.exception.error.ErrorResponseWriter;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+
+/**
+ * 벤치마크에서 공통으로 쓰는 인증 구성요소 생성 도우미.
+ * 스프링 컨텍스트 없이 운영 설정과 같은 값으로 초기화함
+ */
+final class BenchmarkFixtures {
+
+	static final String SECRET = "benchmark-secret-key-0123456789abcdef";
+	static final long EXPIRATION_MINUTES = 60L;
+
+	private BenchmarkFixtures() {
+	}
+
+	static JwtService jwtService() {
+		JwtService jwtService = new JwtService(Clock.systemUTC(), authMetrics());
+		ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+		ReflectionTestUtils.setField(jwtService, "secretKid", "default");
+		ReflectionTestUtils.setField(jwtService, "expirationTime", EXPIRATION_MINUTES);
+		ReflectionTestUtils.setField(jwtService, "signingAlgorithm", "HS256");
+		jwtService.init();
+		return jwtService;
+	}
+
+	// 운영과 같은 미터 구성 (히스토그램 포함), 계측 비용도 측정에 포함됨
+	static AuthMetrics authMetrics() {
+		return new AuthMetrics(new SimpleMeterRegistry());
+	}
+
+	static ErrorResponseWriter errorResponseWriter() {
+		return new ErrorResponseWriter(new ObjectMapper(), authMetrics());
+	}
+
+	// 기본값(비활성) 캐시
+	static VerifiedTokenCache verifiedTokenCache() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(Clock.systemUTC());
+		cache.init();
+		return cache;
+	}
+
+	static TokenRevocationList tokenRevocationList() {
+		TokenRevocationList revocationList = new TokenRevocationList(Clock.systemUTC());
+		ReflectionTestUtils.setField(revocationList, "expectedSize", 100000);
+		revocationList.init();
+		return revocationList;
+	}
+}
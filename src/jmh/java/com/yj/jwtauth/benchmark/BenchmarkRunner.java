@@ -0,0 +1,72 @@
+package com.yj.jwtauth.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.File;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 벤치마크를 1, N/2, N 스레드(N = 코어 수)로 실행하는 진입점.
+ * GC 프로파일러로 처리량과 함께 할당률(gc.alloc.rate.norm = 호출당 바이트)을 기록함
+ *
+ * JDK 21 미만이면 ThreadModelBenchmark는 platform만 실행함
+ *
+ * args[0]: 실행할 벤치마크 정규식, args[1]: 결과(JSON) 저장 디렉터리
+ */
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		String include = args.length > 0 ? args[0] : ".*";
+		File reportDir = new File(args.length > 1 ? args[1] : "build/reports/jmh");
+		if (!reportDir.isDirectory() && !reportDir.mkdirs()) {
+			throw new IllegalStateException("결과 디렉터리 생성 실패: " + reportDir);
+		}
+
+		for (int threads : threadCounts()) {
+			Options options = new OptionsBuilder()
+				.include(include)
+				.mode(Mode.Throughput)
+				.timeUnit(TimeUnit.SECONDS)
+				.threads(threads)
+				.forks(1)
+				.warmupIterations(3)
+				.warmupTime(TimeValue.seconds(2))
+				.measurementIterations(5)
+				.measurementTime(TimeValue.seconds(2))
+				.addProfiler(GCProfiler.class)
+				.param("threadModel", threadModels())
+				.resultFormat(ResultFormatType.JSON)
+				.result(new File(reportDir, "results-" + threads + "t.json").getPath())
+				.build();
+			new Runner(options).run();
+		}
+	}
+
+	private static String[] threadModels() {
+		return Runtime.version().feature() >= 21
+			? new String[] {"platform", "virtual"}
+			: new String[] {"platform"};
+	}
+
+	// 1, N/2, N (코어 수가 적으면 중복 제거)
+	private static SortedSet<Integer> threadCounts() {
+		int cores = Runtime.getRuntime().availableProcessors();
+		SortedSet<Integer> counts = new TreeSet<>();
+		counts.add(1);
+		counts.add(Math.max(1, cores / 2));
+		counts.add(cores);
+		return counts;
+	}
+}
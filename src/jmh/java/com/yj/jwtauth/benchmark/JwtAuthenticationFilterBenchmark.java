@@ -0,0 +1,80 @@
+package com.yj.jwtauth.benchmark;
+
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.filter.JwtAuthenticationFilter;
+import com.yj.jwtauth.auth.route.RouteRegistry;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+
+// JwtAuthenticationFilter.doFilter: 화이트리스트 / 유효 토큰 / 잘못된 토큰 / 헤더 없음 경로
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+	private static final FilterChain NOOP_CHAIN = (request, response) -> {
+	};
+
+	private JwtAuthenticationFilter filter;
+	private String validAuthorization;
+	private String invalidAuthorization;
+
+	@Setup
+	public void setUp() {
+		JwtService jwtService = BenchmarkFixtures.jwtService();
+		filter = new JwtAuthenticationFilter(
+			jwtService,
+			BenchmarkFixtures.verifiedTokenCache(),
+			BenchmarkFixtures.tokenRevocationList(),
+			new RouteRegistry(),
+			BenchmarkFixtures.errorResponseWriter()
+		);
+		validAuthorization = "Bearer " + jwtService.createToken(1L, "userA@example.com", UserRole.USER);
+		// 서명 마지막 글자를 바꿔 구조는 정상이지만 서명이 틀린 토큰
+		String token = validAuthorization;
+		char last = token.charAt(token.length() - 1);
+		invalidAuthorization = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+	}
+
+	@Benchmark
+	public MockHttpServletResponse whitelisted() throws IOException, ServletException {
+		return doFilter(new MockHttpServletRequest("POST", "/api/signin"));
+	}
+
+	@Benchmark
+	public MockHttpServletResponse validToken() throws IOException, ServletException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/my-informations");
+		request.addHeader("Authorization", validAuthorization);
+		return doFilter(request);
+	}
+
+	@Benchmark
+	public MockHttpServletResponse invalidToken() throws IOException, ServletException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/my-informations");
+		request.addHeader("Authorization", invalidAuthorization);
+		return doFilter(request);
+	}
+
+	@Benchmark
+	public MockHttpServletResponse missingHeader() throws IOException, ServletException {
+		return doFilter(new MockHttpServletRequest("GET", "/api/my-informations"));
+	}
+
+	private MockHttpServletResponse doFilter(MockHttpServletRequest request) throws IOException, ServletException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(request, response, NOOP_CHAIN);
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+		return response;
+	}
+}
@@ -0,0 +1,33 @@
+package com.yj.jwtauth.benchmark;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// JwtService 서명/검증
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+	private JwtService jwtService;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtService = BenchmarkFixtures.jwtService();
+		token = jwtService.createToken(1L, "userA@example.com", UserRole.USER);
+	}
+
+	@Benchmark
+	public String createToken() {
+		return jwtService.createToken(1L, "userA@example.com", UserRole.USER);
+	}
+
+	@Benchmark
+	public DecodedJWT verifyToken() {
+		return jwtService.verifyToken(token);
+	}
+}
@@ -0,0 +1,38 @@
+package com.yj.jwtauth.benchmark;
+
+import com.yj.jwtauth.auth.config.PasswordEncoderConfig;
+import com.yj.jwtauth.auth.password.PasswordHashingPool;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// PasswordEncoder.matches (운영과 같은 BCrypt 설정, 전용 풀 경유)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+	private PasswordHashingPool passwordHashingPool;
+	private PasswordEncoder passwordEncoder;
+	private String encodedPassword;
+
+	@Setup
+	public void setUp() {
+		AuthMetrics authMetrics = BenchmarkFixtures.authMetrics();
+		passwordHashingPool = new PasswordHashingPool(0, 0, authMetrics);
+		passwordEncoder = new PasswordEncoderConfig().passwordEncoder(authMetrics, passwordHashingPool);
+		encodedPassword = passwordEncoder.encode("Password123!");
+	}
+
+	@TearDown
+	public void tearDown() {
+		passwordHashingPool.shutdown();
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return passwordEncoder.matches("Password123!", encodedPassword);
+	}
+}
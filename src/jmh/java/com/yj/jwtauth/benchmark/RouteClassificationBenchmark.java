@@ -0,0 +1,57 @@
+package com.yj.jwtauth.benchmark;
+
+import com.yj.jwtauth.auth.route.Route;
+import com.yj.jwtauth.auth.route.RouteRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.Arrays;
+
+// 경로 분류: 기존 화이트리스트 AntPathMatcher 순회 vs RouteRegistry
+@State(Scope.Benchmark)
+public class RouteClassificationBenchmark {
+
+	// 기존 JwtAuthenticationFilter.whiteList
+	private static final String[] WHITE_LIST = {
+		"/api/users/signup",
+		"/api/admins/signup",
+		"/api/signin",
+		"/api/token/refresh",
+		"/swagger-ui/**",
+		"/swagger-ui.html",
+		"/v3/api-docs/**",
+		"/v3/api-docs.yaml",
+		"/swagger-resources/**",
+		"/webjars/**",
+		"/configuration/**",
+		"/error",
+		"/.well-known/jwks.json"
+	};
+
+	// 인증 경로(대부분의 트래픽), 공개 정확 일치, 공개 접두사
+	@Param({"/api/my-informations", "/api/signin", "/swagger-ui/index.html"})
+	private String path;
+
+	private AntPathMatcher pathMatcher;
+	private RouteRegistry routeRegistry;
+
+	@Setup
+	public void setUp() {
+		pathMatcher = new AntPathMatcher();
+		routeRegistry = new RouteRegistry();
+	}
+
+	@Benchmark
+	public boolean antPathMatcher() {
+		return Arrays.stream(WHITE_LIST).anyMatch(pattern -> pathMatcher.match(pattern, path));
+	}
+
+	@Benchmark
+	public Route routeRegistry() {
+		return routeRegistry.classify(path);
+	}
+}
@@ -0,0 +1,90 @@
+package com.yj.jwtauth.benchmark;
+
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.VerifiedToken;
+import com.yj.jwtauth.auth.cache.CachedAuthentication;
+import com.yj.jwtauth.auth.cache.VerifiedTokenCache;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * virtual 프로필처럼 요청마다 새 스레드에서 인증 핫패스를 실행할 때의 비용.
+ * platform: 재사용되는 코어 수 크기 워커 풀 (Tomcat 풀 대용), virtual: 호출마다 새 가상 스레드 (JDK 21 이상)
+ *
+ * 같은 threadModel의 noop과 비교하면 스레드 생성/전달 비용을 뺀 호출당 할당을 볼 수 있음.
+ * 스레드별 캐시(ThreadLocal)를 쓰면 virtual에서만 버퍼가 매번 새로 할당되어 차이가 드러남
+ */
+@State(Scope.Benchmark)
+public class ThreadModelBenchmark {
+
+	@Param({"platform", "virtual"})
+	public String threadModel;
+
+	private ExecutorService executor;
+	private JwtService jwtService;
+	private VerifiedTokenCache cache;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		executor = "virtual".equals(threadModel) ? virtualThreadPerTask()
+			: Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		jwtService = BenchmarkFixtures.jwtService();
+		token = jwtService.createToken(1L, "userA@example.com", UserRole.USER);
+
+		cache = new VerifiedTokenCache(Clock.systemUTC());
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxSize", 10_000L);
+		cache.init();
+	}
+
+	@TearDown
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Benchmark
+	public Object noop() throws Exception {
+		return run(() -> token);
+	}
+
+	@Benchmark
+	public String createToken() throws Exception {
+		return run(() -> jwtService.createToken(1L, "userA@example.com", UserRole.USER));
+	}
+
+	@Benchmark
+	public VerifiedToken verifyClaims() throws Exception {
+		return run(() -> jwtService.verifyClaims(token));
+	}
+
+	// 캐시 키(SHA-256) 계산 포함
+	@Benchmark
+	public CachedAuthentication cacheLookup() throws Exception {
+		return run(() -> cache.get(token));
+	}
+
+	private <T> T run(Callable<T> task) throws Exception {
+		return executor.submit(task).get();
+	}
+
+	// JDK 17로도 컴파일되도록 리플렉션으로 생성
+	private static ExecutorService virtualThreadPerTask() {
+		try {
+			return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("가상 스레드는 JDK 21 이상 필요 (-PjavaVersion=21)", e);
+		}
+	}
+}
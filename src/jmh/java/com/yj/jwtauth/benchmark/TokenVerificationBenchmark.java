@@ -0,0 +1,63 @@
+package com.yj.jwtauth.benchmark;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.VerifiedToken;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * auth0 DecodedJWT 경로(verifyToken)와 바이트 기반 빠른 경로(verifyClaims) 비교.
+ * 호출당 할당 바이트는 gc.alloc.rate.norm 항목으로 확인
+ */
+@State(Scope.Benchmark)
+public class TokenVerificationBenchmark {
+
+	private JwtService jwtService;
+	private String token;
+	private String expiredToken;
+
+	@Setup
+	public void setUp() {
+		jwtService = BenchmarkFixtures.jwtService();
+		token = jwtService.createToken(1L, "userA@example.com", UserRole.USER);
+
+		// 만료 시간을 음수로 두고 발급한 토큰 (서명은 유효)
+		JwtService expiredIssuer = BenchmarkFixtures.jwtService();
+		ReflectionTestUtils.setField(expiredIssuer, "expirationTime", -1L);
+		expiredToken = expiredIssuer.createToken(1L, "userA@example.com", UserRole.USER);
+	}
+
+	@Benchmark
+	public DecodedJWT decodedJwtPath() {
+		return jwtService.verifyToken(token);
+	}
+
+	@Benchmark
+	public VerifiedToken fastPath() {
+		return jwtService.verifyClaims(token);
+	}
+
+	@Benchmark
+	public Object decodedJwtPathExpired() {
+		try {
+			return jwtService.verifyToken(expiredToken);
+		} catch (CustomRuntimeException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object fastPathExpired() {
+		try {
+			return jwtService.verifyClaims(expiredToken);
+		} catch (CustomRuntimeException e) {
+			return e;
+		}
+	}
+}
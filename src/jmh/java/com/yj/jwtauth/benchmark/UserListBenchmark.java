@@ -0,0 +1,77 @@
+package com.yj.jwtauth.benchmark;
+
+import com.yj.jwtauth.JwtAuthAssignmentApplication;
+import com.yj.jwtauth.domain.user.repository.UserQueryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 관리자 유저 목록: 키셋(id > ?) vs OFFSET, 페이지가 깊어질수록 OFFSET만 느려지는지 비교
+@State(Scope.Benchmark)
+public class UserListBenchmark {
+
+	private static final int USERS = 100_000;
+	private static final int PAGE_SIZE = 100;
+
+	@Param({"1", "100", "1000"})
+	private int page;
+
+	private ConfigurableApplicationContext context;
+	private UserQueryRepository userQueryRepository;
+	private JdbcTemplate jdbcTemplate;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(JwtAuthAssignmentApplication.class)
+			.properties(
+				"jwt.secret.key=" + BenchmarkFixtures.SECRET,
+				"jwt.expiration.time=" + BenchmarkFixtures.EXPIRATION_MINUTES,
+				"server.port=0",
+				"logging.level.root=WARN"
+			)
+			.run();
+		userQueryRepository = context.getBean(UserQueryRepository.class);
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> rows = new ArrayList<>(USERS);
+		for (int i = 1; i <= USERS; i++) {
+			String email = "user" + i + "@example.com";
+			rows.add(new Object[] {i, "사용자" + i, email, email, "encoded", "USER", false, now, now});
+		}
+		jdbcTemplate.batchUpdate("insert into users (id, username, email, email_normalized, password, user_role, "
+			+ "is_deleted, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public void keyset(Blackhole blackhole) {
+		userQueryRepository.findPage((long)(page - 1) * PAGE_SIZE, PAGE_SIZE, null, null, blackhole::consume);
+	}
+
+	@Benchmark
+	public void offset(Blackhole blackhole) {
+		jdbcTemplate.query("select id, username, email, user_role, is_deleted, created_at, updated_at from users "
+				+ "order by id limit ? offset ?",
+			rs -> {
+				blackhole.consume(rs.getLong("id"));
+				blackhole.consume(rs.getString("email"));
+			}, PAGE_SIZE, (page - 1) * PAGE_SIZE);
+	}
+}
@@ -0,0 +1,81 @@
+package com.yj.jwtauth.benchmark;
+
+import com.yj.jwtauth.JwtAuthAssignmentApplication;
+import com.yj.jwtauth.common.entity.User;
+import com.yj.jwtauth.domain.user.cache.UserSnapshot;
+import com.yj.jwtauth.domain.user.dto.projection.SigninCredentials;
+import com.yj.jwtauth.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 로그인/내 정보 조회: 읽기 전용 트랜잭션의 엔티티 조회(이전 방식) vs 프로젝션 쿼리, 호출당 할당은 -prof gc로 비교
+@State(Scope.Benchmark)
+public class UserLookupBenchmark {
+
+	private static final String EMAIL = "usera@example.com";
+
+	private ConfigurableApplicationContext context;
+	private UserRepository userRepository;
+	private TransactionTemplate readOnlyTransaction;
+	private Long userId;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(JwtAuthAssignmentApplication.class)
+			.properties(
+				"jwt.secret.key=" + BenchmarkFixtures.SECRET,
+				"jwt.expiration.time=" + BenchmarkFixtures.EXPIRATION_MINUTES,
+				"server.port=0",
+				"logging.level.root=WARN"
+			)
+			.run();
+		userRepository = context.getBean(UserRepository.class);
+		readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnlyTransaction.setReadOnly(true);
+
+		userId = userRepository.save(User.builder()
+			.username("사용자A")
+			.email(EMAIL)
+			.password("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234")
+			.build()).getId();
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	// 이전 userOrAdminSignin: 트랜잭션 안에서 User 엔티티 로딩
+	@Benchmark
+	public String signinEntity() {
+		return readOnlyTransaction.execute(status ->
+			userRepository.findByEmailNormalized(EMAIL).orElseThrow().getPassword());
+	}
+
+	@Benchmark
+	public SigninCredentials signinProjection() {
+		return userRepository.findSigninCredentials(EMAIL).orElseThrow();
+	}
+
+	// 이전 getMyInfo: 트랜잭션 안에서 findById 후 값 복사
+	@Benchmark
+	public UserSnapshot myInfoEntity() {
+		return readOnlyTransaction.execute(status -> {
+			User user = userRepository.findById(userId).orElseThrow();
+			return new UserSnapshot(user.getId(), user.getUsername(), user.getEmail(), user.getRole(),
+				user.isDeleted(), user.getCreatedAt(), user.getUpdatedAt());
+		});
+	}
+
+	@Benchmark
+	public UserSnapshot myInfoProjection() {
+		return userRepository.findSnapshotById(userId).orElseThrow();
+	}
+}
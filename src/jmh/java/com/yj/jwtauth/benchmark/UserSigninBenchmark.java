@@ -0,0 +1,56 @@
+package com.yj.jwtauth.benchmark;
+
+import com.yj.jwtauth.JwtAuthAssignmentApplication;
+import com.yj.jwtauth.common.entity.User;
+import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
+import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
+import com.yj.jwtauth.domain.user.repository.UserRepository;
+import com.yj.jwtauth.domain.user.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// UserServiceImpl.userOrAdminSignin: 내장 H2 조회 + BCrypt + 토큰 발급 전체 경로
+@State(Scope.Benchmark)
+public class UserSigninBenchmark {
+
+	private ConfigurableApplicationContext context;
+	private UserService userService;
+	private SigninRequestDto request;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(JwtAuthAssignmentApplication.class)
+			.properties(
+				"jwt.secret.key=" + BenchmarkFixtures.SECRET,
+				"jwt.expiration.time=" + BenchmarkFixtures.EXPIRATION_MINUTES,
+				"server.port=0",
+				"logging.level.root=WARN"
+			)
+			.run();
+		userService = context.getBean(UserService.class);
+
+		PasswordEncoder passwordEncoder = context.getBean(PasswordEncoder.class);
+		context.getBean(UserRepository.class).save(User.builder()
+			.username("사용자A")
+			.email("userA@example.com")
+			.password(passwordEncoder.encode("Password123!"))
+			.build());
+		request = new SigninRequestDto("userA@example.com", "Password123!");
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public SigninResponseDto userOrAdminSignin() {
+		return userService.userOrAdminSignin(request);
+	}
+}
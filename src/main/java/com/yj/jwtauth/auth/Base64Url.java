@@ -0,0 +1,81 @@
+package com.yj.jwtauth.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 버퍼를 새로 만들지 않는 Base64URL(패딩 없음) 인코딩/디코딩.
+ * JDK Base64는 호출마다 결과 배열을 할당하므로 토큰 핫패스에서는 이쪽을 사용함
+ */
+final class Base64Url {
+
+	private static final byte[] ALPHABET =
+		"ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] DECODE_TABLE = new byte[128];
+
+	static {
+		Arrays.fill(DECODE_TABLE, (byte)-1);
+		for (int i = 0; i < ALPHABET.length; i++) {
+			DECODE_TABLE[ALPHABET[i]] = (byte)i;
+		}
+	}
+
+	private Base64Url() {
+	}
+
+	static int encodedLength(int length) {
+		return (length * 4 + 2) / 3;
+	}
+
+	// source[from, from + length)를 target[offset]부터 기록하고 기록한 바이트 수 반환
+	static int encode(byte[] source, int from, int length, byte[] target, int offset) {
+		int out = offset;
+		int end = from + length;
+		int i = from;
+		for (; i + 2 < end; i += 3) {
+			int bits = (source[i] & 0xff) << 16 | (source[i + 1] & 0xff) << 8 | (source[i + 2] & 0xff);
+			target[out++] = ALPHABET[bits >>> 18];
+			target[out++] = ALPHABET[(bits >>> 12) & 0x3f];
+			target[out++] = ALPHABET[(bits >>> 6) & 0x3f];
+			target[out++] = ALPHABET[bits & 0x3f];
+		}
+		int remaining = end - i;
+		if (remaining == 1) {
+			int bits = (source[i] & 0xff) << 16;
+			target[out++] = ALPHABET[bits >>> 18];
+			target[out++] = ALPHABET[(bits >>> 12) & 0x3f];
+		} else if (remaining == 2) {
+			int bits = (source[i] & 0xff) << 16 | (source[i + 1] & 0xff) << 8;
+			target[out++] = ALPHABET[bits >>> 18];
+			target[out++] = ALPHABET[(bits >>> 12) & 0x3f];
+			target[out++] = ALPHABET[(bits >>> 6) & 0x3f];
+		}
+		return out - offset;
+	}
+
+	// source[from, to)를 디코딩해 target[offset]부터 기록, 잘못된 문자나 길이면 -1
+	static int decode(String source, int from, int to, byte[] target, int offset) {
+		int length = to - from;
+		if (length % 4 == 1 || offset + length * 3 / 4 > target.length) {
+			return -1;
+		}
+		int out = offset;
+		int bits = 0;
+		int bitCount = 0;
+		for (int i = from; i < to; i++) {
+			char c = source.charAt(i);
+			int value = c < 128 ? DECODE_TABLE[c] : -1;
+			if (value < 0) {
+				return -1;
+			}
+			bits = (bits << 6) | value;
+			bitCount += 6;
+			if (bitCount >= 8) {
+				bitCount -= 8;
+				target[out++] = (byte)(bits >> bitCount);
+			}
+		}
+		return out - offset;
+	}
+}
@@ -0,0 +1,386 @@
+package com.yj.jwtauth.auth;
+
+import com.yj.jwtauth.auth.key.JwtKey;
+import com.yj.jwtauth.auth.key.JwtKeyRing;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.common.pool.BoundedObjectPool;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * 이 서비스가 발급한 HS256 토큰 전용 검증기.
+ * auth0 DecodedJWT처럼 모든 클레임을 Jackson으로 만들지 않고 토큰 바이트에서 직접
+ * 필요한 필드(jti, sub, email, roles, exp)만 꺼냄.
+ *
+ * 1. 구조와 헤더 확인 → 2. 페이로드 디코딩 후 iss/exp/iat/nbf 확인 → 3. HMAC 서명 확인
+ * 순서라서 만료되었거나 깨진 토큰은 HMAC 계산 없이 거부됨.
+ * 버퍼와 Mac은 코어 수 크기의 풀에서 빌려 재사용하므로 (가상 스레드에서도) 호출당 할당은
+ * jti/email 문자열과 결과 객체 정도임.
+ *
+ * 처리할 수 없는 형태(다른 헤더, 이스케이프 문자열, 여러 역할 등)면 null을 반환하고
+ * 호출 측은 auth0 검증 경로로 넘어감
+ */
+final class FastJwtVerifier {
+
+	private static final int MAX_TOKEN_LENGTH = 4096;
+	private static final int SIGNATURE_LENGTH = 32;
+
+	private static final byte[] JTI = ascii("jti");
+	private static final byte[] SUB = ascii("sub");
+	private static final byte[] EMAIL = ascii("email");
+	private static final byte[] ROLES = ascii("roles");
+	private static final byte[] ISS = ascii("iss");
+	private static final byte[] EXP = ascii("exp");
+	private static final byte[] IAT = ascii("iat");
+	private static final byte[] NBF = ascii("nbf");
+	private static final byte[] ISSUER = ascii(JwtKey.ISSUER);
+
+	private static final UserRole[] ROLE_VALUES = UserRole.values();
+	private static final byte[][] ROLE_NAMES = new byte[ROLE_VALUES.length][];
+
+	static {
+		for (int i = 0; i < ROLE_VALUES.length; i++) {
+			ROLE_NAMES[i] = ascii(ROLE_VALUES[i].getRole());
+		}
+	}
+
+	private static final BoundedObjectPool<Scratch> SCRATCH = BoundedObjectPool.perCore(Scratch::new);
+
+	VerifiedToken verify(String token, JwtKeyRing ring, long nowMillis) {
+		int length = token.length();
+		if (length > MAX_TOKEN_LENGTH) {
+			return null;
+		}
+		int firstDot = token.indexOf('.');
+		int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+		if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+			throw invalidToken();
+		}
+
+		JwtKey key = ring.findHmacKeyByHeader(token, firstDot, nowMillis);
+		if (key == null) {
+			return null;
+		}
+
+		Scratch scratch = SCRATCH.acquire();
+		try {
+			Claims claims = scratch.claims;
+			int payloadLength = Base64Url.decode(token, firstDot + 1, secondDot, scratch.buffer, 0);
+			if (payloadLength < 0) {
+				throw invalidToken();
+			}
+			if (!claims.parse(scratch.buffer, payloadLength)) {
+				return null;
+			}
+
+			// 서명 확인 전에 시간/발급자 클레임부터 확인 (auth0 검증기와 같은 초 단위 비교)
+			long nowSeconds = nowMillis / 1000;
+			if (!claims.issuerMatches || nowSeconds > claims.exp
+				|| (claims.hasIat && claims.iat > nowSeconds)
+				|| (claims.hasNbf && claims.nbf > nowSeconds)) {
+				throw invalidToken();
+			}
+
+			if (!signatureMatches(token, secondDot, key, scratch)) {
+				throw invalidToken();
+			}
+
+			String jti = claims.jtiStart < 0 ? null : new String(scratch.buffer, claims.jtiStart,
+				claims.jtiEnd - claims.jtiStart, StandardCharsets.US_ASCII);
+			String email = claims.emailStart < 0 ? null : new String(scratch.buffer, claims.emailStart,
+				claims.emailEnd - claims.emailStart, StandardCharsets.UTF_8);
+			return new VerifiedToken(jti, key.getKid(), claims.userId, email, ROLE_VALUES[claims.role], claims.exp * 1000L);
+		} finally {
+			SCRATCH.release(scratch);
+		}
+	}
+
+	private static boolean signatureMatches(String token, int secondDot, JwtKey key, Scratch scratch) {
+		byte[] signature = scratch.signature;
+		int signatureLength = token.length() - secondDot - 1;
+		// 32바이트 서명의 Base64URL 길이는 항상 43
+		if (signatureLength != 43 || Base64Url.decode(token, secondDot + 1, token.length(), signature, 0) != SIGNATURE_LENGTH) {
+			return false;
+		}
+
+		byte[] input = scratch.signingInput(secondDot);
+		for (int i = 0; i < secondDot; i++) {
+			input[i] = (byte)token.charAt(i);
+		}
+		try {
+			Mac mac = scratch.mac.forKey(key);
+			mac.update(input, 0, secondDot);
+			mac.doFinal(scratch.expected, 0);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HMAC 계산 실패", e);
+		}
+
+		// 상수 시간 비교
+		int diff = 0;
+		for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+			diff |= signature[i] ^ scratch.expected[i];
+		}
+		return diff == 0;
+	}
+
+	private static CustomRuntimeException invalidToken() {
+		return CustomRuntimeException.of(ErrorCode.INVALID_TOKEN);
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private static boolean equalsAt(byte[] buffer, int start, int end, byte[] expected) {
+		if (end - start != expected.length) {
+			return false;
+		}
+		for (int i = 0; i < expected.length; i++) {
+			if (buffer[start + i] != expected[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 풀에서 빌려 쓰는 재사용 버퍼
+	private static final class Scratch {
+
+		private final KeyedMac mac = new KeyedMac();
+		private final byte[] buffer = new byte[MAX_TOKEN_LENGTH];
+		private final byte[] signature = new byte[SIGNATURE_LENGTH + 2];
+		private final byte[] expected = new byte[SIGNATURE_LENGTH];
+		private final Claims claims = new Claims();
+		private byte[] input = new byte[512];
+
+		byte[] signingInput(int length) {
+			if (input.length < length) {
+				input = new byte[Math.max(length, input.length * 2)];
+			}
+			return input;
+		}
+	}
+
+	/**
+	 * 페이로드 JSON의 최상위 필드만 읽는 단순 스캐너.
+	 * 문자열 이스케이프, 중첩 객체처럼 우리가 발급하지 않는 형태를 만나면 false (일반 경로로 위임)
+	 */
+	private static final class Claims {
+
+		private long userId;
+		private int jtiStart;
+		private int jtiEnd;
+		private int emailStart;
+		private int emailEnd;
+		private int role;
+		private boolean issuerMatches;
+		private long exp;
+		private boolean hasExp;
+		private long iat;
+		private boolean hasIat;
+		private long nbf;
+		private boolean hasNbf;
+		private boolean hasSub;
+
+		private byte[] json;
+		private int limit;
+		private int pos;
+
+		boolean parse(byte[] json, int limit) {
+			this.json = json;
+			this.limit = limit;
+			this.pos = 0;
+			jtiStart = -1;
+			jtiEnd = -1;
+			emailStart = -1;
+			emailEnd = -1;
+			role = -1;
+			issuerMatches = false;
+			hasExp = false;
+			hasIat = false;
+			hasNbf = false;
+			hasSub = false;
+
+			if (!consume('{')) {
+				return false;
+			}
+			if (!consume('}')) {
+				do {
+					if (!field()) {
+						return false;
+					}
+				} while (consume(','));
+				if (!consume('}')) {
+					return false;
+				}
+			}
+			skipWhitespace();
+			return pos == limit && hasSub && hasExp && role >= 0;
+		}
+
+		private boolean field() {
+			if (!consume('"')) {
+				return false;
+			}
+			int keyStart = pos;
+			int keyEnd = stringEnd();
+			if (keyEnd < 0 || !consume(':')) {
+				return false;
+			}
+			skipWhitespace();
+			if (equalsAt(json, keyStart, keyEnd, EXP)) {
+				exp = number();
+				return hasExp = exp >= 0;
+			}
+			if (equalsAt(json, keyStart, keyEnd, IAT)) {
+				iat = number();
+				return hasIat = iat >= 0;
+			}
+			if (equalsAt(json, keyStart, keyEnd, NBF)) {
+				nbf = number();
+				return hasNbf = nbf >= 0;
+			}
+			if (equalsAt(json, keyStart, keyEnd, SUB)) {
+				return hasSub = subject();
+			}
+			if (equalsAt(json, keyStart, keyEnd, JTI)) {
+				if (!consume('"')) {
+					return false;
+				}
+				jtiStart = pos;
+				jtiEnd = stringEnd();
+				return jtiEnd >= 0;
+			}
+			if (equalsAt(json, keyStart, keyEnd, EMAIL)) {
+				if (!consume('"')) {
+					return false;
+				}
+				emailStart = pos;
+				emailEnd = stringEnd();
+				return emailEnd >= 0;
+			}
+			if (equalsAt(json, keyStart, keyEnd, ISS)) {
+				if (!consume('"')) {
+					return false;
+				}
+				int start = pos;
+				int end = stringEnd();
+				issuerMatches = end >= 0 && equalsAt(json, start, end, ISSUER);
+				return end >= 0;
+			}
+			if (equalsAt(json, keyStart, keyEnd, ROLES)) {
+				return roles();
+			}
+			return skipValue();
+		}
+
+		// "sub":"123" 형태의 숫자 식별자
+		private boolean subject() {
+			if (!consume('"')) {
+				return false;
+			}
+			int start = pos;
+			int end = stringEnd();
+			if (end <= start || end - start > 18) {
+				return false;
+			}
+			long value = 0;
+			for (int i = start; i < end; i++) {
+				byte b = json[i];
+				if (b < '0' || b > '9') {
+					return false;
+				}
+				value = value * 10 + (b - '0');
+			}
+			userId = value;
+			return true;
+		}
+
+		// 알려진 역할 하나만 담긴 배열만 처리
+		private boolean roles() {
+			if (!consume('[') || !consume('"')) {
+				return false;
+			}
+			int start = pos;
+			int end = stringEnd();
+			if (end < 0 || !consume(']')) {
+				return false;
+			}
+			for (int i = 0; i < ROLE_NAMES.length; i++) {
+				if (equalsAt(json, start, end, ROLE_NAMES[i])) {
+					role = i;
+					return true;
+				}
+			}
+			return false;
+		}
+
+		// 음이 아닌 정수, 형식이 다르면 -1
+		private long number() {
+			int start = pos;
+			long value = 0;
+			while (pos < limit && json[pos] >= '0' && json[pos] <= '9') {
+				value = value * 10 + (json[pos++] - '0');
+			}
+			int digits = pos - start;
+			return digits == 0 || digits > 18 ? -1 : value;
+		}
+
+		private boolean skipValue() {
+			if (pos >= limit) {
+				return false;
+			}
+			byte b = json[pos];
+			if (b == '"') {
+				pos++;
+				return stringEnd() >= 0;
+			}
+			if (b == '[' || b == '{') {
+				return false;
+			}
+			// 숫자, true, false, null
+			while (pos < limit && json[pos] != ',' && json[pos] != '}') {
+				byte c = json[pos];
+				if (c == '"' || c == '[' || c == '{') {
+					return false;
+				}
+				pos++;
+			}
+			return true;
+		}
+
+		// 현재 위치부터 닫는 따옴표까지 진행하고 문자열 끝 위치 반환, 이스케이프가 있으면 -1
+		private int stringEnd() {
+			while (pos < limit) {
+				byte b = json[pos];
+				if (b == '"') {
+					return pos++;
+				}
+				if (b == '\\') {
+					return -1;
+				}
+				pos++;
+			}
+			return -1;
+		}
+
+		private boolean consume(char expected) {
+			skipWhitespace();
+			if (pos < limit && json[pos] == expected) {
+				pos++;
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespace() {
+			while (pos < limit && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+				pos++;
+			}
+		}
+	}
+}
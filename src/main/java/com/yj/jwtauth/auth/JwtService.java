@@ -1,24 +1,34 @@
 package com.yj.jwtauth.auth;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.yj.jwtauth.auth.key.JwtKey;
+import com.yj.jwtauth.auth.key.JwtKeyRing;
 import com.yj.jwtauth.common.exception.CustomRuntimeException;
 import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
 import com.yj.jwtauth.domain.user.enums.UserRole;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
-import java.time.ZonedDateTime;
+import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
 	private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
@@ -26,53 +36,173 @@ public class JwtService {
 	@Value("${jwt.secret.key}")
 	private String secretKey;
 
+	@Value("${jwt.secret.kid:default}")
+	private String secretKid;
+
 	@Value("${jwt.expiration.time}")
 	private Long expirationTime;
 
+	// 서명 알고리즘 (HS256 | ES256), ES256이어도 HS256 토큰은 계속 검증됨
+	@Value("${jwt.signing.algorithm:HS256}")
+	private String signingAlgorithm;
+
+	@Value("${jwt.signing.ec.kid:es256-1}")
+	private String ecKid;
+
+	// Base64 DER (X.509 / PKCS#8), 비어 있으면 기동 시 생성
+	@Value("${jwt.signing.ec.public-key:}")
+	private String ecPublicKey;
+
+	@Value("${jwt.signing.ec.private-key:}")
+	private String ecPrivateKey;
+
+	// 서명/검증 키 링, 키 교체 시 통째로 교체됨
+	private final AtomicReference<JwtKeyRing> keyRing = new AtomicReference<>();
+
+	private final FastJwtVerifier fastJwtVerifier = new FastJwtVerifier();
+
+	private final TokenMinter tokenMinter = new TokenMinter();
+
+	private final Clock clock;
+
+	private final AuthMetrics authMetrics;
+
 	@PostConstruct
 	public void init() {
-		logger.info("JWT Secret Key: {}", secretKey); // 시크릿 키 확인
-		logger.info("JWT Expiration Time: {} minutes", expirationTime); // 만료 시간 확인
 		if (secretKey == null || secretKey.isEmpty()) {
 			logger.error("JWT secret key is not configured");
 			throw new IllegalArgumentException("비밀 키 미설정");
 		}
+		JwtKeyRing ring = JwtKeyRing.of(JwtKey.hmac(secretKid, secretKey));
+		if ("ES256".equalsIgnoreCase(signingAlgorithm)) {
+			ring = ring.promote(JwtKey.es256(ecKid, loadOrGenerateKeyPair()), clock.millis());
+		} else if (!"HS256".equalsIgnoreCase(signingAlgorithm)) {
+			throw new IllegalArgumentException("지원하지 않는 서명 알고리즘: " + signingAlgorithm);
+		}
+		keyRing.set(ring);
+		logger.info("JWT Key ID: {}, algorithm: {}", ring.getActiveKey().getKid(), signingAlgorithm); // 활성 키 확인
+		logger.info("JWT Expiration Time: {} minutes", expirationTime); // 만료 시간 확인
 		logger.debug("JWT Service initialized with expiration time: {} minutes", expirationTime);
 	}
 
+	/**
+	 * HS256 키는 미리 인코딩한 헤더/고정 클레임에 가변 클레임만 붙여 서명하고,
+	 * ES256 키는 auth0 빌더로 발급함. 두 경로 모두 같은 클레임 집합을 만듦
+	 */
 	public String createToken(Long id, String email, UserRole role) {
-		ZonedDateTime now = ZonedDateTime.now();
+		long now = clock.millis();
+		long issuedAt = TimeUnit.MILLISECONDS.toSeconds(now);
+		long expiresAt = issuedAt + TimeUnit.MINUTES.toSeconds(expirationTime);
+		JwtKey signingKey = keyRing.get().getActiveKey();
+		long start = System.nanoTime();
 		try {
-			Algorithm algorithm = Algorithm.HMAC256(secretKey);
-			String token = JWT.create()
-				.withIssuer("auth0")
-				.withSubject(id.toString())
-				.withClaim("email", email)
-				.withClaim("roles", List.of(role.getRole()))
-				.withIssuedAt(now.toInstant())
-				.withExpiresAt(now.plusMinutes(expirationTime).toInstant())
-				.sign(algorithm);
+			String token = signingKey.isAsymmetric()
+				? JWT.create()
+					.withKeyId(signingKey.getKid())
+					.withIssuer(JwtKey.ISSUER)
+					.withJWTId(newJwtId())
+					.withSubject(id.toString())
+					.withClaim("email", email)
+					.withClaim("roles", List.of(role.getRole()))
+					.withIssuedAt(Instant.ofEpochSecond(issuedAt))
+					.withExpiresAt(Instant.ofEpochSecond(expiresAt))
+					.sign(signingKey.getAlgorithm())
+				: tokenMinter.mint(signingKey, id, email, role, newJwtId(), issuedAt, expiresAt);
 			logger.debug("Created JWT token for user ID: {}, email: {}, role: {}", id, email, role);
 			return token;
-		} catch (JWTCreationException e) {
+		} catch (JWTCreationException | IllegalStateException e) {
 			logger.error("Failed to create JWT token: {}", e.getMessage());
 			throw new JWTCreationException("JWT 생성 실패", e);
+		} finally {
+			authMetrics.getTokenSignTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 		}
 	}
 
 	public DecodedJWT verifyToken(String token) {
+		long start = System.nanoTime();
 		try {
-			Algorithm algorithm = Algorithm.HMAC256(secretKey);
-			JWTVerifier verifier = JWT.require(algorithm)
-				.withIssuer("auth0")
-				.build();
-			DecodedJWT decodedJWT = verifier.verify(token);
+			DecodedJWT decoded = JWT.decode(token);
+			JwtKey key = keyRing.get().find(decoded.getKeyId(), clock.millis());
+			if (key == null) {
+				throw new JWTVerificationException("Unknown or retired key id: " + decoded.getKeyId());
+			}
+			DecodedJWT decodedJWT = key.getVerifier().verify(decoded);
 			logger.debug("Verified JWT token, subject: {}, roles: {}",
 				decodedJWT.getSubject(), decodedJWT.getClaim("roles").asList(String.class));
 			return decodedJWT;
 		} catch (JWTVerificationException e) {
-			logger.error("JWT verification failed: {}", e.getMessage());
-			throw new CustomRuntimeException(ErrorCode.INVALID_TOKEN); // 예외 메시지 포함
+			// 잘못된 토큰은 흔한 입력이므로 요청마다 error 로그를 남기지 않음 (필터에서 집계)
+			logger.debug("JWT verification failed: {}", e.getMessage());
+			throw CustomRuntimeException.of(ErrorCode.INVALID_TOKEN);
+		} finally {
+			authMetrics.getTokenVerifyFullTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * 필터용 검증: 필요한 클레임(sub, email, roles, exp)만 꺼냄.
+	 * 이 서비스가 발급한 HS256 토큰은 빠른 경로로, 나머지(ES256, kid 없는 토큰 등)는 verifyToken으로 검증
+	 */
+	public VerifiedToken verifyClaims(String token) {
+		long start = System.nanoTime();
+		VerifiedToken verified = fastJwtVerifier.verify(token, keyRing.get(), clock.millis());
+		if (verified != null) {
+			authMetrics.getTokenVerifyFastTimer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			return verified;
+		}
+		return VerifiedToken.from(verifyToken(token));
+	}
+
+	/**
+	 * 재시작 없이 서명 키 교체.
+	 * 이전 활성 키는 토큰 최대 수명(jwt.expiration.time) 동안 검증용으로 유지됨
+	 */
+	public void rotateKey(String kid, String secret) {
+		JwtKey newKey = JwtKey.hmac(kid, secret);
+		long overlapMillis = TimeUnit.MINUTES.toMillis(expirationTime);
+		keyRing.updateAndGet(ring -> ring.rotate(newKey, clock.millis(), overlapMillis));
+		logger.info("Rotated JWT signing key, active kid: {}", kid);
+	}
+
+	// 새 ES256 키 쌍을 생성해 활성 키로 교체, 이전 키는 겹침 기간 동안 JWKS에도 남음
+	public void rotateKeyPair(String kid) {
+		JwtKey newKey = JwtKey.es256(kid, JwtKey.generateEs256KeyPair());
+		long overlapMillis = TimeUnit.MINUTES.toMillis(expirationTime);
+		keyRing.updateAndGet(ring -> ring.rotate(newKey, clock.millis(), overlapMillis));
+		logger.info("Rotated JWT signing key pair, active kid: {}", kid);
+	}
+
+	// 유출 등으로 겹침 기간을 기다릴 수 없을 때 검증 키를 즉시 제거
+	public void retireKey(String kid) {
+		keyRing.updateAndGet(ring -> ring.retire(kid));
+		logger.info("Retired JWT key, kid: {}", kid);
+	}
+
+	// 서명 키가 아직 검증에 쓰일 수 있는지 (폐기되었거나 겹침 기간이 지났으면 false)
+	public boolean isKeyUsable(String kid) {
+		return keyRing.get().find(kid, clock.millis()) != null;
+	}
+
+	public JwtKeyRing getKeyRing() {
+		return keyRing.get();
+	}
+
+	// 폐기 목록 키로 쓰는 128비트 식별자 (비밀값이 아니므로 ThreadLocalRandom 사용)
+	private static String newJwtId() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		byte[] id = ByteBuffer.allocate(16)
+			.putLong(random.nextLong())
+			.putLong(random.nextLong())
+			.array();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(id);
+	}
+
+	private KeyPair loadOrGenerateKeyPair() {
+		if (ecPublicKey.isEmpty() || ecPrivateKey.isEmpty()) {
+			// 인스턴스마다 키가 달라지므로 다중 인스턴스 운영 시에는 키를 설정해야 함
+			logger.warn("ES256 key pair is not configured, generating an ephemeral key pair");
+			return JwtKey.generateEs256KeyPair();
 		}
+		return JwtKey.loadEs256KeyPair(ecPublicKey, ecPrivateKey);
 	}
 }
\ No newline at end of file
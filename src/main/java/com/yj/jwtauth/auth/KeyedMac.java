@@ -0,0 +1,35 @@
+package com.yj.jwtauth.auth;
+
+import com.yj.jwtauth.auth.key.JwtKey;
+
+import javax.crypto.Mac;
+import java.security.GeneralSecurityException;
+
+/**
+ * 재사용 버퍼에 딸린 HmacSHA256 인스턴스.
+ * 직전과 같은 키면 초기화된 Mac을 그대로 재사용함 (doFinal 후 자동으로 리셋됨)
+ */
+final class KeyedMac {
+
+	private Mac mac;
+	private JwtKey key;
+
+	Mac forKey(JwtKey key) {
+		try {
+			if (this.key != key) {
+				if (mac == null) {
+					mac = Mac.getInstance("HmacSHA256");
+				}
+				this.key = null;
+				mac.init(key.getHmacKey());
+				this.key = key;
+			} else {
+				// 앞선 사용이 예외로 끝났을 때 남은 입력 제거 (이미 리셋된 상태면 비용 없음)
+				mac.reset();
+			}
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HMAC 초기화 실패", e);
+		}
+		return mac;
+	}
+}
@@ -0,0 +1,192 @@
+package com.yj.jwtauth.auth;
+
+import com.yj.jwtauth.auth.key.JwtKey;
+import com.yj.jwtauth.common.pool.BoundedObjectPool;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * HS256 토큰 발급 전용 경로.
+ *
+ * 고정 부분(헤더, iss, 역할별 roles)은 미리 Base64URL로 인코딩해 두고,
+ * 토큰마다 바뀌는 sub/email/jti/iat/exp만 직렬화해 이어 붙임.
+ * 고정 JSON 조각은 공백으로 길이를 3의 배수로 맞춰 두었기 때문에
+ * Base64URL(고정 + 가변) == Base64URL(고정) + Base64URL(가변)이 성립함.
+ * 결과 페이로드는 공백이 섞인 정상 JSON이라 auth0 검증기로도 그대로 검증됨
+ */
+final class TokenMinter {
+
+	private static final int SIGNATURE_LENGTH = 32;
+
+	// 역할별로 미리 인코딩한 {"iss":"auth0","roles":["ROLE_..."],
+	private static final Map<UserRole, byte[]> ENCODED_PREFIXES = new EnumMap<>(UserRole.class);
+
+	private static final byte[] SUB = ascii("\"sub\":\"");
+	private static final byte[] EMAIL = ascii("\",\"email\":");
+	private static final byte[] JTI = ascii(",\"jti\":\"");
+	private static final byte[] IAT = ascii("\",\"iat\":");
+	private static final byte[] EXP = ascii(",\"exp\":");
+	private static final byte[] NULL = ascii("null");
+	private static final byte[] HEX = ascii("0123456789abcdef");
+
+	static {
+		for (UserRole role : UserRole.values()) {
+			StringBuilder prefix = new StringBuilder()
+				.append("{\"iss\":\"").append(JwtKey.ISSUER)
+				.append("\",\"roles\":[\"").append(role.getRole()).append("\"],");
+			while (prefix.length() % 3 != 0) {
+				prefix.append(' ');
+			}
+			byte[] json = ascii(prefix.toString());
+			byte[] encoded = new byte[Base64Url.encodedLength(json.length)];
+			Base64Url.encode(json, 0, json.length, encoded, 0);
+			ENCODED_PREFIXES.put(role, encoded);
+		}
+	}
+
+	private static final BoundedObjectPool<Scratch> SCRATCH = BoundedObjectPool.perCore(Scratch::new);
+
+	String mint(JwtKey key, long id, String email, UserRole role, String jti, long issuedAtSeconds,
+		long expiresAtSeconds) {
+		Scratch scratch = SCRATCH.acquire();
+		try {
+			// 가변 클레임 JSON
+			byte[] json = scratch.json(email == null ? 128 : 128 + email.length() * 6);
+			int length = 0;
+			length = put(json, length, SUB);
+			length = putLong(json, length, id);
+			length = put(json, length, EMAIL);
+			length = email == null ? put(json, length, NULL) : putJsonString(json, length, email);
+			length = put(json, length, JTI);
+			length = putAscii(json, length, jti);
+			length = put(json, length, IAT);
+			length = putLong(json, length, issuedAtSeconds);
+			length = put(json, length, EXP);
+			length = putLong(json, length, expiresAtSeconds);
+			json[length++] = '}';
+
+			// header.payload
+			String header = key.getEncodedHeader();
+			byte[] prefix = ENCODED_PREFIXES.get(role);
+			byte[] out = scratch.out(header.length() + 1 + prefix.length + Base64Url.encodedLength(length) + 1
+				+ Base64Url.encodedLength(SIGNATURE_LENGTH));
+			int position = putAscii(out, 0, header);
+			out[position++] = '.';
+			position = put(out, position, prefix);
+			position += Base64Url.encode(json, 0, length, out, position);
+
+			try {
+				Mac mac = scratch.mac.forKey(key);
+				mac.update(out, 0, position);
+				mac.doFinal(scratch.signature, 0);
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("HMAC 계산 실패", e);
+			}
+			out[position++] = '.';
+			position += Base64Url.encode(scratch.signature, 0, SIGNATURE_LENGTH, out, position);
+			return new String(out, 0, position, StandardCharsets.ISO_8859_1);
+		} finally {
+			SCRATCH.release(scratch);
+		}
+	}
+
+	private static int put(byte[] target, int offset, byte[] source) {
+		System.arraycopy(source, 0, target, offset, source.length);
+		return offset + source.length;
+	}
+
+	private static int putAscii(byte[] target, int offset, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			target[offset++] = (byte)value.charAt(i);
+		}
+		return offset;
+	}
+
+	private static int putLong(byte[] target, int offset, long value) {
+		if (value < 0) {
+			target[offset++] = '-';
+			value = -value;
+		}
+		int start = offset;
+		do {
+			target[offset++] = (byte)('0' + value % 10);
+			value /= 10;
+		} while (value > 0);
+		// 뒤집기
+		for (int i = start, j = offset - 1; i < j; i++, j--) {
+			byte tmp = target[i];
+			target[i] = target[j];
+			target[j] = tmp;
+		}
+		return offset;
+	}
+
+	// JSON 문자열 리터럴 (따옴표/역슬래시/제어 문자 이스케이프, 그 외는 UTF-8)
+	private static int putJsonString(byte[] target, int offset, String value) {
+		target[offset++] = '"';
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				target[offset++] = '\\';
+				target[offset++] = (byte)c;
+			} else if (c < 0x20) {
+				target[offset++] = '\\';
+				target[offset++] = 'u';
+				target[offset++] = '0';
+				target[offset++] = '0';
+				target[offset++] = HEX[c >> 4];
+				target[offset++] = HEX[c & 0xf];
+			} else if (c < 0x80) {
+				target[offset++] = (byte)c;
+			} else if (c < 0x800) {
+				target[offset++] = (byte)(0xc0 | c >> 6);
+				target[offset++] = (byte)(0x80 | c & 0x3f);
+			} else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+				&& Character.isLowSurrogate(value.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				target[offset++] = (byte)(0xf0 | codePoint >> 18);
+				target[offset++] = (byte)(0x80 | codePoint >> 12 & 0x3f);
+				target[offset++] = (byte)(0x80 | codePoint >> 6 & 0x3f);
+				target[offset++] = (byte)(0x80 | codePoint & 0x3f);
+			} else {
+				target[offset++] = (byte)(0xe0 | c >> 12);
+				target[offset++] = (byte)(0x80 | c >> 6 & 0x3f);
+				target[offset++] = (byte)(0x80 | c & 0x3f);
+			}
+		}
+		target[offset++] = '"';
+		return offset;
+	}
+
+	private static byte[] ascii(String value) {
+		return value.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	// 풀에서 빌려 쓰는 재사용 버퍼
+	private static final class Scratch {
+
+		private final KeyedMac mac = new KeyedMac();
+		private final byte[] signature = new byte[SIGNATURE_LENGTH];
+		private byte[] json = new byte[512];
+		private byte[] out = new byte[1024];
+
+		byte[] json(int capacity) {
+			if (json.length < capacity) {
+				json = new byte[capacity];
+			}
+			return json;
+		}
+
+		byte[] out(int capacity) {
+			if (out.length < capacity) {
+				out = new byte[capacity];
+			}
+			return out;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.yj.jwtauth.auth;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.yj.jwtauth.auth.principal.AuthPrincipal;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+
+import java.util.List;
+
+/**
+ * 필터가 사용하는 검증된 토큰의 클레임 (jti, sub, email, roles, exp).
+ *
+ * @param jti             폐기 목록 조회용 식별자 (jti 도입 이전 토큰은 null)
+ * @param kid             서명 키 식별자 (kid 헤더가 없는 기존 토큰은 null)
+ * @param role            roles 클레임의 역할 (이 서비스는 역할 하나만 발급함)
+ * @param expiresAtMillis exp (epoch millis)
+ */
+public record VerifiedToken(
+	String jti,
+	String kid,
+	Long userId,
+	String email,
+	UserRole role,
+	long expiresAtMillis
+) {
+
+	public AuthPrincipal toPrincipal() {
+		return new AuthPrincipal(userId, email, role);
+	}
+
+	static VerifiedToken from(DecodedJWT decodedJWT) {
+		return new VerifiedToken(
+			decodedJWT.getId(),
+			decodedJWT.getKeyId(),
+			Long.parseLong(decodedJWT.getSubject()),
+			decodedJWT.getClaim("email").asString(),
+			roleOf(decodedJWT.getClaim("roles").asList(String.class)),
+			decodedJWT.getExpiresAt().getTime()
+		);
+	}
+
+	// 첫 번째로 알려진 역할, 없으면 유효하지 않은 토큰
+	private static UserRole roleOf(List<String> roles) {
+		if (roles != null) {
+			for (String name : roles) {
+				for (UserRole role : UserRole.values()) {
+					if (role.getRole().equals(name)) {
+						return role;
+					}
+				}
+			}
+		}
+		throw CustomRuntimeException.of(ErrorCode.INVALID_TOKEN);
+	}
+}
@@ -0,0 +1,23 @@
+package com.yj.jwtauth.auth.cache;
+
+import com.yj.jwtauth.auth.principal.AuthPrincipal;
+
+/**
+ * 검증이 끝난 토큰에서 만든 인증 정보.
+ * 불변 객체라 캐시에 저장해 여러 요청이 공유해도 안전함
+ *
+ * @param jti             폐기 여부 확인용 토큰 식별자 (캐시 적중 시에도 확인함)
+ * @param kid             서명 키 식별자, 캐시 적중 시 키가 아직 유효한지 확인함 (키를 폐기하면 캐시된 토큰도 거부)
+ * @param expiresAtMillis 토큰의 exp (epoch millis), 캐시 TTL의 상한
+ */
+public record CachedAuthentication(
+	String jti,
+	String kid,
+	AuthPrincipal principal,
+	long expiresAtMillis
+) {
+
+	public boolean isExpiredAt(long nowMillis) {
+		return nowMillis >= expiresAtMillis;
+	}
+}
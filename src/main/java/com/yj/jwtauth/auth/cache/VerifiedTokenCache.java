@@ -0,0 +1,144 @@
+package com.yj.jwtauth.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.yj.jwtauth.common.pool.BoundedObjectPool;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 토큰의 인증 정보를 보관하는 캐시 (기본 비활성).
+ * Caffeine(W-TinyLFU)으로 크기를 제한하고, 각 항목은 토큰의 exp까지만 유지됨.
+ * 토큰 원문 대신 SHA-256 다이제스트를 키로 사용함
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+	// 요청마다 새 가상 스레드여도 다이제스트를 재사용하도록 ThreadLocal 대신 풀 사용
+	private static final BoundedObjectPool<MessageDigest> SHA256 = BoundedObjectPool.perCore(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 미지원", e);
+		}
+	});
+
+	@Value("${jwt.cache.enabled:false}")
+	private boolean enabled;
+
+	@Value("${jwt.cache.max-size:10000}")
+	private long maxSize;
+
+	private final Clock clock;
+
+	private Cache<TokenDigest, CachedAuthentication> cache;
+
+	public VerifiedTokenCache(Clock clock) {
+		this.clock = clock;
+	}
+
+	@PostConstruct
+	public void init() {
+		if (!enabled) {
+			logger.info("Verified token cache disabled");
+			return;
+		}
+		cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfter(new UntilTokenExpiry(clock))
+			.recordStats()
+			.build();
+		logger.info("Verified token cache enabled, max size: {}", maxSize);
+	}
+
+	public boolean isEnabled() {
+		return cache != null;
+	}
+
+	// 캐시에 없거나 만료된 경우 null
+	public CachedAuthentication get(String token) {
+		if (cache == null) {
+			return null;
+		}
+		CachedAuthentication authentication = cache.getIfPresent(TokenDigest.of(token));
+		if (authentication == null || authentication.isExpiredAt(clock.millis())) {
+			return null;
+		}
+		return authentication;
+	}
+
+	public void put(String token, CachedAuthentication authentication) {
+		if (cache == null || authentication.isExpiredAt(clock.millis())) {
+			return;
+		}
+		cache.put(TokenDigest.of(token), authentication);
+	}
+
+	// 폐기된 토큰이 캐시에서 계속 통과되지 않도록 제거
+	public void invalidate(String token) {
+		if (cache != null) {
+			cache.invalidate(TokenDigest.of(token));
+		}
+	}
+
+	public void invalidateAll() {
+		if (cache != null) {
+			cache.invalidateAll();
+		}
+	}
+
+	// 적중/미스/축출 횟수, 비활성 상태면 빈 통계
+	public CacheStats stats() {
+		return cache != null ? cache.stats() : CacheStats.empty();
+	}
+
+	// SHA-256 다이제스트 32바이트를 long 4개로 보관 (배열 키보다 equals/hashCode가 저렴)
+	record TokenDigest(long a, long b, long c, long d) {
+
+		static TokenDigest of(String token) {
+			MessageDigest digest = SHA256.acquire();
+			try {
+				ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+				return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+			} finally {
+				SHA256.release(digest);
+			}
+		}
+	}
+
+	// 항목 TTL = 토큰 exp까지 남은 시간
+	private record UntilTokenExpiry(Clock clock) implements Expiry<TokenDigest, CachedAuthentication> {
+
+		@Override
+		public long expireAfterCreate(TokenDigest key, CachedAuthentication value, long currentTime) {
+			long remainingMillis = value.expiresAtMillis() - clock.millis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+		}
+
+		@Override
+		public long expireAfterUpdate(TokenDigest key, CachedAuthentication value, long currentTime,
+			long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(TokenDigest key, CachedAuthentication value, long currentTime,
+			long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.yj.jwtauth.auth.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class ClockConfig {
+	@Bean
+	public Clock clock() {
+		return Clock.systemUTC();
+	}
+}
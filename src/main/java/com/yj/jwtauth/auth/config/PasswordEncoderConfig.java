@@ -1,5 +1,9 @@
 package com.yj.jwtauth.auth.config;
 
+import com.yj.jwtauth.auth.password.PasswordHashingPool;
+import com.yj.jwtauth.auth.password.PooledPasswordEncoder;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import com.yj.jwtauth.common.metrics.TimedPasswordEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -7,8 +11,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordEncoderConfig {
+	// BCrypt는 전용 풀에서 실행 (타이머는 대기 시간을 뺀 해시 시간만 기록)
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(AuthMetrics authMetrics, PasswordHashingPool passwordHashingPool) {
+		return new PooledPasswordEncoder(
+			new TimedPasswordEncoder(new BCryptPasswordEncoder(), authMetrics),
+			passwordHashingPool
+		);
 	}
 }
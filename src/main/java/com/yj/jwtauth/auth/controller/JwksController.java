@@ -0,0 +1,57 @@
+package com.yj.jwtauth.auth.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.key.JwkSet;
+import com.yj.jwtauth.auth.key.JwtKeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+	// 소비 측 캐시 유지 시간, 키 교체 후 이 시간 안에 새 키가 전파됨
+	private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+	private final JwtService jwtService;
+	private final ObjectMapper objectMapper;
+	private final Clock clock;
+
+	private volatile JwkSet jwkSet;
+
+	// 공개 키 목록 (다른 서비스의 로컬 토큰 검증용)
+	@GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(
+		summary = "JWKS 조회",
+		description = "ES256 토큰 검증용 공개 키 목록을 반환합니다. If-None-Match가 일치하면 304를 반환합니다."
+	)
+	public ResponseEntity<byte[]> jwksAPI() {
+		JwkSet current = currentJwkSet();
+		// ETag가 If-None-Match와 같으면 스프링이 본문 없이 304로 응답함
+		return ResponseEntity.ok()
+			.cacheControl(CACHE_CONTROL)
+			.eTag(current.getEtag())
+			.body(current.getBody());
+	}
+
+	private JwkSet currentJwkSet() {
+		JwtKeyRing ring = jwtService.getKeyRing();
+		long now = clock.millis();
+		JwkSet current = jwkSet;
+		// 키 링 교체 또는 교체 전 키의 폐기 시각 경과 시 다시 만듦 (ETag도 함께 바뀜)
+		if (current == null || !current.isCurrentFor(ring, now)) {
+			current = JwkSet.of(ring, objectMapper, now);
+			jwkSet = current;
+		}
+		return current;
+	}
+}
@@ -1,10 +1,14 @@
 package com.yj.jwtauth.auth.filter;
 
-import com.auth0.jwt.interfaces.DecodedJWT;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.VerifiedToken;
+import com.yj.jwtauth.auth.cache.CachedAuthentication;
+import com.yj.jwtauth.auth.cache.VerifiedTokenCache;
+import com.yj.jwtauth.auth.principal.AuthPrincipal;
+import com.yj.jwtauth.auth.revocation.TokenRevocationList;
+import com.yj.jwtauth.auth.route.RouteRegistry;
 import com.yj.jwtauth.common.exception.error.ErrorCode;
-import com.yj.jwtauth.common.exception.error.ErrorResponseDto;
+import com.yj.jwtauth.common.exception.error.ErrorResponseWriter;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,15 +22,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
@@ -35,22 +35,11 @@ public class JwtAuthenticationFilter implements Filter {
 
 	private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 	private final JwtService jwtService;
-	private final ObjectMapper objectMapper = new ObjectMapper();
-	private final AntPathMatcher pathMatcher = new AntPathMatcher();
-
-	private static final String[] whiteList = {
-		"/api/users/signup",
-		"/api/admins/signup",
-		"/api/signin",
-		"/swagger-ui/**",
-		"/swagger-ui.html",
-		"/v3/api-docs/**",
-		"/v3/api-docs.yaml",
-		"/swagger-resources/**",
-		"/webjars/**",
-		"/configuration/**",
-		"/error" // 추가: /error 경로 화이트리스트
-	};
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final TokenRevocationList tokenRevocationList;
+	private final RouteRegistry routeRegistry;
+	private final ErrorResponseWriter errorResponseWriter;
+	private final RejectLog rejectLog = new RejectLog(logger, 10, TimeUnit.SECONDS);
 
 	@Override
 	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -58,18 +47,10 @@ public class JwtAuthenticationFilter implements Filter {
 		HttpServletRequest httpRequest = (HttpServletRequest) request;
 		HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-		String requestURI = httpRequest.getRequestURI();
-		String contextPath = httpRequest.getContextPath();
-		if (contextPath != null && !contextPath.isEmpty() && requestURI.startsWith(contextPath)) {
-			requestURI = requestURI.substring(contextPath.length());
-		}
-		if (requestURI.contains("?")) {
-			requestURI = requestURI.substring(0, requestURI.indexOf("?"));
-		}
-
+		String requestURI = RouteRegistry.pathWithinApplication(httpRequest);
 		logger.debug("Processing request URI: {}", requestURI);
 
-		if (isWhiteListPath(requestURI)) {
+		if (routeRegistry.classify(requestURI).isPublic()) {
 			logger.debug("URI {} is whitelisted, bypassing JWT validation", requestURI);
 			chain.doFilter(request, response);
 			return;
@@ -79,8 +60,8 @@ public class JwtAuthenticationFilter implements Filter {
 		logger.debug("Authorization header: {}", authorizationHeader);
 
 		if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
-			logger.warn("Missing or invalid Authorization header for URI: {}", requestURI);
-			sendErrorResponse(httpResponse, ErrorCode.INVALID_TOKEN);
+			rejectLog.reject(RejectLog.Reason.MISSING_HEADER, requestURI, "no bearer token");
+			errorResponseWriter.write(httpResponse, ErrorCode.INVALID_TOKEN);
 			return;
 		}
 
@@ -88,50 +69,46 @@ public class JwtAuthenticationFilter implements Filter {
 		logger.debug("Extracted token: {}", token);
 
 		try {
-			DecodedJWT decodedJwt = jwtService.verifyToken(token);
-			String userId = decodedJwt.getSubject();
-			List<String> roles = decodedJwt.getClaim("roles").asList(String.class);
-			List<SimpleGrantedAuthority> authorities = roles.stream()
-			.map(SimpleGrantedAuthority::new)
-			.collect(Collectors.toList());
-
-			String email = decodedJwt.getClaim("email").asString();
-
-			logger.debug("Token verified, userId: {}, roles: {}, email: {}", userId, roles, email);
-
+			CachedAuthentication authentication = verifiedTokenCache.get(token);
+			if (authentication != null && !jwtService.isKeyUsable(authentication.kid())) {
+				// 캐시에 넣은 뒤 서명 키가 폐기됨 → 다시 검증해 거부되도록 함
+				verifiedTokenCache.invalidate(token);
+				authentication = null;
+			}
+			if (authentication == null) {
+				authentication = verify(token);
+				verifiedTokenCache.put(token, authentication);
+			} else {
+				logger.debug("Verified token cache hit, userId: {}", authentication.principal().id());
+			}
+
+			if (tokenRevocationList.isRevoked(authentication.jti())) {
+				rejectLog.reject(RejectLog.Reason.REVOKED, requestURI, authentication.principal().id());
+				errorResponseWriter.write(httpResponse, ErrorCode.INVALID_TOKEN);
+				return;
+			}
+
+			// 권한 목록은 역할별 공유 인스턴스, 컨트롤러는 AuthPrincipal을 파라미터로 주입받음
+			AuthPrincipal principal = authentication.principal();
 			UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-				email,
+				principal,
 				null,
-				authorities
+				principal.authorities()
 			);
 			SecurityContextHolder.getContext().setAuthentication(authToken);
-			logger.debug("Set Authentication in SecurityContext with authorities: {}", authorities);
-
-			httpRequest.setAttribute("userId", Long.parseLong(userId));
-			logger.debug("Set userId attribute: {}", userId);
+			logger.debug("Set Authentication in SecurityContext, userId: {}, role: {}", principal.id(), principal.role());
 
 			chain.doFilter(request, response);
 		} catch (Exception e) {
-			logger.error("Token verification failed for URI: {}, error: {}", requestURI, e.getMessage());
-			sendErrorResponse(httpResponse, ErrorCode.INVALID_TOKEN);
+			rejectLog.reject(RejectLog.Reason.INVALID_TOKEN, requestURI, e.getMessage());
+			errorResponseWriter.write(httpResponse, ErrorCode.INVALID_TOKEN);
 		}
 	}
 
-	private void sendErrorResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
-		response.setStatus(errorCode.getStatus().value());
-		response.setContentType("application/json; charset=UTF-8");
-		ErrorResponseDto errorResponse = new ErrorResponseDto(errorCode);
-		response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
-	}
-
-	private boolean isWhiteListPath(String requestURI) {
-		boolean isWhitelisted = Arrays.stream(whiteList)
-			.anyMatch(pattern -> {
-				boolean matches = pathMatcher.match(pattern, requestURI);
-				logger.trace("Matching URI: {} against pattern: {}, result: {}", requestURI, pattern, matches);
-				return matches;
-			});
-		logger.debug("Checking whitelist for URI: {}, isWhitelisted: {}", requestURI, isWhitelisted);
-		return isWhitelisted;
+	private CachedAuthentication verify(String token) {
+		VerifiedToken verified = jwtService.verifyClaims(token);
+		logger.debug("Token verified, userId: {}, role: {}, email: {}",
+			verified.userId(), verified.role(), verified.email());
+		return new CachedAuthentication(verified.jti(), verified.kid(), verified.toPrincipal(), verified.expiresAtMillis());
 	}
-}
\ No newline at end of file
+}
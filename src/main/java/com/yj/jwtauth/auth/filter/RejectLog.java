@@ -0,0 +1,55 @@
+package com.yj.jwtauth.auth.filter;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인증 거부 로그 집계.
+ * 거부마다 한 줄씩 남기지 않고 사유별 건수만 세다가 간격(기본 10초)마다 한 번,
+ * 그 사이 건수와 마지막 요청 하나를 예시로 남김
+ */
+final class RejectLog {
+
+	enum Reason {
+		MISSING_HEADER,
+		INVALID_TOKEN,
+		REVOKED
+	}
+
+	private static final Reason[] REASONS = Reason.values();
+
+	private final Logger logger;
+	private final long intervalNanos;
+	private final LongAdder[] counts = new LongAdder[REASONS.length];
+	private final AtomicLong nextFlushAt;
+
+	RejectLog(Logger logger, long interval, TimeUnit unit) {
+		this.logger = logger;
+		this.intervalNanos = unit.toNanos(interval);
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = new LongAdder();
+		}
+		this.nextFlushAt = new AtomicLong(System.nanoTime());
+	}
+
+	void reject(Reason reason, String requestURI, Object detail) {
+		counts[reason.ordinal()].increment();
+		long now = System.nanoTime();
+		long flushAt = nextFlushAt.get();
+		if (now - flushAt < 0 || !nextFlushAt.compareAndSet(flushAt, now + intervalNanos)) {
+			return;
+		}
+		StringBuilder summary = new StringBuilder();
+		for (Reason each : REASONS) {
+			long count = counts[each.ordinal()].sumThenReset();
+			if (count > 0) {
+				summary.append(summary.isEmpty() ? "" : ", ").append(each).append('=').append(count);
+			}
+		}
+		logger.warn("Rejected requests since last report: [{}], latest: {} {} ({})",
+			summary, reason, requestURI, detail);
+	}
+}
@@ -0,0 +1,95 @@
+package com.yj.jwtauth.auth.key;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECPublicKey;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키 링의 공개 키를 직렬화해 둔 JWKS 응답 본문과 강한 ETag.
+ * 키 링이 바뀌거나 포함된 키 중 가장 이른 폐기 시각이 지날 때만 다시 만들어지므로 요청마다 직렬화하지 않음
+ */
+@Getter
+public final class JwkSet {
+
+	// P-256 좌표 길이 (바이트)
+	private static final int P256_COORDINATE_LENGTH = 32;
+
+	private final JwtKeyRing source;
+	private final byte[] body;
+	private final String etag;
+
+	// 포함된 키 중 가장 이른 폐기 시각, 이후에는 그 키를 빼고 다시 만들어야 함
+	private final long validUntil;
+
+	private JwkSet(JwtKeyRing source, byte[] body, String etag, long validUntil) {
+		this.source = source;
+		this.body = body;
+		this.etag = etag;
+		this.validUntil = validUntil;
+	}
+
+	public static JwkSet of(JwtKeyRing ring, ObjectMapper objectMapper, long nowMillis) {
+		List<Map<String, String>> keys = new ArrayList<>();
+		long validUntil = Long.MAX_VALUE;
+		for (JwtKey key : ring.getKeys()) {
+			// HMAC 비밀 키는 절대 공개하지 않음
+			if (key.isAsymmetric() && key.isUsableAt(nowMillis)) {
+				keys.add(toJwk(key));
+				validUntil = Math.min(validUntil, key.getRetireAt());
+			}
+		}
+		try {
+			byte[] body = objectMapper.writeValueAsBytes(Map.of("keys", keys));
+			return new JwkSet(ring, body, "\"" + digest(body) + "\"", validUntil);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("JWKS 직렬화 실패", e);
+		}
+	}
+
+	// 같은 키 링에서 만들었고 포함된 키가 아직 모두 폐기 전이면 그대로 사용 가능
+	public boolean isCurrentFor(JwtKeyRing ring, long nowMillis) {
+		return source == ring && nowMillis < validUntil;
+	}
+
+	private static Map<String, String> toJwk(JwtKey key) {
+		ECPublicKey publicKey = key.getPublicKey();
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		Map<String, String> jwk = new LinkedHashMap<>();
+		jwk.put("kty", "EC");
+		jwk.put("crv", "P-256");
+		jwk.put("kid", key.getKid());
+		jwk.put("use", "sig");
+		jwk.put("alg", key.getAlgorithm().getName());
+		jwk.put("x", encoder.encodeToString(toCoordinate(publicKey.getW().getAffineX())));
+		jwk.put("y", encoder.encodeToString(toCoordinate(publicKey.getW().getAffineY())));
+		return jwk;
+	}
+
+	// BigInteger의 부호 바이트를 제거하고 고정 길이로 맞춤 (RFC 7518 6.2.1.2)
+	private static byte[] toCoordinate(BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		byte[] coordinate = new byte[P256_COORDINATE_LENGTH];
+		int length = Math.min(bytes.length, P256_COORDINATE_LENGTH);
+		System.arraycopy(bytes, bytes.length - length, coordinate, P256_COORDINATE_LENGTH - length, length);
+		return coordinate;
+	}
+
+	private static String digest(byte[] body) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 미지원", e);
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package com.yj.jwtauth.auth.key;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import lombok.Getter;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * kid 하나에 대응하는 서명/검증 키.
+ * Algorithm, JWTVerifier 모두 스레드 안전하므로 생성 시 한 번만 만들어 재사용함
+ */
+@Getter
+public final class JwtKey {
+
+	public static final String ISSUER = "auth0";
+
+	private final String kid;
+	private final Algorithm algorithm;
+	private final JWTVerifier verifier;
+
+	// 비대칭 키(ES256)의 공개 키, JWKS로 공개됨 (HMAC 키는 null)
+	private final ECPublicKey publicKey;
+
+	// HMAC 키 원본 (빠른 검증 경로용, ES256 키는 null)
+	private final SecretKeySpec hmacKey;
+
+	// 이 키로 발급한 토큰의 헤더 세그먼트 (Base64URL), 빠른 검증 경로에서 키 식별에 사용
+	private final String encodedHeader;
+
+	// 이 시각(epoch millis) 이후로는 검증에 사용하지 않음 (활성 키는 Long.MAX_VALUE)
+	private final long retireAt;
+
+	private JwtKey(String kid, Algorithm algorithm, ECPublicKey publicKey, SecretKeySpec hmacKey, long retireAt) {
+		this.kid = kid;
+		this.algorithm = algorithm;
+		this.verifier = JWT.require(algorithm)
+			.withIssuer(ISSUER)
+			.build();
+		this.publicKey = publicKey;
+		this.hmacKey = hmacKey;
+		// 헤더는 kid와 알고리즘만으로 결정되므로 샘플 토큰 하나로 미리 계산
+		String sample = JWT.create().withKeyId(kid).sign(algorithm);
+		this.encodedHeader = sample.substring(0, sample.indexOf('.'));
+		this.retireAt = retireAt;
+	}
+
+	// 같은 Algorithm/Verifier를 공유하면서 폐기 시각만 바꾼 사본
+	private JwtKey(JwtKey source, long retireAt) {
+		this.kid = source.kid;
+		this.algorithm = source.algorithm;
+		this.verifier = source.verifier;
+		this.publicKey = source.publicKey;
+		this.hmacKey = source.hmacKey;
+		this.encodedHeader = source.encodedHeader;
+		this.retireAt = retireAt;
+	}
+
+	public static JwtKey hmac(String kid, String secret) {
+		if (secret == null || secret.isEmpty()) {
+			throw new IllegalArgumentException("비밀 키는 필수입니다.");
+		}
+		SecretKeySpec hmacKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+		return new JwtKey(requireKid(kid), Algorithm.HMAC256(secret), null, hmacKey, Long.MAX_VALUE);
+	}
+
+	public static JwtKey es256(String kid, KeyPair keyPair) {
+		ECPublicKey publicKey = (ECPublicKey)keyPair.getPublic();
+		ECPrivateKey privateKey = (ECPrivateKey)keyPair.getPrivate();
+		return new JwtKey(requireKid(kid), Algorithm.ECDSA256(publicKey, privateKey), publicKey, null,
+			Long.MAX_VALUE);
+	}
+
+	// P-256 키 쌍 생성
+	public static KeyPair generateEs256KeyPair() {
+		try {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+			generator.initialize(new ECGenParameterSpec("secp256r1"));
+			return generator.generateKeyPair();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("ES256 키 생성 실패", e);
+		}
+	}
+
+	// Base64 DER 인코딩(X.509 공개 키, PKCS#8 개인 키)된 P-256 키 쌍 로드
+	public static KeyPair loadEs256KeyPair(String publicKeyBase64, String privateKeyBase64) {
+		try {
+			KeyFactory keyFactory = KeyFactory.getInstance("EC");
+			Base64.Decoder decoder = Base64.getMimeDecoder();
+			return new KeyPair(
+				keyFactory.generatePublic(new X509EncodedKeySpec(decoder.decode(publicKeyBase64))),
+				keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decoder.decode(privateKeyBase64)))
+			);
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			throw new IllegalStateException("ES256 키 로드 실패", e);
+		}
+	}
+
+	private static String requireKid(String kid) {
+		if (kid == null || kid.isEmpty()) {
+			throw new IllegalArgumentException("kid는 필수입니다.");
+		}
+		return kid;
+	}
+
+	JwtKey retiringAt(long retireAt) {
+		return new JwtKey(this, retireAt);
+	}
+
+	public boolean isAsymmetric() {
+		return publicKey != null;
+	}
+
+	public boolean isUsableAt(long nowMillis) {
+		return nowMillis < retireAt;
+	}
+}
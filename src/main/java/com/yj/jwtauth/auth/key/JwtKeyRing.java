@@ -0,0 +1,113 @@
+package com.yj.jwtauth.auth.key;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * kid로 검증 키를 찾는 불변 키 링.
+ * 키 교체 시에는 새 링을 만들어 통째로 바꿔 끼우므로 읽는 쪽은 락 없이 사용 가능
+ */
+public final class JwtKeyRing {
+
+	private final JwtKey activeKey;
+
+	// kid 헤더가 없는 (키 링 도입 이전) 토큰을 검증할 키
+	private final String legacyKid;
+
+	private final Map<String, JwtKey> keys;
+
+	// 빠른 검증 경로에서 헤더로 찾는 HMAC 키 (반복자 할당 없이 순회하도록 배열로 보관)
+	private final JwtKey[] hmacKeys;
+
+	private JwtKeyRing(JwtKey activeKey, String legacyKid, Map<String, JwtKey> keys) {
+		this.activeKey = activeKey;
+		this.legacyKid = legacyKid;
+		this.keys = Collections.unmodifiableMap(keys);
+		this.hmacKeys = keys.values().stream()
+			.filter(key -> key.getHmacKey() != null)
+			.toArray(JwtKey[]::new);
+	}
+
+	public static JwtKeyRing of(JwtKey initialKey) {
+		Map<String, JwtKey> keys = new LinkedHashMap<>();
+		keys.put(initialKey.getKid(), initialKey);
+		return new JwtKeyRing(initialKey, initialKey.getKid(), keys);
+	}
+
+	public JwtKey getActiveKey() {
+		return activeKey;
+	}
+
+	public Collection<JwtKey> getKeys() {
+		return keys.values();
+	}
+
+	// kid에 해당하는 검증 키 조회, 없거나 폐기 시각이 지났으면 null
+	public JwtKey find(String kid, long nowMillis) {
+		JwtKey key = keys.get(kid != null ? kid : legacyKid);
+		if (key == null || !key.isUsableAt(nowMillis)) {
+			return null;
+		}
+		return key;
+	}
+
+	/**
+	 * 토큰의 헤더 세그먼트(0 ~ headerLength)가 일치하는 HMAC 키 조회.
+	 * 이 서비스가 발급한 형태의 헤더가 아니면 null
+	 */
+	public JwtKey findHmacKeyByHeader(String token, int headerLength, long nowMillis) {
+		for (JwtKey key : hmacKeys) {
+			String encodedHeader = key.getEncodedHeader();
+			if (encodedHeader.length() == headerLength
+				&& token.regionMatches(0, encodedHeader, 0, headerLength)
+				&& key.isUsableAt(nowMillis)) {
+				return key;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 새 키를 활성 키로 등록한 링을 반환.
+	 * 기존 활성 키는 overlapMillis 동안 검증용으로만 남고, 폐기 시각이 지난 키는 정리됨
+	 */
+	public JwtKeyRing rotate(JwtKey newKey, long nowMillis, long overlapMillis) {
+		return promote(newKey, nowMillis, nowMillis + overlapMillis);
+	}
+
+	/**
+	 * 새 키를 활성 키로 등록하되 기존 활성 키는 폐기 시각 없이 검증용으로 유지.
+	 * 알고리즘 전환(HS256 → ES256) 중 두 방식의 토큰을 동시에 검증할 때 사용
+	 */
+	public JwtKeyRing promote(JwtKey newKey, long nowMillis) {
+		return promote(newKey, nowMillis, activeKey.getRetireAt());
+	}
+
+	private JwtKeyRing promote(JwtKey newKey, long nowMillis, long previousRetireAt) {
+		if (keys.containsKey(newKey.getKid())) {
+			throw new IllegalArgumentException("이미 등록된 kid입니다: " + newKey.getKid());
+		}
+		Map<String, JwtKey> next = new LinkedHashMap<>();
+		for (JwtKey key : keys.values()) {
+			if (key == activeKey) {
+				next.put(key.getKid(), key.retiringAt(previousRetireAt));
+			} else if (key.isUsableAt(nowMillis)) {
+				next.put(key.getKid(), key);
+			}
+		}
+		next.put(newKey.getKid(), newKey);
+		return new JwtKeyRing(newKey, legacyKid, next);
+	}
+
+	// 활성 키가 아닌 키를 즉시 제거한 링을 반환
+	public JwtKeyRing retire(String kid) {
+		if (activeKey.getKid().equals(kid)) {
+			throw new IllegalArgumentException("활성 키는 폐기할 수 없습니다: " + kid);
+		}
+		Map<String, JwtKey> next = new LinkedHashMap<>(keys);
+		next.remove(kid);
+		return new JwtKeyRing(activeKey, legacyKid, next);
+	}
+}
@@ -0,0 +1,91 @@
+package com.yj.jwtauth.auth.password;
+
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import com.yj.jwtauth.common.metrics.TimedPasswordEncoder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 가져오기 전용 BCrypt 풀.
+ * 로그인/회원가입용 PasswordHashingPool과 분리해서, 가져오기가 그 대기열을 채워 로그인을 503으로 밀어내거나
+ * 대기열이 잠깐 찼다는 이유로 행이 거부되지 않게 함.
+ * 스레드는 코어 수의 절반(user.import.hash-threads), 낮은 우선순위로 실행.
+ * 호출 측은 청크 하나를 넘기고 모두 끝날 때까지 기다리므로 대기 작업 수는 청크 크기 × 동시 가져오기 수를 넘지 않음
+ */
+@Component
+public class ImportPasswordHasher {
+
+	private static final Logger logger = LoggerFactory.getLogger(ImportPasswordHasher.class);
+
+	private final PasswordEncoder passwordEncoder;
+	private final ExecutorService executor;
+
+	public ImportPasswordHasher(
+		@Value("${user.import.hash-threads:0}") int hashThreads,
+		AuthMetrics authMetrics
+	) {
+		int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		this.passwordEncoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(), authMetrics);
+		this.executor = Executors.newFixedThreadPool(threads, new ImportHashingThreadFactory());
+		logger.info("Import BCrypt pool initialized, threads: {}", threads);
+	}
+
+	// 입력 순서대로 해시를 반환, 전부 끝날 때까지 대기
+	public List<String> encodeAll(List<String> rawPasswords) {
+		List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+		for (String rawPassword : rawPasswords) {
+			futures.add(executor.submit(() -> passwordEncoder.encode(rawPassword)));
+		}
+		List<String> hashes = new ArrayList<>(futures.size());
+		try {
+			for (Future<String> future : futures) {
+				hashes.add(future.get());
+			}
+			return hashes;
+		} catch (InterruptedException e) {
+			futures.forEach(future -> future.cancel(true));
+			Thread.currentThread().interrupt();
+			throw CustomRuntimeException.of(ErrorCode.SERVER_BUSY);
+		} catch (ExecutionException e) {
+			futures.forEach(future -> future.cancel(true));
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private static final class ImportHashingThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "import-bcrypt-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setPriority(Thread.MIN_PRIORITY);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.yj.jwtauth.auth.password;
+
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 전용 CPU 풀.
+ * 해시 계산을 요청 스레드(Tomcat 워커 또는 가상 스레드) 밖의 코어 수 크기 풀에서 실행함.
+ * 요청 스레드는 해시가 끝날 때까지 기다리므로, 풀 스레드 + 대기열만큼의 요청 스레드만 BCrypt에 묶이고
+ * 나머지 로그인은 503(SERVER_BUSY)으로 즉시 거부됨.
+ * 그래서 대기열은 Tomcat 워커 수(기본 200)보다 훨씬 작게 둠 (기본: 스레드 수의 2배, 대기 시간도 해시 2~3회 분량)
+ */
+@Component
+public class PasswordHashingPool {
+
+	private static final Logger logger = LoggerFactory.getLogger(PasswordHashingPool.class);
+
+	private static final int DEFAULT_QUEUE_PER_THREAD = 2;
+
+	private final ThreadPoolExecutor executor;
+
+	public PasswordHashingPool(
+		@Value("${bcrypt.pool.size:0}") int poolSize,
+		@Value("${bcrypt.pool.queue-capacity:0}") int queueCapacity,
+		AuthMetrics authMetrics
+	) {
+		int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		int capacity = queueCapacity > 0 ? queueCapacity : threads * DEFAULT_QUEUE_PER_THREAD;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(capacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+		authMetrics.bindPasswordHashingPool(executor);
+		logger.info("BCrypt pool initialized, threads: {}, queue capacity: {}", threads, capacity);
+	}
+
+	public <T> T execute(Supplier<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task::get);
+		} catch (RejectedExecutionException e) {
+			throw CustomRuntimeException.of(ErrorCode.SERVER_BUSY);
+		}
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw CustomRuntimeException.of(ErrorCode.SERVER_BUSY);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private static final class HashingThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "bcrypt-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.yj.jwtauth.auth.password;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// encode/matches를 PasswordHashingPool에서 실행하는 PasswordEncoder 데코레이터
+@RequiredArgsConstructor
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+	private final PasswordHashingPool pool;
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return pool.execute(() -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return pool.execute(() -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+}
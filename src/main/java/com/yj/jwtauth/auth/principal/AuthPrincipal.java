@@ -0,0 +1,36 @@
+package com.yj.jwtauth.auth.principal;
+
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증된 사용자. SecurityContext의 principal로 저장되고 컨트롤러 파라미터로 주입됨.
+ * 권한 목록은 역할마다 한 번만 만들어 모든 요청이 공유함
+ *
+ * @param email getName()으로도 노출 (Authentication.getName()이 이메일을 반환하도록)
+ */
+public record AuthPrincipal(Long id, String email, UserRole role) implements Principal {
+
+	private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
+
+	static {
+		for (UserRole role : UserRole.values()) {
+			AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.getRole())));
+		}
+	}
+
+	public List<GrantedAuthority> authorities() {
+		return AUTHORITIES.get(role);
+	}
+
+	@Override
+	public String getName() {
+		return email;
+	}
+}
@@ -0,0 +1,30 @@
+package com.yj.jwtauth.auth.principal;
+
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// 컨트롤러 메서드의 AuthPrincipal 파라미터에 현재 인증 사용자를 주입
+public class AuthPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.getParameterType() == AuthPrincipal.class;
+	}
+
+	@Override
+	public AuthPrincipal resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+		NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof AuthPrincipal principal) {
+			return principal;
+		}
+		throw CustomRuntimeException.of(ErrorCode.INVALID_TOKEN);
+	}
+}
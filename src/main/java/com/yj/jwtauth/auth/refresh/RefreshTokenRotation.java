@@ -0,0 +1,13 @@
+package com.yj.jwtauth.auth.refresh;
+
+/**
+ * 리프레시 토큰 교체 결과.
+ *
+ * @param userId       토큰 소유자
+ * @param refreshToken 새로 발급된 리프레시 토큰 (이전 토큰은 사용 처리됨)
+ */
+public record RefreshTokenRotation(
+	long userId,
+	String refreshToken
+) {
+}
@@ -0,0 +1,279 @@
+package com.yj.jwtauth.auth.refresh;
+
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1회용 리프레시 토큰 저장소.
+ *
+ * 토큰은 128비트 난수이며, 상위 64비트를 키로 하는 개방 주소법 해시 테이블에
+ * 슬롯마다 고정 레이아웃(키 상/하위, userId, familyId, 만료 시각, 상태)의 원시 타입 배열로 보관함.
+ * 객체를 만들지 않으므로 용량이 정해지면 메모리 사용량이 고정됨.
+ *
+ * - 교체(rotate): 사용한 토큰은 USED로 표시하고 같은 family로 새 토큰 발급
+ * - 재사용 감지: USED 토큰이 다시 오면 탈취로 보고 family 전체를 폐기
+ * - 만료 기반 축출: 테이블이 차면 만료된 슬롯을 정리하고, 그래도 부족하면 가장 먼저 만료될 슬롯부터
+ *   절반(lowWater)까지 제거. 한 번 정리하면 그만큼 삽입할 동안 다시 정리하지 않으므로 전체 스캔 비용이 분산됨
+ *
+ * 연산이 모두 배열 몇 칸을 읽고 쓰는 수준이라 단일 모니터로 보호함
+ */
+@Component
+public class RefreshTokenStore {
+
+	private static final Logger logger = LoggerFactory.getLogger(RefreshTokenStore.class);
+
+	private static final byte EMPTY = 0;
+	private static final byte ACTIVE = 1;
+	private static final byte USED = 2;
+	private static final byte REMOVED = 3;
+
+	private static final int TOKEN_BYTES = 16;
+
+	@Value("${jwt.refresh.expiration.time:20160}")
+	private long expirationMinutes;
+
+	// 슬롯 수는 capacity 이상의 2의 거듭제곱이며, 실제로 보관하는 토큰 수는 그 3/4까지
+	@Value("${jwt.refresh.capacity:65536}")
+	private int capacity;
+
+	private final SecureRandom random = new SecureRandom();
+
+	private long[] keyHi;
+	private long[] keyLo;
+	private long[] userIds;
+	private long[] familyIds;
+	private long[] expiresAt;
+	private byte[] states;
+	private int mask;
+	private int threshold;
+	private int lowWater;
+
+	// ACTIVE + USED 슬롯 수, REMOVED 슬롯 수
+	private int size;
+	private int removed;
+
+	@PostConstruct
+	public void init() {
+		int tableSize = Integer.highestOneBit(Math.max(16, capacity - 1)) << 1;
+		keyHi = new long[tableSize];
+		keyLo = new long[tableSize];
+		userIds = new long[tableSize];
+		familyIds = new long[tableSize];
+		expiresAt = new long[tableSize];
+		states = new byte[tableSize];
+		mask = tableSize - 1;
+		threshold = tableSize / 4 * 3;
+		lowWater = threshold / 2;
+		logger.info("Refresh token store initialized, slots: {}, usable: {}, expiration: {} minutes",
+			tableSize, threshold, expirationMinutes);
+	}
+
+	// 새 family의 첫 리프레시 토큰 발급 (로그인 시)
+	public String issue(long userId, long nowMillis) {
+		byte[] token = newTokenBytes();
+		ByteBuffer buffer = ByteBuffer.wrap(token);
+		long hi = buffer.getLong();
+		long lo = buffer.getLong();
+		synchronized (this) {
+			insert(hi, lo, userId, hi, nowMillis);
+		}
+		return encode(token);
+	}
+
+	/**
+	 * 리프레시 토큰을 사용 처리하고 같은 family의 새 토큰 발급.
+	 * 없거나 만료된 토큰, 이미 사용된 토큰(재사용 → family 전체 폐기)은 INVALID_TOKEN
+	 */
+	public RefreshTokenRotation rotate(String refreshToken, long nowMillis) {
+		byte[] presented = decode(refreshToken);
+		if (presented == null) {
+			throw new CustomRuntimeException(ErrorCode.INVALID_TOKEN);
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(presented);
+		long hi = buffer.getLong();
+		long lo = buffer.getLong();
+
+		byte[] next = newTokenBytes();
+		ByteBuffer nextBuffer = ByteBuffer.wrap(next);
+		long nextHi = nextBuffer.getLong();
+		long nextLo = nextBuffer.getLong();
+
+		long userId;
+		synchronized (this) {
+			int slot = find(hi, lo);
+			if (slot < 0 || expiresAt[slot] <= nowMillis) {
+				throw new CustomRuntimeException(ErrorCode.INVALID_TOKEN);
+			}
+			if (states[slot] == USED) {
+				int revoked = revokeFamily(familyIds[slot]);
+				logger.warn("Refresh token reuse detected, userId: {}, revoked {} tokens", userIds[slot], revoked);
+				throw new CustomRuntimeException(ErrorCode.INVALID_TOKEN);
+			}
+			states[slot] = USED;
+			userId = userIds[slot];
+			insert(nextHi, nextLo, userId, familyIds[slot], nowMillis);
+		}
+		return new RefreshTokenRotation(userId, encode(next));
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	private void insert(long hi, long lo, long userId, long familyId, long nowMillis) {
+		if (size + removed >= threshold) {
+			compact(nowMillis);
+		}
+		int slot = (int)mix(hi) & mask;
+		while (states[slot] == ACTIVE || states[slot] == USED) {
+			slot = (slot + 1) & mask;
+		}
+		if (states[slot] == REMOVED) {
+			removed--;
+		}
+		keyHi[slot] = hi;
+		keyLo[slot] = lo;
+		userIds[slot] = userId;
+		familyIds[slot] = familyId;
+		expiresAt[slot] = nowMillis + TimeUnit.MINUTES.toMillis(expirationMinutes);
+		states[slot] = ACTIVE;
+		size++;
+	}
+
+	private int find(long hi, long lo) {
+		int slot = (int)mix(hi) & mask;
+		while (states[slot] != EMPTY) {
+			if (states[slot] != REMOVED && keyHi[slot] == hi && keyLo[slot] == lo) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	private int revokeFamily(long familyId) {
+		int revoked = 0;
+		for (int slot = 0; slot <= mask; slot++) {
+			if ((states[slot] == ACTIVE || states[slot] == USED) && familyIds[slot] == familyId) {
+				remove(slot);
+				revoked++;
+			}
+		}
+		return revoked;
+	}
+
+	/**
+	 * 만료된 슬롯을 제거하고 테이블을 다시 배치해 REMOVED 슬롯을 비움.
+	 * 그래도 threshold에 이르면 lowWater까지 가장 먼저 만료될 슬롯부터 축출함
+	 * (만료 시각을 정렬해 경계값을 한 번에 구하므로 O(n log n), 이후 threshold - lowWater번의 삽입 동안 다시 실행되지 않음)
+	 */
+	private void compact(long nowMillis) {
+		for (int slot = 0; slot <= mask; slot++) {
+			if ((states[slot] == ACTIVE || states[slot] == USED) && expiresAt[slot] <= nowMillis) {
+				remove(slot);
+			}
+		}
+		if (size >= threshold) {
+			evictEarliest(size - lowWater);
+		}
+		rehash();
+	}
+
+	// 만료 시각이 이른 순으로 count개 제거 (경계값과 같은 만료 시각은 count를 채울 때까지만)
+	private void evictEarliest(int count) {
+		long[] live = new long[size];
+		int n = 0;
+		for (int slot = 0; slot <= mask; slot++) {
+			if (states[slot] == ACTIVE || states[slot] == USED) {
+				live[n++] = expiresAt[slot];
+			}
+		}
+		Arrays.sort(live);
+		long cutoff = live[count - 1];
+		int atCutoff = count - (int)Arrays.stream(live, 0, count).filter(expiry -> expiry < cutoff).count();
+		for (int slot = 0; slot <= mask; slot++) {
+			if ((states[slot] == ACTIVE || states[slot] == USED)
+				&& (expiresAt[slot] < cutoff || (expiresAt[slot] == cutoff && atCutoff-- > 0))) {
+				remove(slot);
+			}
+		}
+	}
+
+	private void remove(int slot) {
+		states[slot] = REMOVED;
+		size--;
+		removed++;
+	}
+
+	// 남은 슬롯을 같은 크기의 새 배열로 옮겨 탐색 체인을 짧게 유지
+	private void rehash() {
+		long[] oldHi = keyHi;
+		long[] oldLo = keyLo;
+		long[] oldUserIds = userIds;
+		long[] oldFamilyIds = familyIds;
+		long[] oldExpiresAt = expiresAt;
+		byte[] oldStates = states;
+		int tableSize = mask + 1;
+		keyHi = new long[tableSize];
+		keyLo = new long[tableSize];
+		userIds = new long[tableSize];
+		familyIds = new long[tableSize];
+		expiresAt = new long[tableSize];
+		states = new byte[tableSize];
+		removed = 0;
+		for (int old = 0; old < tableSize; old++) {
+			if (oldStates[old] == ACTIVE || oldStates[old] == USED) {
+				int slot = (int)mix(oldHi[old]) & mask;
+				while (states[slot] != EMPTY) {
+					slot = (slot + 1) & mask;
+				}
+				keyHi[slot] = oldHi[old];
+				keyLo[slot] = oldLo[old];
+				userIds[slot] = oldUserIds[old];
+				familyIds[slot] = oldFamilyIds[old];
+				expiresAt[slot] = oldExpiresAt[old];
+				states[slot] = oldStates[old];
+			}
+		}
+	}
+
+	private byte[] newTokenBytes() {
+		byte[] token = new byte[TOKEN_BYTES];
+		random.nextBytes(token);
+		return token;
+	}
+
+	// 난수 키지만 하위 비트 편향을 피하기 위해 한 번 섞음
+	private static long mix(long key) {
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		return key;
+	}
+
+	private static String encode(byte[] token) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+	}
+
+	private static byte[] decode(String refreshToken) {
+		if (refreshToken == null || refreshToken.length() != 22) {
+			return null;
+		}
+		try {
+			return Base64.getUrlDecoder().decode(refreshToken);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
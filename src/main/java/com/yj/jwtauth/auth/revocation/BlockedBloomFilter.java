@@ -0,0 +1,67 @@
+package com.yj.jwtauth.auth.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블록형 Bloom 필터.
+ * 한 키의 모든 비트를 64바이트(캐시 라인) 블록 하나에 넣어서 조회가 메모리 접근 한 번으로 끝남.
+ * 삭제는 지원하지 않으므로 항목이 많이 만료되면 새로 만들어 교체함
+ */
+final class BlockedBloomFilter {
+
+	private static final int WORDS_PER_BLOCK = 8; // 8 * 64비트 = 512비트 = 캐시 라인 하나
+	private static final int HASH_COUNT = 7;
+
+	private final AtomicLongArray words;
+	private final int blockCount;
+
+	BlockedBloomFilter(int expectedInsertions) {
+		// 약 1% 오탐률 기준 키당 10비트
+		long bits = Math.max(512L, expectedInsertions * 10L);
+		this.blockCount = (int)Math.min(Integer.MAX_VALUE / WORDS_PER_BLOCK, (bits + 511) / 512);
+		this.words = new AtomicLongArray(blockCount * WORDS_PER_BLOCK);
+	}
+
+	void put(long hash) {
+		int base = blockBase(hash);
+		int probe = (int)(hash >>> 32);
+		for (int i = 0; i < HASH_COUNT; i++) {
+			int bit = (probe + i * (probe >>> 9 | 1)) & 511;
+			int index = base + (bit >>> 6);
+			long mask = 1L << bit;
+			long word;
+			do {
+				word = words.get(index);
+			} while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask));
+		}
+	}
+
+	boolean mightContain(long hash) {
+		int base = blockBase(hash);
+		int probe = (int)(hash >>> 32);
+		for (int i = 0; i < HASH_COUNT; i++) {
+			int bit = (probe + i * (probe >>> 9 | 1)) & 511;
+			if ((words.get(base + (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int blockBase(long hash) {
+		return (int)Math.floorMod(hash, (long)blockCount) * WORDS_PER_BLOCK;
+	}
+
+	// 문자열용 64비트 해시 (FNV-1a 후 비트 섞기)
+	static long hash(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
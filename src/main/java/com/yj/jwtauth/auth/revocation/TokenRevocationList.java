@@ -0,0 +1,173 @@
+package com.yj.jwtauth.auth.revocation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * jti 기반 토큰 폐기 목록.
+ *
+ * - 조회: Bloom 필터에 없으면 바로 false (폐기되지 않은 대부분의 토큰은 캐시 라인 한 번 조회로 끝남),
+ *   있을 때만 정확한 집합(Map)을 확인함
+ * - 정리: 해시 타이밍 휠에 exp 기준으로 등록해 두고, exp가 지나면 집합에서 제거함.
+ *   제거가 쌓이면 Bloom 필터를 남은 항목으로 다시 만들어 교체함
+ *
+ * 폐기 등록과 Bloom 필터 재생성만 락을 사용하고, 조회는 락 없이 동작함
+ */
+@Component
+public class TokenRevocationList {
+
+	private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+
+	private static final int WHEEL_SIZE = 512;
+	private static final long TICK_MILLIS = 1000L;
+
+	@Value("${jwt.revocation.expected-size:100000}")
+	private int expectedSize;
+
+	// jti → exp (epoch millis)
+	private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+	@SuppressWarnings("unchecked")
+	private final Queue<Entry>[] wheel = new Queue[WHEEL_SIZE];
+
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	private final Clock clock;
+
+	private volatile BlockedBloomFilter bloomFilter;
+
+	// 현재 Bloom 필터에 들어 있지만 이미 만료되어 집합에서 빠진 항목 수
+	private int staleInBloom;
+
+	private long lastTick;
+
+	private ScheduledExecutorService ticker;
+
+	public TokenRevocationList(Clock clock) {
+		this.clock = clock;
+	}
+
+	@PostConstruct
+	public void init() {
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel[i] = new ConcurrentLinkedQueue<>();
+		}
+		bloomFilter = new BlockedBloomFilter(expectedSize);
+		lastTick = clock.millis() / TICK_MILLIS;
+		ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "token-revocation-wheel");
+			thread.setDaemon(true);
+			return thread;
+		});
+		ticker.scheduleAtFixedRate(() -> advance(clock.millis()), TICK_MILLIS, TICK_MILLIS,
+			TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		ticker.shutdownNow();
+	}
+
+	public boolean isRevoked(String jti) {
+		if (jti == null) {
+			return false;
+		}
+		return bloomFilter.mightContain(BlockedBloomFilter.hash(jti)) && revoked.containsKey(jti);
+	}
+
+	// 토큰의 exp까지만 보관됨 (그 이후에는 검증 단계에서 어차피 거부됨)
+	public void revoke(String jti, long expiresAtMillis) {
+		if (jti == null || expiresAtMillis <= clock.millis()) {
+			return;
+		}
+		writeLock.lock();
+		try {
+			if (revoked.putIfAbsent(jti, expiresAtMillis) == null) {
+				bloomFilter.put(BlockedBloomFilter.hash(jti));
+				wheel[slotOf(expiresAtMillis)].add(new Entry(jti, expiresAtMillis));
+			}
+		} finally {
+			writeLock.unlock();
+		}
+		logger.debug("Revoked token, jti: {}", jti);
+	}
+
+	public int size() {
+		return revoked.size();
+	}
+
+	// 지난 틱의 슬롯을 비우며 만료 항목 제거 (한 바퀴 이상 밀렸으면 전체 슬롯을 한 번씩만 처리)
+	synchronized void advance(long nowMillis) {
+		long currentTick = nowMillis / TICK_MILLIS;
+		long from = Math.max(lastTick + 1, currentTick - WHEEL_SIZE + 1);
+		int expired = 0;
+		for (long tick = from; tick <= currentTick; tick++) {
+			expired += drain(wheel[(int)(tick & (WHEEL_SIZE - 1))], nowMillis);
+		}
+		lastTick = currentTick;
+		if (expired > 0) {
+			compactBloomFilter(expired);
+		}
+	}
+
+	private int drain(Queue<Entry> slot, long nowMillis) {
+		int expired = 0;
+		int pending = slot.size();
+		// 다음 바퀴 이후에 만료될 항목은 같은 슬롯에 다시 넣음
+		for (int i = 0; i < pending; i++) {
+			Entry entry = slot.poll();
+			if (entry == null) {
+				break;
+			}
+			if (entry.expiresAtMillis() <= nowMillis) {
+				revoked.remove(entry.jti(), entry.expiresAtMillis());
+				expired++;
+			} else {
+				slot.add(entry);
+			}
+		}
+		return expired;
+	}
+
+	// 만료로 빠진 항목이 남은 항목보다 많아지면 Bloom 필터를 다시 만들어 오탐률을 회복
+	private void compactBloomFilter(int expired) {
+		writeLock.lock();
+		try {
+			staleInBloom += expired;
+			if (staleInBloom <= revoked.size()) {
+				return;
+			}
+			BlockedBloomFilter rebuilt = new BlockedBloomFilter(Math.max(expectedSize, revoked.size() * 2));
+			for (String jti : revoked.keySet()) {
+				rebuilt.put(BlockedBloomFilter.hash(jti));
+			}
+			bloomFilter = rebuilt;
+			staleInBloom = 0;
+			logger.debug("Rebuilt revocation bloom filter with {} entries", revoked.size());
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	private static int slotOf(long expiresAtMillis) {
+		// 올림 틱에 배치해 exp 이후에 처리되도록 함
+		return (int)(((expiresAtMillis + TICK_MILLIS - 1) / TICK_MILLIS) & (WHEEL_SIZE - 1));
+	}
+
+	private record Entry(String jti, long expiresAtMillis) {
+	}
+}
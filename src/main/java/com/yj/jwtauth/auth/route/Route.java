@@ -0,0 +1,40 @@
+package com.yj.jwtauth.auth.route;
+
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * 경로 분류 결과. 역할 제한 경로는 허용 권한 문자열(ROLE_*)을 미리 계산해 둠
+ */
+public record Route(RouteAccess access, String[] authorities) {
+
+	static final Route PUBLIC = new Route(RouteAccess.PUBLIC, new String[0]);
+	static final Route AUTHENTICATED = new Route(RouteAccess.AUTHENTICATED, new String[0]);
+
+	static Route restrictedTo(UserRole... roles) {
+		String[] authorities = new String[roles.length];
+		for (int i = 0; i < roles.length; i++) {
+			authorities[i] = roles[i].getRole();
+		}
+		return new Route(RouteAccess.ROLE_RESTRICTED, authorities);
+	}
+
+	public boolean isPublic() {
+		return access == RouteAccess.PUBLIC;
+	}
+
+	// 권한 목록에 허용 역할이 하나라도 있는지
+	public boolean isGrantedTo(Collection<? extends GrantedAuthority> granted) {
+		for (GrantedAuthority authority : granted) {
+			String name = authority.getAuthority();
+			for (String allowed : authorities) {
+				if (allowed.equals(name)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,10 @@
+package com.yj.jwtauth.auth.route;
+
+public enum RouteAccess {
+	// 토큰 없이 접근 가능
+	PUBLIC,
+	// 유효한 토큰이면 접근 가능
+	AUTHENTICATED,
+	// 지정된 역할 중 하나가 필요
+	ROLE_RESTRICTED
+}
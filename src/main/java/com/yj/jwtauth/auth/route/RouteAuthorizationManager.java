@@ -0,0 +1,40 @@
+package com.yj.jwtauth.auth.route;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+// RouteRegistry 분류 결과로 인가 (경로 패턴별 매처 체인 대신 한 번의 조회)
+@Component
+@RequiredArgsConstructor
+public class RouteAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+	private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+	private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+	private final RouteRegistry routeRegistry;
+	private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+	@Override
+	public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+		Route route = routeRegistry.classify(context.getRequest());
+		if (route.isPublic()) {
+			return GRANTED;
+		}
+		Authentication current = authentication.get();
+		if (current == null || !current.isAuthenticated() || trustResolver.isAnonymous(current)) {
+			return DENIED;
+		}
+		if (route.access() == RouteAccess.AUTHENTICATED) {
+			return GRANTED;
+		}
+		return route.isGrantedTo(current.getAuthorities()) ? GRANTED : DENIED;
+	}
+}
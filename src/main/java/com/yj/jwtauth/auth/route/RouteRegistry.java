@@ -0,0 +1,104 @@
+package com.yj.jwtauth.auth.route;
+
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공개/인증/역할 제한 경로 정의를 한 곳에서 관리.
+ * JwtAuthenticationFilter(토큰 검사 생략 여부)와 SecurityConfig(인가)가 같은 표를 사용함.
+ *
+ * 기동 시 정확히 일치하는 경로는 해시 맵으로, "/**" 경로는 긴 접두사 우선 배열로 컴파일해
+ * 요청마다 패턴 매처 없이 한 번의 조회로 분류함. 정의되지 않은 경로는 AUTHENTICATED
+ */
+@Component
+public class RouteRegistry {
+
+	private final Map<String, Route> exactRoutes = new HashMap<>();
+	private final String[] prefixes;
+	private final Route[] prefixRoutes;
+
+	public RouteRegistry() {
+		Map<String, Route> prefixRules = new HashMap<>();
+
+		// 공개 경로
+		exact(Route.PUBLIC,
+			"/api/users/signup",
+			"/api/admins/signup",
+			"/api/signin",
+			"/api/token/refresh",
+			"/swagger-ui.html",
+			"/v3/api-docs.yaml",
+			"/error",
+			"/.well-known/jwks.json",
+			"/actuator/health");
+		prefix(prefixRules, Route.PUBLIC,
+			"/swagger-ui",
+			"/v3/api-docs",
+			"/swagger-resources",
+			"/webjars",
+			"/configuration");
+
+		// 역할 제한 경로 (정확히 일치하는 공개 경로가 우선, 예: /api/admins/signup)
+		exact(Route.restrictedTo(UserRole.USER, UserRole.ADMIN), "/api/my-informations");
+		prefix(prefixRules, Route.restrictedTo(UserRole.ADMIN),
+			"/api/admins",
+			"/api/tokens",
+			"/actuator");
+
+		List<String> sorted = new ArrayList<>(prefixRules.keySet());
+		sorted.sort(Comparator.comparingInt(String::length).reversed());
+		this.prefixes = sorted.toArray(new String[0]);
+		this.prefixRoutes = new Route[prefixes.length];
+		for (int i = 0; i < prefixes.length; i++) {
+			prefixRoutes[i] = prefixRules.get(prefixes[i]);
+		}
+	}
+
+	public Route classify(String path) {
+		Route route = exactRoutes.get(path);
+		if (route != null) {
+			return route;
+		}
+		// "/prefix/**"와 같은 의미: "/prefix" 자체 또는 "/prefix/..."
+		for (int i = 0; i < prefixes.length; i++) {
+			String prefix = prefixes[i];
+			if (path.startsWith(prefix)
+				&& (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+				return prefixRoutes[i];
+			}
+		}
+		return Route.AUTHENTICATED;
+	}
+
+	public Route classify(HttpServletRequest request) {
+		return classify(pathWithinApplication(request));
+	}
+
+	/**
+	 * 컨텍스트 경로를 뺀 요청 경로 (디코딩, ";" 파라미터 제거, "//" 정리까지 마친 값).
+	 * 핸들러 매핑은 디코딩된 경로로 찾으므로, 원본 URI로 분류하면 /api/admin%73/... 같은 인코딩 경로가 역할 제한을 피해 감
+	 */
+	public static String pathWithinApplication(HttpServletRequest request) {
+		return UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+	}
+
+	private void exact(Route route, String... paths) {
+		for (String path : paths) {
+			exactRoutes.put(path, route);
+		}
+	}
+
+	private static void prefix(Map<String, Route> prefixRules, Route route, String... paths) {
+		for (String path : paths) {
+			prefixRules.put(path, route);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.yj.jwtauth.auth.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yj.jwtauth.common.entity.User;
+import com.yj.jwtauth.common.exception.SigninThrottledException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 제한 (계정별, 클라이언트 IP별 토큰 버킷).
+ * 저장소 조회와 BCrypt 전에 확인해서 무차별 대입이 CPU를 쓰지 못하게 함.
+ *
+ * 버킷은 키 수가 제한된 Caffeine 캐시에 보관하고, 가득 찰 때까지 걸리는 시간 동안 접근이 없으면 제거함.
+ * 그 시점엔 버킷이 이미 가득 차 있으므로 제거해도 제한이 풀리지 않고,
+ * 서로 다른 키 수백만 개로 뿌리는 공격에도 메모리는 max-keys 이상 늘지 않음
+ */
+@Component
+public class SigninThrottle {
+
+	private static final Logger logger = LoggerFactory.getLogger(SigninThrottle.class);
+
+	private final Clock clock;
+	private final Limit accountLimit;
+	private final Limit ipLimit;
+	private final Cache<String, TokenBucket> accountBuckets;
+	private final Cache<String, TokenBucket> ipBuckets;
+
+	public SigninThrottle(
+		Clock clock,
+		@Value("${signin.throttle.account.capacity:5}") int accountCapacity,
+		@Value("${signin.throttle.account.refill-per-minute:5}") int accountRefillPerMinute,
+		@Value("${signin.throttle.ip.capacity:50}") int ipCapacity,
+		@Value("${signin.throttle.ip.refill-per-minute:60}") int ipRefillPerMinute,
+		@Value("${signin.throttle.max-keys:100000}") long maxKeys
+	) {
+		this.clock = clock;
+		this.accountLimit = Limit.perMinute(accountCapacity, accountRefillPerMinute);
+		this.ipLimit = Limit.perMinute(ipCapacity, ipRefillPerMinute);
+		this.accountBuckets = buckets(accountLimit, maxKeys);
+		this.ipBuckets = buckets(ipLimit, maxKeys);
+		logger.info("Signin throttle initialized, account: {}/{}per min, ip: {}/{}per min, max keys: {}",
+			accountCapacity, accountRefillPerMinute, ipCapacity, ipRefillPerMinute, maxKeys);
+	}
+
+	// 허용되면 그대로 반환, 제한되면 SigninThrottledException (IP를 먼저 확인해 분산 공격을 빨리 거름)
+	public void acquire(String email, String clientIp) {
+		long now = clock.millis();
+		check(ipBuckets, ipLimit, clientIp, now);
+		check(accountBuckets, accountLimit, User.normalizeEmail(email), now);
+	}
+
+	private static void check(Cache<String, TokenBucket> buckets, Limit limit, String key, long now) {
+		if (key == null) {
+			return;
+		}
+		long waitMillis = buckets.get(key, k -> limit.newBucket()).tryAcquire(now);
+		if (waitMillis > 0) {
+			throw new SigninThrottledException(Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(waitMillis + 999)));
+		}
+	}
+
+	private static Cache<String, TokenBucket> buckets(Limit limit, long maxKeys) {
+		return Caffeine.newBuilder()
+			.maximumSize(maxKeys)
+			.expireAfterAccess(limit.fullRefillMillis(), TimeUnit.MILLISECONDS)
+			.build();
+	}
+
+	private record Limit(int capacity, long intervalMillis) {
+
+		static Limit perMinute(int capacity, int refillPerMinute) {
+			return new Limit(capacity, TimeUnit.MINUTES.toMillis(1) / Math.max(1, refillPerMinute));
+		}
+
+		TokenBucket newBucket() {
+			return new TokenBucket(capacity, intervalMillis);
+		}
+
+		long fullRefillMillis() {
+			return capacity * intervalMillis;
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.yj.jwtauth.auth.throttle;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷.
+ * 남은 토큰 수와 마지막 충전 시각 대신 "버킷이 다시 가득 차는 시각(tat)" 하나만 보관하는 GCRA 형태라
+ * 상태가 long 하나이고 CAS 한 번으로 획득/충전이 끝남.
+ * 토큰 하나를 쓰면 tat가 interval만큼 늘어나고, tat가 now + capacity * interval을 넘으면 거부
+ */
+final class TokenBucket {
+
+	private final long intervalMillis;
+	private final long burstMillis;
+	private final AtomicLong theoreticalArrivalTime = new AtomicLong();
+
+	TokenBucket(int capacity, long intervalMillis) {
+		this.intervalMillis = intervalMillis;
+		this.burstMillis = capacity * intervalMillis;
+	}
+
+	// 토큰을 얻으면 0, 아니면 다음 토큰까지 남은 시간(ms)
+	long tryAcquire(long nowMillis) {
+		while (true) {
+			long tat = theoreticalArrivalTime.get();
+			long next = Math.max(tat, nowMillis) + intervalMillis;
+			long wait = next - nowMillis - burstMillis;
+			if (wait > 0) {
+				return wait;
+			}
+			if (theoreticalArrivalTime.compareAndSet(tat, next)) {
+				return 0L;
+			}
+		}
+	}
+}
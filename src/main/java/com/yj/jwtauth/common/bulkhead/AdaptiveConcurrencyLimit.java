@@ -0,0 +1,62 @@
+package com.yj.jwtauth.common.bulkhead;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIMD 방식의 동시 실행 한도.
+ * 응답이 지연 기준 안에 끝나고 한도의 절반 이상을 쓰고 있으면 한도를 1 늘리고,
+ * 기준을 넘기거나 실패하면 0.9배로 줄임. 한도를 넘는 요청은 대기 없이 바로 거부
+ */
+public class AdaptiveConcurrencyLimit {
+
+	private static final double BACKOFF_RATIO = 0.9;
+
+	private final int maxLimit;
+	private final long latencyThresholdNanos;
+	private final AtomicInteger limit;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final LongAdder rejected = new LongAdder();
+
+	public AdaptiveConcurrencyLimit(int initialLimit, int maxLimit, long latencyThresholdMillis) {
+		this.maxLimit = Math.max(1, maxLimit);
+		this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+		this.limit = new AtomicInteger(Math.min(this.maxLimit, Math.max(1, initialLimit)));
+	}
+
+	public boolean tryAcquire() {
+		while (true) {
+			int current = inFlight.get();
+			if (current >= limit.get()) {
+				rejected.increment();
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	public void release(long latencyNanos, boolean failed) {
+		int current = inFlight.getAndDecrement();
+		if (failed || latencyNanos > latencyThresholdNanos) {
+			limit.updateAndGet(l -> Math.max(1, (int) (l * BACKOFF_RATIO)));
+		} else if (current * 2 >= limit.get()) {
+			// 한도를 충분히 쓰고 있을 때만 늘림 (한가할 때 한도가 끝없이 커지지 않도록)
+			limit.updateAndGet(l -> Math.min(maxLimit, l + 1));
+		}
+	}
+
+	public int getLimit() {
+		return limit.get();
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public long getRejectedCount() {
+		return rejected.sum();
+	}
+}
@@ -0,0 +1,97 @@
+package com.yj.jwtauth.common.bulkhead;
+
+import com.yj.jwtauth.auth.route.RouteRegistry;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.common.exception.error.ErrorResponseWriter;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트 분류별 벌크헤드.
+ * 로그인 폭주나 느린 DB가 한 분류의 한도만 채우게 해서 Tomcat 워커와 커넥션 풀을 다른 분류(특히 토큰만 쓰는 요청)에 남겨 둠.
+ * 시큐리티 필터 체인 다음에 실행되므로 401/403으로 끝나는 요청은 한도를 쓰지 않음
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class BulkheadFilter implements Filter {
+
+	private static final Logger logger = LoggerFactory.getLogger(BulkheadFilter.class);
+
+	private final ErrorResponseWriter errorResponseWriter;
+	private final Map<EndpointClass, AdaptiveConcurrencyLimit> limits = new EnumMap<>(EndpointClass.class);
+
+	public BulkheadFilter(
+		@Value("${bulkhead.enabled:true}") boolean enabled,
+		@Value("${bulkhead.credentials.max-limit:64}") int credentialsMaxLimit,
+		@Value("${bulkhead.credentials.latency-threshold-ms:500}") long credentialsLatencyThreshold,
+		@Value("${bulkhead.db-read.max-limit:100}") int dbReadMaxLimit,
+		@Value("${bulkhead.db-read.latency-threshold-ms:100}") long dbReadLatencyThreshold,
+		@Value("${bulkhead.admin-write.max-limit:20}") int adminWriteMaxLimit,
+		@Value("${bulkhead.admin-write.latency-threshold-ms:250}") long adminWriteLatencyThreshold,
+		ErrorResponseWriter errorResponseWriter,
+		AuthMetrics authMetrics
+	) {
+		this.errorResponseWriter = errorResponseWriter;
+		if (!enabled) {
+			logger.info("Bulkheads disabled");
+			return;
+		}
+		register(EndpointClass.CREDENTIALS, credentialsMaxLimit, credentialsLatencyThreshold, authMetrics);
+		register(EndpointClass.DB_READ, dbReadMaxLimit, dbReadLatencyThreshold, authMetrics);
+		register(EndpointClass.ADMIN_WRITE, adminWriteMaxLimit, adminWriteLatencyThreshold, authMetrics);
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+		throws IOException, ServletException {
+		HttpServletRequest httpRequest = (HttpServletRequest) request;
+		HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+		EndpointClass endpointClass = EndpointClass.of(httpRequest.getMethod(), RouteRegistry.pathWithinApplication(httpRequest));
+		AdaptiveConcurrencyLimit limit = endpointClass == null ? null : limits.get(endpointClass);
+		if (limit == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+
+		if (!limit.tryAcquire()) {
+			logger.debug("Bulkhead {} full, limit: {}", endpointClass, limit.getLimit());
+			errorResponseWriter.write(httpResponse, ErrorCode.SERVER_BUSY);
+			return;
+		}
+
+		long start = System.nanoTime();
+		boolean failed = true;
+		try {
+			chain.doFilter(request, response);
+			failed = httpResponse.getStatus() >= 500;
+		} finally {
+			limit.release(System.nanoTime() - start, failed);
+		}
+	}
+
+	// 초기 한도는 최대치의 1/4, 이후 지연 시간을 보며 조정
+	private void register(EndpointClass endpointClass, int maxLimit, long latencyThresholdMillis, AuthMetrics authMetrics) {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(maxLimit / 4, maxLimit, latencyThresholdMillis);
+		limits.put(endpointClass, limit);
+		authMetrics.bindConcurrencyLimit(endpointClass.tag(), limit);
+		logger.info("Bulkhead {} initialized, max limit: {}, latency threshold: {}ms",
+			endpointClass, maxLimit, latencyThresholdMillis);
+	}
+}
@@ -0,0 +1,55 @@
+package com.yj.jwtauth.common.bulkhead;
+
+import org.springframework.http.HttpMethod;
+
+import java.util.Set;
+
+/**
+ * 자원 사용 특성별 엔드포인트 분류 (분류마다 동시 실행 한도를 따로 둠).
+ * 토큰만 다루는 요청(/api/token/**, /api/tokens/**)은 어디에도 속하지 않아 제한받지 않음.
+ * 대량 가져오기/내보내기는 몇 분씩 걸려 지연 기준으로 한도를 조정할 수 없으므로 제외 (서비스에서 동시 실행 수 제한)
+ */
+public enum EndpointClass {
+
+	// 로그인/회원가입, BCrypt 위주
+	CREDENTIALS("credentials"),
+
+	// 내 정보 조회, 관리자 조회, DB 읽기 위주
+	DB_READ("db-read"),
+
+	// 관리자 변경 작업, DB 쓰기 위주
+	ADMIN_WRITE("admin-write");
+
+	private static final Set<String> CREDENTIAL_PATHS = Set.of("/api/signin", "/api/users/signup", "/api/admins/signup");
+
+	private static final String ADMIN_PREFIX = "/api/admins/";
+
+	private static final Set<String> LONG_RUNNING_PATHS = Set.of("/api/admins/users/import", "/api/admins/users/export");
+
+	private final String tag;
+
+	EndpointClass(String tag) {
+		this.tag = tag;
+	}
+
+	public String tag() {
+		return tag;
+	}
+
+	// 제한 대상이 아니면 null
+	public static EndpointClass of(String method, String path) {
+		if (CREDENTIAL_PATHS.contains(path)) {
+			return HttpMethod.POST.matches(method) ? CREDENTIALS : null;
+		}
+		if (LONG_RUNNING_PATHS.contains(path)) {
+			return null;
+		}
+		if (path.startsWith(ADMIN_PREFIX)) {
+			return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) ? DB_READ : ADMIN_WRITE;
+		}
+		if (path.equals("/api/my-informations")) {
+			return DB_READ;
+		}
+		return null;
+	}
+}
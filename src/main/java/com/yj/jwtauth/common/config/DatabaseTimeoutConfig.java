@@ -0,0 +1,50 @@
+package com.yj.jwtauth.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+
+/**
+ * DB 호출 타임아웃 기본값.
+ * 느린 DB가 요청 스레드를 붙잡고 있지 않도록 트랜잭션과 커넥션 대기에 상한을 둠.
+ * spring.transaction.default-timeout, spring.datasource.hikari.connection-timeout을 설정하면 그 값을 따름
+ */
+@Configuration
+public class DatabaseTimeoutConfig {
+
+	private static final String TRANSACTION_TIMEOUT = "spring.transaction.default-timeout";
+	private static final String CONNECTION_TIMEOUT = "spring.datasource.hikari.connection-timeout";
+
+	private static final int DEFAULT_TRANSACTION_TIMEOUT_SECONDS = 2;
+	private static final long DEFAULT_CONNECTION_TIMEOUT_MILLIS = 1000L;
+
+	// Hibernate가 트랜잭션의 남은 시간을 각 SQL의 query timeout으로 적용
+	@Bean
+	public TransactionManagerCustomizer<AbstractPlatformTransactionManager> transactionTimeoutCustomizer(
+		Environment environment
+	) {
+		return transactionManager -> {
+			if (!environment.containsProperty(TRANSACTION_TIMEOUT)) {
+				transactionManager.setDefaultTimeout(DEFAULT_TRANSACTION_TIMEOUT_SECONDS);
+			}
+		};
+	}
+
+	// 커넥션 풀 대기 시간 (Hikari 기본값 30초)
+	@Bean
+	public static BeanPostProcessor connectionTimeoutPostProcessor(Environment environment) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(CONNECTION_TIMEOUT)) {
+					dataSource.setConnectionTimeout(DEFAULT_CONNECTION_TIMEOUT_MILLIS);
+				}
+				return bean;
+			}
+		};
+	}
+}
@@ -0,0 +1,27 @@
+package com.yj.jwtauth.common.config;
+
+import com.yj.jwtauth.common.entity.User;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 기본값.
+ * 한 트랜잭션에서 여러 행을 INSERT 하면 batch_size 단위로 묶어 왕복 한 번에 보냄 (대량 가져오기).
+ * spring.jpa.properties.hibernate.jdbc.batch_size 등을 설정하면 그 값을 따름
+ */
+@Configuration
+public class JpaBatchConfig {
+
+	// User.id 시퀀스가 한 번에 확보하는 개수와 같게 두어 배치마다 시퀀스 호출이 최대 한 번
+	private static final int DEFAULT_BATCH_SIZE = User.ID_ALLOCATION_SIZE;
+
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+		return properties -> {
+			properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+			properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+		};
+	}
+}
@@ -1,5 +1,7 @@
 package com.yj.jwtauth.common.entity;
 
+import java.util.Locale;
+
 import org.hibernate.annotations.Comment;
 
 import com.yj.jwtauth.domain.user.enums.UserRole;
@@ -11,21 +13,57 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "USERS")
+@Table(
+	name = "USERS",
+	uniqueConstraints = @UniqueConstraint(name = User.EMAIL_NORMALIZED_UNIQUE, columnNames = "email_normalized"),
+	indexes = {
+		// 관리자 목록의 역할 필터 + id 키셋 (이메일 접두사 필터는 email_normalized 유니크 인덱스 사용)
+		@Index(name = "idx_users_role_id", columnList = "user_role, id"),
+		// 증분 내보내기 (updated_at 이후 변경분을 updated_at, id 순으로)
+		@Index(name = "idx_users_updated_at_id", columnList = "updated_at, id")
+	}
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
 
+	public static final String EMAIL_NORMALIZED_UNIQUE = "uk_users_email_normalized";
+
+	/**
+	 * 무결성 위반이 email_normalized 유니크 제약 때문인지 (NOT NULL, 길이 위반 등은 false).
+	 * 드라이버마다 제약 이름의 대소문자가 달라(H2는 대문자) 원인 메시지에서 대소문자 없이 찾음
+	 */
+	public static boolean isEmailNormalizedConflict(Throwable e) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+			String message = cause.getMessage();
+			if (message != null && message.toLowerCase(Locale.ROOT).contains(EMAIL_NORMALIZED_UNIQUE)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 시퀀스 한 번에 확보하는 id 개수 (pooled 옵티마이저), JDBC 배치 크기 기본값과 같음
+	public static final int ID_ALLOCATION_SIZE = 50;
+
+	/**
+	 * IDENTITY는 INSERT를 실행해야 id를 알 수 있어 Hibernate가 INSERT 배치를 끔.
+	 * 시퀀스에서 id를 미리 확보해 대량 가져오기의 INSERT를 JDBC 배치로 묶음
+	 */
 	@Comment("유저 식별자")
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+	@SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = ID_ALLOCATION_SIZE)
 	private Long id;
 
 	@Comment("유저명")
@@ -42,6 +80,14 @@ public class User extends BaseEntity {
 	)
 	private String email;
 
+	@Comment("정규화한 이메일 (앞뒤 공백 제거, 소문자), 가입 중복 확인과 로그인 조회용")
+	@Column(
+		name = "email_normalized",
+		nullable = false,
+		updatable = false
+	)
+	private String emailNormalized;
+
 	@Comment("비밀번호")
 	@Column(
 		name = "password",
@@ -66,11 +112,17 @@ public class User extends BaseEntity {
 	public User(String username, String email, String password) {
 		this.username = username;
 		this.email = email;
+		this.emailNormalized = normalizeEmail(email);
 		this.password = password;
 		this.role = UserRole.USER; // 기본 생성 시 USER 역할 부여
 		this.isDeleted = false; // 기본 생성 시 회원 상태 존재로 설정
 	}
 
+	// 대소문자/앞뒤 공백만 다른 이메일은 같은 계정으로 취급
+	public static String normalizeEmail(String email) {
+		return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+	}
+
 	// 역할(Role) 변경
 	public void updateRole(UserRole role) {
 		this.role = role;
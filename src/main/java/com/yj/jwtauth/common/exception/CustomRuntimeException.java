@@ -3,13 +3,33 @@ package com.yj.jwtauth.common.exception;
 import com.yj.jwtauth.common.exception.error.ErrorCode;
 import lombok.Getter;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorCode로 응답이 정해지는 예상된 실패.
+ * 스택 트레이스는 응답에도 로그에도 쓰이지 않으므로 수집하지 않음
+ */
 @Getter
 public class CustomRuntimeException extends RuntimeException {
 
+	// 상태가 없는 예외라서 ErrorCode별로 공유 가능 (토큰 검증 실패처럼 자주 던지는 경우용)
+	private static final Map<ErrorCode, CustomRuntimeException> SHARED = new EnumMap<>(ErrorCode.class);
+
+	static {
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			SHARED.put(errorCode, new CustomRuntimeException(errorCode));
+		}
+	}
+
 	private final ErrorCode errorCode;
 
 	public CustomRuntimeException(ErrorCode errorCode) {
-		super(errorCode.getMessage()); // 부모 클래스에 메시지 전달
+		super(errorCode.getMessage(), null, false, false); // 부모 클래스에 메시지 전달
 		this.errorCode = errorCode;
 	}
-}
\ No newline at end of file
+
+	public static CustomRuntimeException of(ErrorCode errorCode) {
+		return SHARED.get(errorCode);
+	}
+}
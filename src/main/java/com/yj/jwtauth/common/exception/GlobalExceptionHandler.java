@@ -2,23 +2,40 @@ package com.yj.jwtauth.common.exception;
 
 import com.yj.jwtauth.common.exception.error.ErrorCode;
 import com.yj.jwtauth.common.exception.error.ErrorResponseDto;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+	private final AuthMetrics authMetrics;
+
 	@ExceptionHandler(CustomRuntimeException.class)
 	protected ResponseEntity<ErrorResponseDto> handleCustomException(CustomRuntimeException e) {
+		authMetrics.countError(e.getErrorCode());
+		return ResponseEntity
+			.status(e.getErrorCode().getStatus())
+			.body(new ErrorResponseDto(e.getErrorCode()));
+	}
+
+	@ExceptionHandler(SigninThrottledException.class)
+	protected ResponseEntity<ErrorResponseDto> handleSigninThrottledException(SigninThrottledException e) {
+		authMetrics.countError(e.getErrorCode());
 		return ResponseEntity
 			.status(e.getErrorCode().getStatus())
+			.header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
 			.body(new ErrorResponseDto(e.getErrorCode()));
 	}
 
 	@ExceptionHandler(AccessDeniedException.class)
 	protected ResponseEntity<ErrorResponseDto> handleAccessDeniedException(AccessDeniedException e) {
+		authMetrics.countError(ErrorCode.ACCESS_DENIED);
 		return ResponseEntity
 			.status(ErrorCode.ACCESS_DENIED.getStatus())
 			.body(new ErrorResponseDto(ErrorCode.ACCESS_DENIED));
@@ -0,0 +1,16 @@
+package com.yj.jwtauth.common.exception;
+
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import lombok.Getter;
+
+// 로그인 시도 제한, 다시 시도할 수 있을 때까지의 시간을 Retry-After로 내려줌
+@Getter
+public class SigninThrottledException extends CustomRuntimeException {
+
+	private final long retryAfterSeconds;
+
+	public SigninThrottledException(long retryAfterSeconds) {
+		super(ErrorCode.TOO_MANY_SIGNIN_ATTEMPTS);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+}
@@ -18,7 +18,19 @@ public enum ErrorCode {
 	ACCESS_DENIED(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
 
 	// 유효하지 않은 토큰, 토큰 만료
-	INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 인증 토큰입니다.");
+	INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 인증 토큰입니다."),
+
+	// 처리 대기열 포화 (BCrypt 풀 등)
+	SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+
+	// 로그인 시도 제한 (계정 또는 IP별)
+	TOO_MANY_SIGNIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+
+	// 대량 가져오기 - 필수 값 누락, 형식 오류 (행 단위 결과에 사용)
+	INVALID_IMPORT_ROW(HttpStatus.BAD_REQUEST, "가져올 수 없는 행입니다."),
+
+	// 변경 피드 - 형식이 잘못된 커서
+	INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
 
 	private final HttpStatus status;
 	private final String message;
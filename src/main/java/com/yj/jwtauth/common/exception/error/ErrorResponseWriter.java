@@ -0,0 +1,46 @@
+package com.yj.jwtauth.common.exception.error;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 필터/시큐리티 핸들러의 오류 응답 작성.
+ * ErrorCode마다 ErrorResponseDto JSON을 기동 시 UTF-8 바이트로 한 번만 직렬화해 두고
+ * 요청마다 그대로 출력함 (401 폭주 시에도 Jackson 직렬화 없음)
+ */
+@Component
+public class ErrorResponseWriter {
+
+	private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + "; charset=UTF-8";
+
+	private final AuthMetrics authMetrics;
+	private final Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+
+	public ErrorResponseWriter(ObjectMapper objectMapper, AuthMetrics authMetrics) {
+		this.authMetrics = authMetrics;
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			try {
+				bodies.put(errorCode, objectMapper.writeValueAsBytes(new ErrorResponseDto(errorCode)));
+			} catch (JsonProcessingException e) {
+				throw new IllegalStateException("오류 응답 직렬화 실패: " + errorCode, e);
+			}
+		}
+	}
+
+	public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+		authMetrics.countError(errorCode);
+		byte[] body = bodies.get(errorCode);
+		response.setStatus(errorCode.getStatus().value());
+		response.setContentType(CONTENT_TYPE);
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+}
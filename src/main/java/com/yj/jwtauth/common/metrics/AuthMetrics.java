@@ -0,0 +1,113 @@
+package com.yj.jwtauth.common.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.yj.jwtauth.common.bulkhead.AdaptiveConcurrencyLimit;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 인증 경로 계측용 미터 모음.
+ * 모든 미터는 기동 시 한 번만 등록하고, 호출 측은 등록된 Timer/Counter를 그대로 사용함
+ * (요청마다 태그 목록을 만들어 레지스트리를 조회하지 않음)
+ */
+@Component
+public class AuthMetrics {
+
+	private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+	private final MeterRegistry registry;
+
+	@Getter
+	private final Timer tokenSignTimer;
+
+	// 빠른 경로(FastJwtVerifier)와 auth0 검증 경로를 구분
+	@Getter
+	private final Timer tokenVerifyFastTimer;
+
+	@Getter
+	private final Timer tokenVerifyFullTimer;
+
+	@Getter
+	private final Timer passwordEncodeTimer;
+
+	@Getter
+	private final Timer passwordMatchesTimer;
+
+	private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+
+	public AuthMetrics(MeterRegistry registry) {
+		this.registry = registry;
+		this.tokenSignTimer = timer("auth.token.sign", "JWT 서명 시간");
+		this.tokenVerifyFastTimer = timer("auth.token.verify", "JWT 검증 시간", "path", "fast");
+		this.tokenVerifyFullTimer = timer("auth.token.verify", "JWT 검증 시간", "path", "full");
+		this.passwordEncodeTimer = timer("auth.password.encode", "비밀번호 해시 시간");
+		this.passwordMatchesTimer = timer("auth.password.matches", "비밀번호 비교 시간");
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			errorCounters.put(errorCode, Counter.builder("auth.errors")
+				.description("ErrorCode별 오류 응답 수")
+				.tag("code", errorCode.name())
+				.tag("status", String.valueOf(errorCode.getStatus().value()))
+				.register(registry));
+		}
+	}
+
+	// 리포지토리 메서드별 타이머 (기동 시 프록시 생성 단계에서만 호출)
+	public Timer repositoryTimer(String repository, String method) {
+		return timer("auth.repository", "리포지토리 호출 시간", "repository", repository, "method", method);
+	}
+
+	// BCrypt 풀 대기열 깊이/실행 중 작업 수
+	public void bindPasswordHashingPool(ThreadPoolExecutor executor) {
+		Gauge.builder("auth.password.pool.queued", executor, pool -> pool.getQueue().size())
+			.description("BCrypt 풀 대기 작업 수")
+			.register(registry);
+		Gauge.builder("auth.password.pool.active", executor, ThreadPoolExecutor::getActiveCount)
+			.description("BCrypt 풀 실행 중 작업 수")
+			.register(registry);
+	}
+
+	// 엔드포인트 분류별 동시 실행 한도/실행 중 요청 수/거부 수
+	public void bindConcurrencyLimit(String endpointClass, AdaptiveConcurrencyLimit limit) {
+		Gauge.builder("auth.bulkhead.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+			.description("동시 실행 한도")
+			.tag("class", endpointClass)
+			.register(registry);
+		Gauge.builder("auth.bulkhead.in_flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+			.description("실행 중 요청 수")
+			.tag("class", endpointClass)
+			.register(registry);
+		FunctionCounter.builder("auth.bulkhead.rejected", limit, AdaptiveConcurrencyLimit::getRejectedCount)
+			.description("한도 초과로 거부한 요청 수")
+			.tag("class", endpointClass)
+			.register(registry);
+	}
+
+	// Caffeine 캐시 적중/미스/축출 (recordStats()로 만든 캐시만 의미 있음)
+	public void bindCache(String name, Cache<?, ?> cache) {
+		CaffeineCacheMetrics.monitor(registry, cache, name);
+	}
+
+	public void countError(ErrorCode errorCode) {
+		errorCounters.get(errorCode).increment();
+	}
+
+	private Timer timer(String name, String description, String... tags) {
+		return Timer.builder(name)
+			.description(description)
+			.tags(tags)
+			.publishPercentiles(PERCENTILES)
+			.publishPercentileHistogram()
+			.register(registry);
+	}
+}
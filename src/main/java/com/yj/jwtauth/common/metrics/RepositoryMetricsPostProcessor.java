@@ -0,0 +1,57 @@
+package com.yj.jwtauth.common.metrics;
+
+import com.yj.jwtauth.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserRepository 빈을 감싸 메서드별 호출 시간을 기록.
+ * Method → Timer 매핑을 프록시 생성 시 미리 만들어 두므로 호출마다 태그를 만들지 않음
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+	private final ObjectProvider<AuthMetrics> metrics;
+
+	public RepositoryMetricsPostProcessor(ObjectProvider<AuthMetrics> metrics) {
+		this.metrics = metrics;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (!(bean instanceof UserRepository)) {
+			return bean;
+		}
+		AuthMetrics authMetrics = metrics.getObject();
+		String repository = UserRepository.class.getSimpleName();
+		Map<Method, Timer> timers = new HashMap<>();
+		for (Method method : UserRepository.class.getMethods()) {
+			timers.put(method, authMetrics.repositoryTimer(repository, method.getName()));
+		}
+
+		ProxyFactory proxyFactory = new ProxyFactory(bean);
+		proxyFactory.addInterface(UserRepository.class);
+		proxyFactory.addAdvice((MethodInterceptor)invocation -> {
+			Timer timer = timers.get(invocation.getMethod());
+			if (timer == null) {
+				return invocation.proceed();
+			}
+			long start = System.nanoTime();
+			try {
+				return invocation.proceed();
+			} finally {
+				timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		});
+		return proxyFactory.getProxy();
+	}
+}
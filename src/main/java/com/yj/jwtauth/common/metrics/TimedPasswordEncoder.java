@@ -0,0 +1,45 @@
+package com.yj.jwtauth.common.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+// encode/matches 시간을 기록하는 PasswordEncoder 데코레이터
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+
+	public TimedPasswordEncoder(PasswordEncoder delegate, AuthMetrics metrics) {
+		this.delegate = delegate;
+		this.encodeTimer = metrics.getPasswordEncodeTimer();
+		this.matchesTimer = metrics.getPasswordMatchesTimer();
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		long start = System.nanoTime();
+		try {
+			return delegate.encode(rawPassword);
+		} finally {
+			encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		long start = System.nanoTime();
+		try {
+			return delegate.matches(rawPassword, encodedPassword);
+		} finally {
+			matchesTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+}
@@ -0,0 +1,57 @@
+package com.yj.jwtauth.common.pool;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * 재사용 버퍼, Mac, MessageDigest 같은 작업용 객체를 담는 작은 고정 크기 풀.
+ * ThreadLocal 캐시는 요청마다 새 가상 스레드가 만들어지면 매번 새로 할당되므로,
+ * 스레드와 무관하게 동시에 쓰이는 수(대략 코어 수)만큼만 보관해 두 실행 모델 모두에서 재사용함.
+ *
+ * 비어 있으면 새로 만들고, 가득 찬 상태에서 반납된 객체는 버림 (대기나 거부 없음)
+ */
+public final class BoundedObjectPool<T> {
+
+	private static final int SLOTS_PER_CORE = 2;
+
+	private final AtomicReferenceArray<T> slots;
+	private final Supplier<T> factory;
+
+	public BoundedObjectPool(int capacity, Supplier<T> factory) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive: " + capacity);
+		}
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.factory = factory;
+	}
+
+	// 코어 수 × 2 크기
+	public static <T> BoundedObjectPool<T> perCore(Supplier<T> factory) {
+		return new BoundedObjectPool<>(Runtime.getRuntime().availableProcessors() * SLOTS_PER_CORE, factory);
+	}
+
+	public T acquire() {
+		int length = slots.length();
+		int start = ThreadLocalRandom.current().nextInt(length);
+		for (int i = 0; i < length; i++) {
+			int index = (start + i) % length;
+			T value = slots.get(index);
+			if (value != null && slots.compareAndSet(index, value, null)) {
+				return value;
+			}
+		}
+		return factory.get();
+	}
+
+	public void release(T value) {
+		int length = slots.length();
+		int start = ThreadLocalRandom.current().nextInt(length);
+		for (int i = 0; i < length; i++) {
+			int index = (start + i) % length;
+			if (slots.get(index) == null && slots.compareAndSet(index, null, value)) {
+				return;
+			}
+		}
+	}
+}
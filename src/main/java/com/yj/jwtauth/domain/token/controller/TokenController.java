@@ -0,0 +1,79 @@
+package com.yj.jwtauth.domain.token.controller;
+
+import com.yj.jwtauth.domain.token.dto.request.TokenBatchRequestDto;
+import com.yj.jwtauth.domain.token.dto.request.TokenRefreshRequestDto;
+import com.yj.jwtauth.domain.token.service.TokenService;
+import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class TokenController {
+
+	private static final Logger logger = LoggerFactory.getLogger(TokenController.class);
+	private final TokenService tokenService;
+
+	// 토큰 일괄 발급 (서비스 계정용)
+	@PostMapping("/tokens/batch")
+	@Operation(
+		summary = "토큰 일괄 발급",
+		description = "유저 ID 목록에 대한 토큰을 NDJSON으로 스트리밍합니다. 관리자만 호출할 수 있습니다.",
+		security = @SecurityRequirement(name = "bearerAuth")
+	)
+	public void issueBatchTokensAPI(
+		@Valid @RequestBody TokenBatchRequestDto requestDto,
+		HttpServletResponse response
+	) throws IOException {
+		logger.debug("Processing batch token issuance for {} users", requestDto.getUserIds().size());
+		response.setStatus(HttpStatus.OK.value());
+		response.setContentType("application/x-ndjson; charset=UTF-8");
+		tokenService.issueBatchTokens(requestDto.getUserIds(), response.getOutputStream());
+	}
+
+	// 액세스 토큰 재발급 (리프레시 토큰 1회용 교체)
+	@PostMapping("/token/refresh")
+	@Operation(
+		summary = "토큰 재발급",
+		description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급합니다. 사용한 리프레시 토큰을 다시 보내면 관련 토큰이 모두 폐기됩니다."
+	)
+	public ResponseEntity<SigninResponseDto> refreshTokenAPI(
+		@Valid @RequestBody TokenRefreshRequestDto requestDto
+	) {
+		logger.debug("Processing token refresh");
+		SigninResponseDto response = tokenService.refreshToken(requestDto);
+		return ResponseEntity.ok(response);
+	}
+
+	// 현재 액세스 토큰 폐기 (로그아웃)
+	@PostMapping("/token/revoke")
+	@Operation(
+		summary = "토큰 폐기",
+		description = "요청에 사용한 액세스 토큰을 만료 전에 폐기합니다.",
+		security = @SecurityRequirement(name = "bearerAuth")
+	)
+	public ResponseEntity<Void> revokeTokenAPI(
+		@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader
+	) {
+		logger.debug("Processing token revocation");
+		// 필터를 통과했으므로 "Bearer " 접두사가 보장됨
+		tokenService.revokeToken(authorizationHeader.substring(7));
+		return ResponseEntity.noContent().build();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.yj.jwtauth.domain.token.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TokenBatchRequestDto {
+
+	@Schema(description = "토큰을 발급할 유저 ID 목록", example = "[1, 2, 3]")
+	@NotEmpty(message = "유저 ID 목록은 필수입니다.")
+	@Size(max = 100000, message = "한 번에 최대 100,000명까지 발급할 수 있습니다.")
+	private final List<@NotNull Long> userIds;
+
+	@JsonCreator
+	public TokenBatchRequestDto(@JsonProperty("userIds") List<Long> userIds) {
+		this.userIds = userIds;
+	}
+}
@@ -0,0 +1,21 @@
+package com.yj.jwtauth.domain.token.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+
+@Getter
+public class TokenRefreshRequestDto {
+
+	@Schema(description = "로그인 또는 이전 갱신 시 받은 리프레시 토큰", example = "q1Zx3...")
+	@NotBlank(message = "리프레시 토큰은 필수입니다.")
+	private final String refreshToken;
+
+	@JsonCreator
+	public TokenRefreshRequestDto(@JsonProperty("refreshToken") String refreshToken) {
+		this.refreshToken = refreshToken;
+	}
+}
@@ -0,0 +1,24 @@
+package com.yj.jwtauth.domain.token.service;
+
+import com.yj.jwtauth.domain.token.dto.request.TokenRefreshRequestDto;
+import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+public interface TokenService {
+
+	void issueBatchTokens(
+		List<Long> userIds,
+		OutputStream outputStream
+	) throws IOException;
+
+	SigninResponseDto refreshToken(
+		TokenRefreshRequestDto requestDto
+	);
+
+	void revokeToken(
+		String token
+	);
+}
\ No newline at end of file
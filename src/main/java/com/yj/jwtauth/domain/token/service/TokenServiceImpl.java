@@ -0,0 +1,116 @@
+package com.yj.jwtauth.domain.token.service;
+
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.VerifiedToken;
+import com.yj.jwtauth.auth.cache.VerifiedTokenCache;
+import com.yj.jwtauth.auth.refresh.RefreshTokenRotation;
+import com.yj.jwtauth.auth.refresh.RefreshTokenStore;
+import com.yj.jwtauth.auth.revocation.TokenRevocationList;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.domain.token.dto.request.TokenRefreshRequestDto;
+import com.yj.jwtauth.domain.user.dto.projection.TokenSubject;
+import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
+import com.yj.jwtauth.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+@Service
+@RequiredArgsConstructor
+public class TokenServiceImpl implements TokenService {
+
+	private static final Logger logger = LoggerFactory.getLogger(TokenServiceImpl.class);
+
+	// 한 번에 조회/서명/전송하는 유저 수, 배치 크기와 무관하게 메모리 사용량을 이 단위로 제한
+	static final int CHUNK_SIZE = 1000;
+
+	private final UserRepository userRepository;
+	private final JwtService jwtService;
+	private final RefreshTokenStore refreshTokenStore;
+	private final TokenRevocationList tokenRevocationList;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final Clock clock;
+
+	/**
+	 * 유저 ID마다 한 줄씩 NDJSON으로 토큰을 기록: {"userId":1,"token":"..."}
+	 * 존재하지 않는 유저는 "token":null
+	 *
+	 * 청크 단위로 IN 조회 1회 → 코어 수만큼 병렬 서명 → 전송 후 flush.
+	 * 전송이 길어질 수 있으므로 트랜잭션 없이 프로젝션으로만 조회함
+	 */
+	@Override
+	public void issueBatchTokens(List<Long> userIds, OutputStream outputStream) throws IOException {
+		logger.debug("Issuing batch tokens for {} users", userIds.size());
+		int issued = 0;
+		for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+			List<Long> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+
+			Map<Long, TokenSubject> subjects = new HashMap<>();
+			for (TokenSubject subject : userRepository.findTokenSubjectsByIdIn(chunk)) {
+				subjects.put(subject.id(), subject);
+			}
+
+			String[] lines = new String[chunk.size()];
+			IntStream.range(0, chunk.size())
+				.parallel()
+				.forEach(i -> lines[i] = toLine(chunk.get(i), subjects.get(chunk.get(i))));
+
+			for (String line : lines) {
+				outputStream.write(line.getBytes(StandardCharsets.UTF_8));
+			}
+			outputStream.flush();
+			issued += subjects.size();
+		}
+		logger.debug("Issued {} batch tokens ({} requested)", issued, userIds.size());
+	}
+
+	/**
+	 * 리프레시 토큰을 교체하고 새 액세스 토큰 발급.
+	 * BCrypt 없이 저장소 조회 + PK 프로젝션 조회만 수행하며, 역할은 DB의 현재 값을 사용함
+	 */
+	@Override
+	public SigninResponseDto refreshToken(TokenRefreshRequestDto requestDto) {
+		RefreshTokenRotation rotation = refreshTokenStore.rotate(requestDto.getRefreshToken(), clock.millis());
+		TokenSubject subject = userRepository.findTokenSubjectById(rotation.userId())
+			.orElseThrow(() -> {
+				logger.warn("User not found for refresh token, user ID: {}", rotation.userId());
+				return new CustomRuntimeException(ErrorCode.INVALID_TOKEN);
+			});
+
+		String token = jwtService.createToken(subject.id(), subject.email(), subject.role());
+		logger.debug("Refreshed token for user ID: {}", subject.id());
+		return new SigninResponseDto(token, rotation.refreshToken());
+	}
+
+	// 액세스 토큰을 exp 전에 폐기 (검증된 토큰 캐시에서도 제거)
+	@Override
+	public void revokeToken(String token) {
+		VerifiedToken verified = jwtService.verifyClaims(token);
+		if (verified.jti() == null) {
+			logger.warn("Token without jti cannot be revoked, user ID: {}", verified.userId());
+			throw new CustomRuntimeException(ErrorCode.INVALID_TOKEN);
+		}
+		tokenRevocationList.revoke(verified.jti(), verified.expiresAtMillis());
+		verifiedTokenCache.invalidate(token);
+		logger.debug("Revoked token for user ID: {}", verified.userId());
+	}
+
+	private String toLine(Long userId, TokenSubject subject) {
+		if (subject == null) {
+			return "{\"userId\":" + userId + ",\"token\":null}\n";
+		}
+		String token = jwtService.createToken(subject.id(), subject.email(), subject.role());
+		return "{\"userId\":" + userId + ",\"token\":\"" + token + "\"}\n";
+	}
+}
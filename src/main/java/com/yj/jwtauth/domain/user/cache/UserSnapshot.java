@@ -0,0 +1,17 @@
+package com.yj.jwtauth.domain.user.cache;
+
+import com.yj.jwtauth.domain.user.enums.UserRole;
+
+import java.time.LocalDateTime;
+
+// 캐시에 보관하는 유저 정보 (영속성 컨텍스트와 분리된 불변 값)
+public record UserSnapshot(
+	Long id,
+	String username,
+	String email,
+	UserRole role,
+	boolean isDeleted,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,85 @@
+package com.yj.jwtauth.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 내 정보 조회용 유저 스냅샷 캐시 (read-through).
+ * Caffeine으로 크기와 TTL을 제한하고, 유저를 변경하는 작업은 invalidate를 호출해야 함.
+ * 지표는 cache.gets/cache.puts/cache.evictions{cache=userSnapshot}로 게시
+ */
+@Component
+public class UserSnapshotCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(UserSnapshotCache.class);
+
+	private final Cache<Long, UserSnapshot> cache;
+
+	public UserSnapshotCache(
+		@Value("${user.cache.max-size:10000}") long maxSize,
+		@Value("${user.cache.ttl-seconds:60}") long ttlSeconds,
+		AuthMetrics authMetrics
+	) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+			.recordStats()
+			.build();
+		authMetrics.bindCache("userSnapshot", cache);
+		logger.info("User snapshot cache initialized, max size: {}, ttl: {}s", maxSize, ttlSeconds);
+	}
+
+	// 없으면 loader로 읽어서 보관 (loader 예외는 그대로 전파되고 캐시에 남지 않음)
+	public UserSnapshot get(Long userId, Function<Long, UserSnapshot> loader) {
+		return cache.get(userId, loader);
+	}
+
+	/**
+	 * 즉시 제거하고, 트랜잭션 안이면 완료 후 한 번 더 제거함.
+	 * 커밋 전에 다른 요청이 이전 값을 다시 읽어 넣은 경우까지 정리하기 위함
+	 */
+	public void invalidate(Long userId) {
+		cache.invalidate(userId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					cache.invalidate(userId);
+				}
+			});
+		}
+	}
+
+	// 일괄 변경용, invalidate와 같은 방식으로 여러 유저를 한 번에 제거
+	public void invalidateAll(Collection<Long> userIds) {
+		cache.invalidateAll(userIds);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					cache.invalidateAll(userIds);
+				}
+			});
+		}
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	public CacheStats stats() {
+		return cache.stats();
+	}
+}
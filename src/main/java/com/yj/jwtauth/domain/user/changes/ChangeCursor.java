@@ -0,0 +1,59 @@
+package com.yj.jwtauth.domain.user.changes;
+
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.domain.user.dto.projection.UserSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 변경 피드의 위치: 마지막으로 받은 행의 (updated_at, id).
+ * updated_at이 같은 행이 여러 개여도 id로 순서가 정해지므로 중복이나 누락 없이 이어서 조회할 수 있음.
+ * 클라이언트에는 "updatedAt,id"를 base64url로 인코딩한 불투명한 문자열로 전달
+ */
+public record ChangeCursor(LocalDateTime updatedAt, long id) {
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	public static ChangeCursor of(UserSummary user) {
+		return new ChangeCursor(user.updatedAt(), user.id());
+	}
+
+	// 비어 있으면 처음부터 (null)
+	public static ChangeCursor decode(String value) {
+		if (value == null || value.isBlank()) {
+			return null;
+		}
+		try {
+			String decoded = new String(DECODER.decode(value), StandardCharsets.UTF_8);
+			int separator = decoded.lastIndexOf(',');
+			if (separator < 0) {
+				throw CustomRuntimeException.of(ErrorCode.INVALID_CURSOR);
+			}
+			return new ChangeCursor(
+				LocalDateTime.parse(decoded.substring(0, separator), DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+				Long.parseLong(decoded.substring(separator + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw CustomRuntimeException.of(ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	public String encode() {
+		String value = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(updatedAt) + "," + id;
+		return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// (updated_at, id) 순서에서 other보다 뒤인지 (other가 null이면 처음부터라는 뜻이므로 항상 뒤)
+	public boolean isAfter(ChangeCursor other) {
+		if (other == null) {
+			return true;
+		}
+		int compared = updatedAt.compareTo(other.updatedAt);
+		return compared > 0 || (compared == 0 && id > other.id);
+	}
+}
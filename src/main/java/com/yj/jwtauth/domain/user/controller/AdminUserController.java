@@ -0,0 +1,118 @@
+package com.yj.jwtauth.domain.user.controller;
+
+import com.yj.jwtauth.domain.user.dto.response.UserChangesResponseDto;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import com.yj.jwtauth.domain.user.service.UserChangeService;
+import com.yj.jwtauth.domain.user.service.UserListService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdminUserController.class);
+	private final UserListService userListService;
+	private final UserChangeService userChangeService;
+
+	// 유저 목록 (id 키셋 페이지네이션)
+	@GetMapping("/admins/users")
+	@Operation(
+		summary = "유저 목록 조회",
+		description = "id 순으로 한 페이지를 조회합니다. 다음 페이지는 응답의 nextAfterId를 afterId로 넘겨 조회하며, null이면 마지막 페이지입니다. "
+			+ "역할과 이메일 접두사로 거를 수 있습니다.",
+		security = @SecurityRequirement(name = "bearerAuth")
+	)
+	public void listUsersAPI(
+		@RequestParam(defaultValue = "0") @Min(0) long afterId,
+		@RequestParam(defaultValue = "100") @Min(1) @Max(1000) int size,
+		@RequestParam(required = false) UserRole role,
+		@RequestParam(required = false) String emailPrefix,
+		HttpServletResponse response
+	) throws IOException {
+		logger.debug("Processing user listing after ID: {}", afterId);
+		response.setStatus(HttpStatus.OK.value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		userListService.listUsers(afterId, size, role, emailPrefix, response.getOutputStream());
+	}
+
+	// 유저 전체 내보내기 (NDJSON, Accept-Encoding: gzip이면 압축하며 전송)
+	@GetMapping("/admins/users/export")
+	@Operation(
+		summary = "유저 내보내기",
+		description = "모든 유저를 한 줄에 한 명씩 NDJSON으로 스트리밍합니다. updatedSince를 주면 그 시각 이후 변경된 유저만 내보냅니다. "
+			+ "Accept-Encoding에 gzip이 있으면 압축해서 보냅니다.",
+		security = @SecurityRequirement(name = "bearerAuth")
+	)
+	public void exportUsersAPI(
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+		HttpServletResponse response
+	) throws IOException {
+		boolean gzip = acceptsGzip(acceptEncoding);
+		logger.debug("Processing user export, updated since: {}, gzip: {}", updatedSince, gzip);
+		userListService.exportUsers(updatedSince, () -> {
+			response.setStatus(HttpStatus.OK.value());
+			response.setContentType("application/x-ndjson; charset=UTF-8");
+			response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			if (!gzip) {
+				return response.getOutputStream();
+			}
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+			return new GZIPOutputStream(response.getOutputStream(), 8192);
+		});
+	}
+
+	// 유저 변경 피드 ((updated_at, id) 커서, waitSeconds > 0이면 변경이 생길 때까지 대기)
+	@GetMapping("/admins/users/changes")
+	@Operation(
+		summary = "유저 변경 피드",
+		description = "since 커서 이후 생성·수정된 유저를 변경 순으로 조회하고 다음 커서를 반환합니다. since가 없으면 처음부터 조회합니다. "
+			+ "waitSeconds를 주면 변경이 없을 때 그 시간까지 기다렸다가 응답합니다 (long-poll). 변경은 몇 초 지연되어 보입니다.",
+		security = @SecurityRequirement(name = "bearerAuth")
+	)
+	public CompletableFuture<UserChangesResponseDto> getUserChangesAPI(
+		@RequestParam(required = false) String since,
+		@RequestParam(defaultValue = "100") @Min(1) @Max(1000) int limit,
+		@RequestParam(defaultValue = "0") @Min(0) @Max(25) int waitSeconds
+	) {
+		logger.debug("Processing user changes since cursor: {}, wait: {}s", since, waitSeconds);
+		return userChangeService.getChanges(since, limit, waitSeconds);
+	}
+
+	// "gzip" 또는 "gzip;q=0.8" 등 (q=0은 거부)
+	static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+			String[] parts = coding.trim().split(";");
+			if (parts[0].trim().equals("gzip")) {
+				return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+			}
+		}
+		return false;
+	}
+}
@@ -1,10 +1,12 @@
 package com.yj.jwtauth.domain.user.controller;
 
-import com.yj.jwtauth.common.exception.CustomRuntimeException;
-import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.auth.principal.AuthPrincipal;
+import com.yj.jwtauth.auth.throttle.SigninThrottle;
+import com.yj.jwtauth.domain.user.dto.request.RoleBulkUpdateRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.RoleUpdateRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.SignupRequestDto;
+import com.yj.jwtauth.domain.user.dto.response.RoleBulkUpdateResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.SignupResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.UserResponseDto;
@@ -18,6 +20,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 
 @RestController
@@ -27,6 +30,7 @@ public class UserController {
 
 	private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 	private final UserService userService;
+	private final SigninThrottle signinThrottle;
 
 	// 회원가입: 유저(사용자)
 	@PostMapping("/users/signup")
@@ -60,12 +64,14 @@ public class UserController {
 	@PostMapping("/signin")
 	@Operation(
 		summary = "로그인",
-		description = "이메일과 비밀번호로 로그인합니다."
+		description = "이메일과 비밀번호로 로그인합니다. 계정/IP별 시도 횟수를 넘으면 429와 Retry-After를 반환합니다."
 	)
 	public ResponseEntity<SigninResponseDto> signinAPI(
-		@Valid @RequestBody SigninRequestDto requestDto
+		@Valid @RequestBody SigninRequestDto requestDto,
+		HttpServletRequest request
 	) {
 		logger.debug("Processing signin: {}", requestDto.getEmail());
+		signinThrottle.acquire(requestDto.getEmail(), request.getRemoteAddr());
 		SigninResponseDto response = userService.userOrAdminSignin(requestDto);
 		return ResponseEntity.ok(response);
 	}
@@ -76,14 +82,9 @@ public class UserController {
 		summary = "내 정보 조회",
 		description = "현재 로그인한 유저의 정보를 조회합니다.",
 		security = @SecurityRequirement(name = "bearerAuth")
-	)	public ResponseEntity<UserResponseDto> getMyInfoAPI(HttpServletRequest request) {
-		Long userId = (Long) request.getAttribute("userId");
-		logger.debug("Retrieving info for userId: {}", userId);
-		if (userId == null) {
-			logger.error("userId attribute is null in request");
-			throw new CustomRuntimeException(ErrorCode.INVALID_TOKEN);
-		}
-		UserResponseDto response = userService.getMyInfo(userId);
+	)	public ResponseEntity<UserResponseDto> getMyInfoAPI(@Parameter(hidden = true) AuthPrincipal principal) {
+		logger.debug("Retrieving info for userId: {}", principal.id());
+		UserResponseDto response = userService.getMyInfo(principal.id());
 		return ResponseEntity.ok(response);
 	}
 
@@ -102,4 +103,19 @@ public class UserController {
 		UserResponseDto response = userService.assignAdminRole(userId, requestDto);
 		return ResponseEntity.ok(response);
 	}
-}
\ No newline at end of file
+
+	// 관리자 권한 일괄 변경
+	@PatchMapping("/admins/users/roles")
+	@Operation(
+		summary = "역할 일괄 변경",
+		description = "유저 ID 목록 또는 이메일 도메인에 해당하는 유저의 역할을 한 번에 변경하고, 대상 수와 실제 변경 수를 반환합니다.",
+		security = @SecurityRequirement(name = "bearerAuth")
+	)
+	public ResponseEntity<RoleBulkUpdateResponseDto> assignRolesAPI(
+		@Valid @RequestBody RoleBulkUpdateRequestDto requestDto
+	) {
+		logger.debug("Assigning role {} in bulk", requestDto.getRole());
+		RoleBulkUpdateResponseDto response = userService.assignRoles(requestDto);
+		return ResponseEntity.ok(response);
+	}
+}
@@ -0,0 +1,50 @@
+package com.yj.jwtauth.domain.user.controller;
+
+import com.yj.jwtauth.domain.user.imports.UserImportFormat;
+import com.yj.jwtauth.domain.user.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class UserImportController {
+
+	private static final Logger logger = LoggerFactory.getLogger(UserImportController.class);
+	private final UserImportService userImportService;
+
+	// 유저 대량 가져오기 (본문을 스트리밍으로 읽고 결과도 스트리밍)
+	@PostMapping(
+		value = "/admins/users/import",
+		consumes = {UserImportFormat.NDJSON_VALUE, UserImportFormat.CSV_VALUE}
+	)
+	@Operation(
+		summary = "유저 대량 가져오기",
+		description = "NDJSON 또는 CSV(헤더 포함)로 유저를 가져옵니다. 행마다 password(평문) 또는 passwordHash(BCrypt) 중 하나를 받습니다. "
+			+ "거부된 행과 마지막 요약 줄을 NDJSON으로 반환합니다. 관리자만 호출할 수 있습니다.",
+		security = @SecurityRequirement(name = "bearerAuth")
+	)
+	public void importUsersAPI(
+		HttpServletRequest request,
+		HttpServletResponse response
+	) throws IOException {
+		UserImportFormat format = UserImportFormat.of(request.getContentType());
+		logger.debug("Processing user import, format: {}", format);
+		userImportService.importUsers(format, request.getInputStream(), () -> {
+			response.setStatus(HttpStatus.OK.value());
+			response.setContentType("application/x-ndjson; charset=UTF-8");
+			return response.getOutputStream();
+		});
+	}
+}
@@ -0,0 +1,15 @@
+package com.yj.jwtauth.domain.user.dto.projection;
+
+import com.yj.jwtauth.domain.user.enums.UserRole;
+
+/**
+ * 로그인에 필요한 컬럼만 담은 조회 결과 (비밀번호 해시 비교 + 토큰 발급).
+ * 엔티티가 아니므로 영속성 컨텍스트와 dirty checking 스냅샷이 생기지 않음
+ */
+public record SigninCredentials(
+	Long id,
+	String email,
+	String password,
+	UserRole role
+) {
+}
@@ -0,0 +1,14 @@
+package com.yj.jwtauth.domain.user.dto.projection;
+
+import com.yj.jwtauth.domain.user.enums.UserRole;
+
+/**
+ * 토큰 발급에 필요한 컬럼만 담은 조회 결과.
+ * 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않음
+ */
+public record TokenSubject(
+	Long id,
+	String email,
+	UserRole role
+) {
+}
@@ -0,0 +1,22 @@
+package com.yj.jwtauth.domain.user.dto.projection;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 목록용 조회 결과 (비밀번호 제외).
+ * JdbcTemplate으로 행마다 만들어 바로 직렬화하므로 목록이나 엔티티로 쌓이지 않음.
+ * 변경 피드처럼 Jackson으로 직렬화할 때도 삭제 여부는 UserSummaryJson과 같은 "deleted"로 씀
+ */
+public record UserSummary(
+	Long id,
+	String username,
+	String email,
+	UserRole role,
+	@JsonProperty("deleted") boolean isDeleted,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,48 @@
+package com.yj.jwtauth.domain.user.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class RoleBulkUpdateRequestDto {
+
+	@Schema(description = "역할을 바꿀 유저 ID 목록 (emailDomain과 둘 중 하나)", example = "[1, 2, 3]")
+	@Size(max = 100000, message = "한 번에 최대 100,000명까지 변경할 수 있습니다.")
+	private final List<@NotNull Long> userIds;
+
+	@Schema(description = "이 도메인의 이메일을 가진 유저 전체 (userIds와 둘 중 하나)", example = "partner.com")
+	@Pattern(regexp = "^[A-Za-z0-9.-]+$", message = "유효한 도메인 형식이 아닙니다.")
+	private final String emailDomain;
+
+	@Schema(description = "부여할 역할", example = "ADMIN")
+	@NotNull(message = "역할은 필수입니다.")
+	private final UserRole role;
+
+	@JsonCreator
+	public RoleBulkUpdateRequestDto(
+		@JsonProperty("userIds") List<Long> userIds,
+		@JsonProperty("emailDomain") String emailDomain,
+		@JsonProperty("role") UserRole role
+	) {
+		this.userIds = userIds;
+		this.emailDomain = emailDomain;
+		this.role = role;
+	}
+
+	@JsonIgnore
+	@AssertTrue(message = "userIds와 emailDomain 중 하나만 지정해야 합니다.")
+	public boolean isSingleTarget() {
+		return (userIds != null && !userIds.isEmpty()) != (emailDomain != null);
+	}
+}
@@ -0,0 +1,25 @@
+package com.yj.jwtauth.domain.user.dto.response;
+
+import com.yj.jwtauth.domain.user.enums.UserRole;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class RoleBulkUpdateResponseDto {
+
+	@Schema(description = "부여한 역할", example = "ADMIN")
+	private final String role;
+
+	@Schema(description = "대상 유저 수 (중복 제거한 ID 수 또는 도메인이 일치한 유저 수)", example = "3")
+	private final long requested;
+
+	@Schema(description = "실제로 역할이 바뀐 유저 수 (없는 ID, 이미 같은 역할인 유저 제외)", example = "2")
+	private final long updated;
+
+	public RoleBulkUpdateResponseDto(UserRole role, long requested, long updated) {
+		this.role = role.name();
+		this.requested = requested;
+		this.updated = updated;
+	}
+}
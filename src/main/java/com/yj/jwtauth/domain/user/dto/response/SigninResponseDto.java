@@ -9,7 +9,11 @@ public class SigninResponseDto {
 	@Schema(description = "JWT 토큰", example = "eyJh7... | SwaggerConfig가 Bearer를 붙여줘서 최종적으로 `Authorization` 헤더에 `Bearer ` 접두사가 붙음.")
 	private final String token;
 
-	public SigninResponseDto(String token) {
+	@Schema(description = "리프레시 토큰 (1회용, /api/token/refresh 호출 시 새 토큰으로 교체됨)", example = "q1Zx3...")
+	private final String refreshToken;
+
+	public SigninResponseDto(String token, String refreshToken) {
 		this.token = token;
+		this.refreshToken = refreshToken;
 	}
 }
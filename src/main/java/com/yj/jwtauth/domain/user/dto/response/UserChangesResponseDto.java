@@ -0,0 +1,28 @@
+package com.yj.jwtauth.domain.user.dto.response;
+
+import com.yj.jwtauth.domain.user.dto.projection.UserSummary;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class UserChangesResponseDto {
+
+	@Schema(description = "커서 이후 변경된 유저 ((updatedAt, id) 순)")
+	private final List<UserSummary> changes;
+
+	@Schema(description = "다음 조회에 since로 넘길 커서 (변경이 없으면 요청한 커서 그대로, 처음부터 조회했는데 유저가 없으면 null)",
+		example = "MjAyNS0wNC0xOVQxMTowMDowMCw0Mg")
+	private final String cursor;
+
+	@Schema(description = "limit을 넘는 변경이 더 있는지 (true면 기다리지 말고 바로 이어서 조회)", example = "false")
+	private final boolean hasMore;
+
+	public UserChangesResponseDto(List<UserSummary> changes, String cursor, boolean hasMore) {
+		this.changes = changes;
+		this.cursor = cursor;
+		this.hasMore = hasMore;
+	}
+}
@@ -1,6 +1,7 @@
 package com.yj.jwtauth.domain.user.dto.response;
 
 import com.yj.jwtauth.common.entity.User;
+import com.yj.jwtauth.domain.user.cache.UserSnapshot;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
@@ -42,6 +43,16 @@ public abstract class UserResponseDto {
 		this.updatedAt = user.getUpdatedAt();
 	}
 
+	protected UserResponseDto(UserSnapshot user) {
+		this.id = user.id();
+		this.username = user.username();
+		this.email = user.email();
+		this.roles = List.of(user.role().name());
+		this.isDeleted = user.isDeleted();
+		this.createdAt = user.createdAt();
+		this.updatedAt = user.updatedAt();
+	}
+
 	/**
 	 * 단일 권한을 편하게 꺼내 쓰는 Getter.
 	 * Jackson이 이 메서드를 JSON 프로퍼티 'role'로 직렬화 함
@@ -0,0 +1,128 @@
+package com.yj.jwtauth.domain.user.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 첫 줄은 헤더 (username, email, password, password_hash 중 필요한 열, 순서 무관).
+ * 쉼표가 들어간 값은 큰따옴표로 감싸고, 따옴표는 두 번 씀 (여러 줄에 걸친 값은 지원하지 않음)
+ */
+class CsvUserImportReader implements UserImportReader {
+
+	private final BufferedReader reader;
+	private long line;
+	private int usernameIndex = -1;
+	private int emailIndex = -1;
+	private int passwordIndex = -1;
+	private int passwordHashIndex = -1;
+	private boolean headerRead;
+
+	CsvUserImportReader(InputStream inputStream) {
+		this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public UserImportRow next() throws IOException {
+		String text = nextLine();
+		if (text != null && !headerRead) {
+			readHeader(split(text));
+			text = nextLine();
+		}
+		if (text == null) {
+			return null;
+		}
+
+		List<String> values = split(text);
+		if (values == null) {
+			return UserImportRow.malformed(line);
+		}
+		return new UserImportRow(line,
+			value(values, usernameIndex),
+			value(values, emailIndex),
+			value(values, passwordIndex),
+			value(values, passwordHashIndex));
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private String nextLine() throws IOException {
+		String text;
+		do {
+			text = reader.readLine();
+			if (text == null) {
+				return null;
+			}
+			line++;
+		} while (text.isBlank());
+		return text;
+	}
+
+	// 알 수 없는 열은 무시, 필요한 열이 없으면 모든 행이 INVALID_IMPORT_ROW
+	private void readHeader(List<String> columns) {
+		headerRead = true;
+		if (columns == null) {
+			return;
+		}
+		for (int i = 0; i < columns.size(); i++) {
+			switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+				case "username" -> usernameIndex = i;
+				case "email" -> emailIndex = i;
+				case "password" -> passwordIndex = i;
+				case "password_hash", "passwordhash" -> passwordHashIndex = i;
+				default -> {
+				}
+			}
+		}
+	}
+
+	private static String value(List<String> values, int index) {
+		if (index < 0 || index >= values.size()) {
+			return null;
+		}
+		String value = values.get(index);
+		return value.isEmpty() ? null : value;
+	}
+
+	// 따옴표가 닫히지 않으면 null
+	static List<String> split(String text) {
+		List<String> values = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (quoted) {
+				if (c == '"') {
+					if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+						current.append('"');
+						i++;
+					} else {
+						quoted = false;
+					}
+				} else {
+					current.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				values.add(current.toString());
+				current.setLength(0);
+			} else {
+				current.append(c);
+			}
+		}
+		if (quoted) {
+			return null;
+		}
+		values.add(current.toString());
+		return values;
+	}
+}
@@ -0,0 +1,64 @@
+package com.yj.jwtauth.domain.user.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 한 줄에 JSON 객체 하나: {"username":"..","email":"..","password":".."} 또는 "passwordHash"
+ * 줄마다 따로 파싱해 깨진 줄이 있어도 그 행만 거부하고 계속 읽음
+ */
+class NdjsonUserImportReader implements UserImportReader {
+
+	private final BufferedReader reader;
+	private final ObjectMapper objectMapper;
+	private long line;
+
+	NdjsonUserImportReader(InputStream inputStream, ObjectMapper objectMapper) {
+		this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public UserImportRow next() throws IOException {
+		String text;
+		do {
+			text = reader.readLine();
+			if (text == null) {
+				return null;
+			}
+			line++;
+		} while (text.isBlank());
+
+		JsonNode node;
+		try {
+			node = objectMapper.readTree(text);
+		} catch (JsonProcessingException e) {
+			return UserImportRow.malformed(line);
+		}
+		if (!node.isObject()) {
+			return UserImportRow.malformed(line);
+		}
+		return new UserImportRow(line,
+			text(node, "username"),
+			text(node, "email"),
+			text(node, "password"),
+			text(node, "passwordHash"));
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private static String text(JsonNode node, String field) {
+		JsonNode value = node.get(field);
+		return value == null || !value.isTextual() ? null : value.textValue();
+	}
+}
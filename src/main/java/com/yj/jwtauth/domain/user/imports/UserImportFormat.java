@@ -0,0 +1,43 @@
+package com.yj.jwtauth.domain.user.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+
+// 가져오기 본문 형식 (요청의 Content-Type으로 결정)
+public enum UserImportFormat {
+
+	NDJSON(UserImportFormat.NDJSON_VALUE),
+	CSV(UserImportFormat.CSV_VALUE);
+
+	public static final String NDJSON_VALUE = "application/x-ndjson";
+	public static final String CSV_VALUE = "text/csv";
+
+	private final MediaType mediaType;
+
+	UserImportFormat(String mediaType) {
+		this.mediaType = MediaType.parseMediaType(mediaType);
+	}
+
+	// 지원하지 않는 형식이면 null (컨트롤러의 consumes로 미리 걸러짐)
+	public static UserImportFormat of(String contentType) {
+		if (contentType == null) {
+			return null;
+		}
+		MediaType requested = MediaType.parseMediaType(contentType);
+		for (UserImportFormat format : values()) {
+			if (format.mediaType.isCompatibleWith(requested)) {
+				return format;
+			}
+		}
+		return null;
+	}
+
+	public UserImportReader open(InputStream inputStream, ObjectMapper objectMapper) {
+		return switch (this) {
+			case NDJSON -> new NdjsonUserImportReader(inputStream, objectMapper);
+			case CSV -> new CsvUserImportReader(inputStream);
+		};
+	}
+}
@@ -0,0 +1,11 @@
+package com.yj.jwtauth.domain.user.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// 가져오기 본문을 한 행씩 읽음 (파일 전체를 메모리에 올리지 않음)
+public interface UserImportReader extends Closeable {
+
+	// 더 읽을 행이 없으면 null
+	UserImportRow next() throws IOException;
+}
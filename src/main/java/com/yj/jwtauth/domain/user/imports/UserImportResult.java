@@ -0,0 +1,8 @@
+package com.yj.jwtauth.domain.user.imports;
+
+// 가져오기 요약 (결과 스트림의 마지막 줄)
+public record UserImportResult(
+	long imported,
+	long rejected
+) {
+}
@@ -0,0 +1,18 @@
+package com.yj.jwtauth.domain.user.imports;
+
+/**
+ * 가져오기 파일의 한 행.
+ * password(평문)와 passwordHash(BCrypt) 중 하나만 있어야 함, 형식이 깨진 행은 값이 모두 null
+ */
+public record UserImportRow(
+	long line,
+	String username,
+	String email,
+	String password,
+	String passwordHash
+) {
+
+	static UserImportRow malformed(long line) {
+		return new UserImportRow(line, null, null, null, null);
+	}
+}
@@ -0,0 +1,139 @@
+package com.yj.jwtauth.domain.user.repository;
+
+import com.yj.jwtauth.domain.user.changes.ChangeCursor;
+import com.yj.jwtauth.domain.user.dto.projection.UserSummary;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 관리자용 대량 조회 (JdbcTemplate).
+ * 행을 목록으로 모으지 않고 읽는 대로 UserSummary로 만들어 콜백에 넘김
+ */
+@Repository
+public class UserQueryRepository {
+
+	private static final String SELECT_SUMMARY =
+		"select id, username, email, user_role, is_deleted, created_at, updated_at from users";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int exportFetchSize;
+
+	public UserQueryRepository(
+		JdbcTemplate jdbcTemplate,
+		@Value("${user.export.fetch-size:1000}") int exportFetchSize
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.exportFetchSize = exportFetchSize;
+	}
+
+	/**
+	 * 키셋 페이지: id > afterId 인 행을 id 순으로 최대 limit개.
+	 * OFFSET과 달리 앞 페이지를 건너뛰며 읽지 않으므로 몇 번째 페이지든 인덱스 탐색 한 번으로 시작함
+	 */
+	public void findPage(long afterId, int limit, UserRole role, String emailPrefix, Consumer<UserSummary> consumer) {
+		StringBuilder sql = new StringBuilder(SELECT_SUMMARY).append(" where id > ?");
+		List<Object> args = new ArrayList<>();
+		args.add(afterId);
+		if (role != null) {
+			sql.append(" and user_role = ?");
+			args.add(role.name());
+		}
+		if (emailPrefix != null) {
+			sql.append(" and email_normalized like ? escape '\\'");
+			args.add(escapeLike(emailPrefix) + "%");
+		}
+		sql.append(" order by id limit ?");
+		args.add(limit);
+
+		jdbcTemplate.query(sql.toString(), rs -> {
+			consumer.accept(toSummary(rs));
+		}, args.toArray());
+	}
+
+	/**
+	 * 전체(또는 updatedSince 이후 변경분) 내보내기.
+	 * 드라이버가 fetch size 단위로 행을 가져오고, 행마다 UserSummary를 만들어 넘긴 뒤 버리므로 테이블 크기와 무관하게 메모리 일정.
+	 * 트랜잭션 없이 실행하므로 트랜잭션 타임아웃이 적용되지 않고 영속성 컨텍스트도 없음
+	 */
+	public long streamAll(LocalDateTime updatedSince, Consumer<UserSummary> consumer) {
+		String sql = updatedSince == null
+			? SELECT_SUMMARY + " order by id"
+			: SELECT_SUMMARY + " where updated_at >= ? order by updated_at, id";
+		long[] count = new long[1];
+		jdbcTemplate.query(connection -> {
+			PreparedStatement statement = connection.prepareStatement(sql);
+			statement.setFetchSize(exportFetchSize);
+			if (updatedSince != null) {
+				statement.setTimestamp(1, Timestamp.valueOf(updatedSince));
+			}
+			return statement;
+		}, (RowCallbackHandler)rs -> {
+			consumer.accept(toSummary(rs));
+			count[0]++;
+		});
+		return count[0];
+	}
+
+	/**
+	 * 변경 피드: (updated_at, id)가 after보다 뒤이고 updated_at이 settledBefore 이하인 행을 그 순서로 최대 limit개.
+	 * (updated_at, id) 인덱스에서 커서 위치부터 읽으므로 변경분의 양만큼만 비용이 듦
+	 */
+	public List<UserSummary> findChanges(ChangeCursor after, LocalDateTime settledBefore, int limit) {
+		StringBuilder sql = new StringBuilder(SELECT_SUMMARY).append(" where updated_at <= ?");
+		List<Object> args = new ArrayList<>();
+		args.add(Timestamp.valueOf(settledBefore));
+		if (after != null) {
+			sql.append(" and (updated_at > ? or (updated_at = ? and id > ?))");
+			Timestamp afterUpdatedAt = Timestamp.valueOf(after.updatedAt());
+			args.add(afterUpdatedAt);
+			args.add(afterUpdatedAt);
+			args.add(after.id());
+		}
+		sql.append(" order by updated_at, id limit ?");
+		args.add(limit);
+
+		return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> toSummary(rs), args.toArray());
+	}
+
+	// settledBefore 이하에서 가장 마지막 변경 위치 (인덱스를 역순으로 한 행만 읽음)
+	public Optional<ChangeCursor> findLatestChange(LocalDateTime settledBefore) {
+		return jdbcTemplate.query(
+			"select updated_at, id from users where updated_at <= ? order by updated_at desc, id desc limit 1",
+			(rs, rowNum) -> new ChangeCursor(rs.getTimestamp("updated_at").toLocalDateTime(), rs.getLong("id")),
+			Timestamp.valueOf(settledBefore)
+		).stream().findFirst();
+	}
+
+	static UserSummary toSummary(ResultSet rs) throws SQLException {
+		return new UserSummary(
+			rs.getLong("id"),
+			rs.getString("username"),
+			rs.getString("email"),
+			UserRole.valueOf(rs.getString("user_role")),
+			rs.getBoolean("is_deleted"),
+			toLocalDateTime(rs.getTimestamp("created_at")),
+			toLocalDateTime(rs.getTimestamp("updated_at")));
+	}
+
+	private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+		return timestamp == null ? null : timestamp.toLocalDateTime();
+	}
+
+	// LIKE 접두사 검색에서 %, _를 문자 그대로 취급
+	private static String escapeLike(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+}
@@ -1,16 +1,80 @@
 package com.yj.jwtauth.domain.user.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.yj.jwtauth.common.entity.User;
+import com.yj.jwtauth.domain.user.cache.UserSnapshot;
+import com.yj.jwtauth.domain.user.dto.projection.SigninCredentials;
+import com.yj.jwtauth.domain.user.dto.projection.TokenSubject;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+
+import jakarta.persistence.QueryHint;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
-	// 이메일로 유저 조회
-	Optional<User> findByEmail(String email);
+	// 정규화한 이메일로 유저 조회 (email_normalized 유니크 인덱스 사용)
+	Optional<User> findByEmailNormalized(String emailNormalized);
+
+	// 대량 가져오기용, 청크의 이메일 중 이미 가입된 것만 반환
+	@Query("select u.emailNormalized from User u where u.emailNormalized in :emailsNormalized")
+	List<String> findExistingEmailsNormalized(@Param("emailsNormalized") Collection<String> emailsNormalized);
+
+	// 로그인용 (엔티티 대신 필요한 컬럼만, 읽기 전용 힌트)
+	@Transactional(readOnly = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+	@Query("select new com.yj.jwtauth.domain.user.dto.projection.SigninCredentials(u.id, u.email, u.password, u.role) "
+		+ "from User u where u.emailNormalized = :emailNormalized")
+	Optional<SigninCredentials> findSigninCredentials(@Param("emailNormalized") String emailNormalized);
+
+	// 내 정보 조회용 (캐시에 그대로 보관하는 불변 스냅샷)
+	@Transactional(readOnly = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+	@Query("select new com.yj.jwtauth.domain.user.cache.UserSnapshot("
+		+ "u.id, u.username, u.email, u.role, u.isDeleted, u.createdAt, u.updatedAt) "
+		+ "from User u where u.id = :id")
+	Optional<UserSnapshot> findSnapshotById(@Param("id") Long id);
+
+	// 토큰 일괄 발급용 (id IN 조회, 엔티티 대신 필요한 컬럼만)
+	@Query("select new com.yj.jwtauth.domain.user.dto.projection.TokenSubject(u.id, u.email, u.role) "
+		+ "from User u where u.id in :ids")
+	List<TokenSubject> findTokenSubjectsByIdIn(@Param("ids") Collection<Long> ids);
+
+	// 토큰 재발급용 단건 조회
+	@Query("select new com.yj.jwtauth.domain.user.dto.projection.TokenSubject(u.id, u.email, u.role) "
+		+ "from User u where u.id = :id")
+	Optional<TokenSubject> findTokenSubjectById(@Param("id") Long id);
+
+	/**
+	 * 역할 일괄 변경 (엔티티를 읽지 않는 UPDATE 한 번, 호출마다 트랜잭션 하나).
+	 * 이미 같은 역할인 행은 건드리지 않으므로 반환값은 실제로 바뀐 행 수.
+	 * 벌크 UPDATE에는 auditing이 적용되지 않아 updated_at을 직접 넘김
+	 */
+	@Transactional
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update User u set u.role = :role, u.updatedAt = :updatedAt where u.id in :ids and u.role <> :role")
+	int updateRoleByIdIn(
+		@Param("ids") Collection<Long> ids,
+		@Param("role") UserRole role,
+		@Param("updatedAt") LocalDateTime updatedAt
+	);
 
-	// 이미 가입된 이메일인지 체크
-	boolean existsByEmail(String email);
-}
\ No newline at end of file
+	// 이메일 도메인이 일치하는 유저 ID를 afterId 다음부터 id 순으로 (키셋 방식 청크 조회)
+	@Query("select u.id from User u where u.emailNormalized like :pattern and u.id > :afterId order by u.id")
+	List<Long> findIdsByEmailNormalizedLike(
+		@Param("pattern") String pattern,
+		@Param("afterId") Long afterId,
+		Limit limit
+	);
+}
@@ -0,0 +1,11 @@
+package com.yj.jwtauth.domain.user.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// 결과 스트림은 동시 실행 허가를 얻은 뒤에 엶 (거부되면 일반 오류 응답을 보낼 수 있도록)
+@FunctionalInterface
+public interface ResultOutput {
+
+	OutputStream open() throws IOException;
+}
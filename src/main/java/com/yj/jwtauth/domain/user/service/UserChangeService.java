@@ -0,0 +1,14 @@
+package com.yj.jwtauth.domain.user.service;
+
+import com.yj.jwtauth.domain.user.dto.response.UserChangesResponseDto;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface UserChangeService {
+
+	CompletableFuture<UserChangesResponseDto> getChanges(
+		String since,
+		int limit,
+		int waitSeconds
+	);
+}
@@ -0,0 +1,146 @@
+package com.yj.jwtauth.domain.user.service;
+
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.domain.user.changes.ChangeCursor;
+import com.yj.jwtauth.domain.user.dto.projection.UserSummary;
+import com.yj.jwtauth.domain.user.dto.response.UserChangesResponseDto;
+import com.yj.jwtauth.domain.user.repository.UserQueryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 변경 피드 ((updated_at, id) 커서).
+ *
+ * - 조회: 커서 이후 변경분을 limit개까지 반환하고 마지막 행의 위치를 새 커서로 돌려줌
+ * - 대기(long-poll): 변경이 없고 waitSeconds > 0이면 바로 응답하지 않고 대기 목록에 등록.
+ *   폴링 스레드 하나가 pollMillis마다 최신 변경 위치만 한 번 조회해서, 그보다 앞선 커서의 대기자만 다시 조회해 응답함.
+ *   대기자가 많아도 DB 조회는 주기당 한 번이며, waitSeconds 안에 변경이 없으면 빈 결과와 같은 커서로 응답
+ *
+ * updated_at은 커밋이 아니라 flush 시점의 시각이라, 늦게 커밋된 트랜잭션의 행이 이미 지나간 커서 앞에 나타날 수 있음.
+ * 그래서 settleMillis(트랜잭션 기본 타임아웃 이상)보다 오래된 변경만 내보내 커서가 지나간 자리에 행이 새로 생기지 않게 함
+ */
+@Service
+public class UserChangeServiceImpl implements UserChangeService {
+
+	private static final Logger logger = LoggerFactory.getLogger(UserChangeServiceImpl.class);
+
+	private final UserQueryRepository userQueryRepository;
+	private final Clock clock;
+	private final long settleMillis;
+	private final long pollMillis;
+	private final int maxWaiters;
+
+	private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+	private ScheduledExecutorService poller;
+
+	public UserChangeServiceImpl(
+		UserQueryRepository userQueryRepository,
+		Clock clock,
+		@Value("${user.changes.settle-millis:2000}") long settleMillis,
+		@Value("${user.changes.poll-millis:1000}") long pollMillis,
+		@Value("${user.changes.max-waiters:1000}") int maxWaiters
+	) {
+		this.userQueryRepository = userQueryRepository;
+		this.clock = clock;
+		this.settleMillis = settleMillis;
+		this.pollMillis = pollMillis;
+		this.maxWaiters = maxWaiters;
+	}
+
+	@PostConstruct
+	public void init() {
+		poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "user-changes-poller");
+			thread.setDaemon(true);
+			return thread;
+		});
+		poller.scheduleWithFixedDelay(this::wakeWaiters, pollMillis, pollMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		poller.shutdownNow();
+	}
+
+	/**
+	 * 변경이 있거나 대기하지 않는 요청은 바로 완료된 결과를 반환.
+	 * 대기자가 maxWaiters에 이르면 SERVER_BUSY (빈 결과로 바로 응답하면 클라이언트가 곧바로 다시 요청하게 되므로)
+	 */
+	@Override
+	public CompletableFuture<UserChangesResponseDto> getChanges(String since, int limit, int waitSeconds) {
+		ChangeCursor cursor = ChangeCursor.decode(since);
+		UserChangesResponseDto page = read(cursor, limit);
+		if (!page.getChanges().isEmpty() || waitSeconds == 0) {
+			return CompletableFuture.completedFuture(page);
+		}
+		if (waiters.size() >= maxWaiters) {
+			throw CustomRuntimeException.of(ErrorCode.SERVER_BUSY);
+		}
+
+		logger.debug("Waiting up to {}s for user changes after cursor: {}", waitSeconds, cursor);
+		Waiter waiter = new Waiter(cursor, limit, new CompletableFuture<>());
+		waiters.add(waiter);
+		waiter.result().whenComplete((result, e) -> waiters.remove(waiter));
+		waiter.result().completeOnTimeout(page, waitSeconds, TimeUnit.SECONDS);
+		return waiter.result();
+	}
+
+	int waiterCount() {
+		return waiters.size();
+	}
+
+	// 최신 변경 위치보다 앞선 커서의 대기자만 다시 조회 (실패해도 다음 주기에 다시 시도하도록 예외를 삼킴)
+	void wakeWaiters() {
+		if (waiters.isEmpty()) {
+			return;
+		}
+		try {
+			Optional<ChangeCursor> latest = userQueryRepository.findLatestChange(settledBefore());
+			if (latest.isEmpty()) {
+				return;
+			}
+			for (Waiter waiter : waiters) {
+				if (!waiter.result().isDone() && latest.get().isAfter(waiter.cursor())) {
+					waiter.result().complete(read(waiter.cursor(), waiter.limit()));
+				}
+			}
+		} catch (RuntimeException e) {
+			logger.warn("Failed to poll user changes for {} waiters", waiters.size(), e);
+		}
+	}
+
+	// limit + 1행을 조회해 더 있는지 판단
+	private UserChangesResponseDto read(ChangeCursor cursor, int limit) {
+		List<UserSummary> rows = userQueryRepository.findChanges(cursor, settledBefore(), limit + 1);
+		boolean hasMore = rows.size() > limit;
+		List<UserSummary> changes = hasMore ? rows.subList(0, limit) : rows;
+		ChangeCursor next = changes.isEmpty() ? cursor : ChangeCursor.of(changes.get(changes.size() - 1));
+		return new UserChangesResponseDto(changes, next == null ? null : next.encode(), hasMore);
+	}
+
+	// auditing(updated_at)과 같은 기준의 현재 시각에서 settleMillis를 뺀 시각
+	private LocalDateTime settledBefore() {
+		return LocalDateTime.now(clock).minus(settleMillis, ChronoUnit.MILLIS);
+	}
+
+	private record Waiter(ChangeCursor cursor, int limit, CompletableFuture<UserChangesResponseDto> result) {
+	}
+}
@@ -0,0 +1,16 @@
+package com.yj.jwtauth.domain.user.service;
+
+import com.yj.jwtauth.domain.user.imports.UserImportFormat;
+import com.yj.jwtauth.domain.user.imports.UserImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface UserImportService {
+
+	UserImportResult importUsers(
+		UserImportFormat format,
+		InputStream inputStream,
+		ResultOutput resultOutput
+	) throws IOException;
+}
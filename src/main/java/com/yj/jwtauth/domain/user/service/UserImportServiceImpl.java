@@ -0,0 +1,258 @@
+package com.yj.jwtauth.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.auth.password.ImportPasswordHasher;
+import com.yj.jwtauth.common.entity.User;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.domain.user.imports.UserImportFormat;
+import com.yj.jwtauth.domain.user.imports.UserImportReader;
+import com.yj.jwtauth.domain.user.imports.UserImportResult;
+import com.yj.jwtauth.domain.user.imports.UserImportRow;
+import com.yj.jwtauth.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Pattern;
+
+/**
+ * 유저 대량 가져오기.
+ * 본문을 CHUNK_SIZE 행씩 읽어 청크마다 검증 → 기존 이메일 IN 조회 1회 → 전용 풀에서 병렬 해시 → 트랜잭션 1개로 배치 INSERT.
+ * 거부된 행만 {"line":3,"email":"..","error":"EMAIL_ALREADY_EXISTS"} 형태로 기록하고, 마지막 줄에 요약을 씀.
+ * 파일 크기와 무관하게 메모리는 청크 하나 분량이며, 이미 커밋한 청크는 뒤에서 실패해도 유지됨
+ */
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+	private static final Logger logger = LoggerFactory.getLogger(UserImportServiceImpl.class);
+
+	// JDBC 배치 크기(User.ID_ALLOCATION_SIZE)의 배수
+	static final int CHUNK_SIZE = 500;
+
+	// 컬럼 길이 (VARCHAR 기본 255)
+	private static final int MAX_LENGTH = 255;
+
+	private static final Pattern EMAIL = Pattern.compile("^[^\\s@]+@[^\\s@]+$");
+	private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$(0[4-9]|[12]\\d|3[01])\\$[./0-9A-Za-z]{53}$");
+
+	private final UserRepository userRepository;
+	private final EntityManager entityManager;
+	private final ImportPasswordHasher passwordHasher;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+	private final Semaphore permits;
+
+	public UserImportServiceImpl(
+		UserRepository userRepository,
+		EntityManager entityManager,
+		ImportPasswordHasher passwordHasher,
+		PlatformTransactionManager transactionManager,
+		ObjectMapper objectMapper,
+		@Value("${user.import.max-concurrent:1}") int maxConcurrent
+	) {
+		this.userRepository = userRepository;
+		this.entityManager = entityManager;
+		this.passwordHasher = passwordHasher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.objectMapper = objectMapper;
+		this.permits = new Semaphore(maxConcurrent);
+	}
+
+	@Override
+	public UserImportResult importUsers(
+		UserImportFormat format,
+		InputStream inputStream,
+		ResultOutput resultOutput
+	) throws IOException {
+		if (!permits.tryAcquire()) {
+			throw CustomRuntimeException.of(ErrorCode.SERVER_BUSY);
+		}
+		try (UserImportReader reader = format.open(inputStream, objectMapper);
+			 JsonGenerator generator = objectMapper.getFactory().createGenerator(resultOutput.open())) {
+			generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+			long total = 0;
+			long imported = 0;
+			List<UserImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+			UserImportRow row;
+			while ((row = reader.next()) != null) {
+				chunk.add(row);
+				if (chunk.size() == CHUNK_SIZE) {
+					total += chunk.size();
+					imported += importChunk(chunk, generator);
+					chunk.clear();
+				}
+			}
+			if (!chunk.isEmpty()) {
+				total += chunk.size();
+				imported += importChunk(chunk, generator);
+			}
+
+			UserImportResult result = new UserImportResult(imported, total - imported);
+			generator.writeStartObject();
+			generator.writeNumberField("imported", result.imported());
+			generator.writeNumberField("rejected", result.rejected());
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+			generator.flush();
+			logger.info("User import finished, imported: {}, rejected: {}", result.imported(), result.rejected());
+			return result;
+		} finally {
+			permits.release();
+		}
+	}
+
+	// 청크 하나를 처리하고 INSERT 한 행 수를 반환, 거부된 행은 행 순서대로 기록
+	private int importChunk(List<UserImportRow> chunk, JsonGenerator generator) throws IOException {
+		ErrorCode[] errors = new ErrorCode[chunk.size()];
+		String[] emails = new String[chunk.size()];
+
+		// 형식 검증 + 파일 안 중복 (먼저 나온 행이 우선, 앞 청크와의 중복은 아래 DB 조회에서 걸림)
+		Map<String, Integer> candidates = new HashMap<>();
+		for (int i = 0; i < chunk.size(); i++) {
+			UserImportRow row = chunk.get(i);
+			if (!isValid(row)) {
+				errors[i] = ErrorCode.INVALID_IMPORT_ROW;
+				continue;
+			}
+			emails[i] = User.normalizeEmail(row.email());
+			if (candidates.putIfAbsent(emails[i], i) != null) {
+				errors[i] = ErrorCode.EMAIL_ALREADY_EXISTS;
+			}
+		}
+
+		// 이미 가입된 이메일은 해시 전에 제외
+		if (!candidates.isEmpty()) {
+			for (String existing : userRepository.findExistingEmailsNormalized(candidates.keySet())) {
+				errors[candidates.get(existing)] = ErrorCode.EMAIL_ALREADY_EXISTS;
+			}
+		}
+
+		// BCrypt는 로그인과 분리된 가져오기 전용 풀에서 병렬 실행, 청크가 모두 끝날 때까지 대기 (대기열 포화로 거부하지 않음)
+		String[] hashes = new String[chunk.size()];
+		List<Integer> toHash = new ArrayList<>();
+		List<String> rawPasswords = new ArrayList<>();
+		for (int i = 0; i < chunk.size(); i++) {
+			if (errors[i] != null) {
+				continue;
+			}
+			UserImportRow row = chunk.get(i);
+			if (row.passwordHash() != null) {
+				hashes[i] = row.passwordHash();
+			} else {
+				toHash.add(i);
+				rawPasswords.add(row.password());
+			}
+		}
+		if (!rawPasswords.isEmpty()) {
+			List<String> encoded = passwordHasher.encodeAll(rawPasswords);
+			for (int j = 0; j < toHash.size(); j++) {
+				hashes[toHash.get(j)] = encoded.get(j);
+			}
+		}
+
+		List<Integer> accepted = new ArrayList<>();
+		for (int i = 0; i < chunk.size(); i++) {
+			if (errors[i] == null) {
+				accepted.add(i);
+			}
+		}
+		int imported;
+		try {
+			imported = insert(chunk, hashes, accepted, errors);
+		} finally {
+			// open-in-view면 요청 동안 같은 영속성 컨텍스트가 유지되므로, 청크마다 비워야 저장한 엔티티가 쌓이지 않음
+			entityManager.clear();
+		}
+
+		for (int i = 0; i < chunk.size(); i++) {
+			if (errors[i] != null) {
+				writeRejected(generator, chunk.get(i), errors[i]);
+			}
+		}
+		generator.flush();
+		return imported;
+	}
+
+	/**
+	 * 트랜잭션 하나에서 배치 INSERT.
+	 * IN 조회 이후 같은 이메일로 동시에 가입한 경우에만 유니크 제약에 걸리며, 그때는 행마다 따로 INSERT 해서 해당 행만 거부
+	 */
+	private int insert(List<UserImportRow> chunk, String[] hashes, List<Integer> accepted, ErrorCode[] errors) {
+		if (accepted.isEmpty()) {
+			return 0;
+		}
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				List<User> users = new ArrayList<>(accepted.size());
+				for (int i : accepted) {
+					users.add(toUser(chunk.get(i), hashes[i]));
+				}
+				userRepository.saveAll(users);
+				userRepository.flush();
+			});
+			return accepted.size();
+		} catch (DataIntegrityViolationException e) {
+			logger.warn("Batch insert conflicted, retrying {} rows one by one", accepted.size());
+		}
+
+		int imported = 0;
+		for (int i : accepted) {
+			User user = toUser(chunk.get(i), hashes[i]);
+			try {
+				transactionTemplate.executeWithoutResult(status -> userRepository.saveAndFlush(user));
+				imported++;
+			} catch (DataIntegrityViolationException e) {
+				errors[i] = User.isEmailNormalizedConflict(e) ? ErrorCode.EMAIL_ALREADY_EXISTS : ErrorCode.INVALID_IMPORT_ROW;
+			}
+		}
+		return imported;
+	}
+
+	private static boolean isValid(UserImportRow row) {
+		if (isBlankOrTooLong(row.username()) || isBlankOrTooLong(row.email()) || !EMAIL.matcher(row.email().trim()).matches()) {
+			return false;
+		}
+		if (row.passwordHash() != null) {
+			return row.password() == null && BCRYPT_HASH.matcher(row.passwordHash()).matches();
+		}
+		return row.password() != null && !row.password().isBlank();
+	}
+
+	private static boolean isBlankOrTooLong(String value) {
+		return value == null || value.isBlank() || value.length() > MAX_LENGTH;
+	}
+
+	private static User toUser(UserImportRow row, String hash) {
+		return User.builder()
+			.username(row.username())
+			.email(row.email().trim())
+			.password(hash)
+			.build();
+	}
+
+	private static void writeRejected(JsonGenerator generator, UserImportRow row, ErrorCode error) throws IOException {
+		generator.writeStartObject();
+		generator.writeNumberField("line", row.line());
+		generator.writeStringField("email", row.email());
+		generator.writeStringField("error", error.name());
+		generator.writeEndObject();
+		generator.writeRaw('\n');
+	}
+}
@@ -0,0 +1,23 @@
+package com.yj.jwtauth.domain.user.service;
+
+import com.yj.jwtauth.domain.user.enums.UserRole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface UserListService {
+
+	void listUsers(
+		long afterId,
+		int size,
+		UserRole role,
+		String emailPrefix,
+		OutputStream outputStream
+	) throws IOException;
+
+	long exportUsers(
+		LocalDateTime updatedSince,
+		ResultOutput resultOutput
+	) throws IOException;
+}
@@ -0,0 +1,146 @@
+package com.yj.jwtauth.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.common.entity.User;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import com.yj.jwtauth.domain.user.repository.UserQueryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+
+@Service
+public class UserListServiceImpl implements UserListService {
+
+	private static final Logger logger = LoggerFactory.getLogger(UserListServiceImpl.class);
+
+	private final UserQueryRepository userQueryRepository;
+	private final ObjectMapper objectMapper;
+	private final Semaphore exportPermits;
+
+	public UserListServiceImpl(
+		UserQueryRepository userQueryRepository,
+		ObjectMapper objectMapper,
+		@Value("${user.export.max-concurrent:2}") int maxConcurrentExports
+	) {
+		this.userQueryRepository = userQueryRepository;
+		this.objectMapper = objectMapper;
+		this.exportPermits = new Semaphore(maxConcurrentExports);
+	}
+
+	/**
+	 * {"users":[...],"nextAfterId":123} 형태로 한 페이지를 기록 (마지막 페이지면 nextAfterId는 null).
+	 * size + 1행을 조회해 다음 페이지가 있는지 판단하고, 행은 읽는 대로 바로 직렬화함
+	 */
+	@Override
+	public void listUsers(
+		long afterId,
+		int size,
+		UserRole role,
+		String emailPrefix,
+		OutputStream outputStream
+	) throws IOException {
+		logger.debug("Listing users after ID: {}, size: {}, role: {}, email prefix: {}", afterId, size, role, emailPrefix);
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+			generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+			// 도중에 실패하면 닫히지 않은 JSON을 그대로 두어 잘린 응답임을 알 수 있게 함
+			generator.configure(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT, false);
+			generator.writeStartObject();
+			generator.writeArrayFieldStart("users");
+
+			PageCursor cursor = new PageCursor(size);
+			try {
+				userQueryRepository.findPage(afterId, size + 1, role,
+					emailPrefix == null ? null : User.normalizeEmail(emailPrefix),
+					user -> {
+						if (cursor.accept(user.id())) {
+							try {
+								UserSummaryJson.write(generator, user);
+							} catch (IOException e) {
+								throw new UncheckedIOException(e);
+							}
+						}
+					});
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+
+			generator.writeEndArray();
+			if (cursor.hasMore) {
+				generator.writeNumberField("nextAfterId", cursor.lastId);
+			} else {
+				generator.writeNullField("nextAfterId");
+			}
+			generator.writeEndObject();
+		}
+	}
+
+	/**
+	 * 유저 한 명당 한 줄씩 NDJSON으로 기록하고 기록한 수를 반환.
+	 * 길게 실행되므로 벌크헤드 대신 동시 실행 수로 제한하며, 넘으면 응답을 쓰기 전에 SERVER_BUSY.
+	 * 도중에 실패하면 스트림을 닫지 않아(gzip 마무리 블록도 쓰지 않음) 연결이 비정상 종료되므로 잘린 내보내기가 완료로 보이지 않음
+	 */
+	@Override
+	public long exportUsers(LocalDateTime updatedSince, ResultOutput resultOutput) throws IOException {
+		if (!exportPermits.tryAcquire()) {
+			throw CustomRuntimeException.of(ErrorCode.SERVER_BUSY);
+		}
+		logger.debug("Exporting users updated since: {}", updatedSince);
+		try {
+			OutputStream outputStream = resultOutput.open();
+			JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+			generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+			long exported;
+			try {
+				exported = userQueryRepository.streamAll(updatedSince, user -> {
+					try {
+						UserSummaryJson.write(generator, user);
+						generator.writeRaw('\n');
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+			generator.close();
+			outputStream.close();
+			logger.info("Exported {} users (updated since: {})", exported, updatedSince);
+			return exported;
+		} finally {
+			exportPermits.release();
+		}
+	}
+
+	// 기록한 행 수와 마지막 id, size를 넘는 행이 오면 다음 페이지가 있다는 뜻
+	private static final class PageCursor {
+
+		private final int size;
+		private int written;
+		private long lastId;
+		private boolean hasMore;
+
+		private PageCursor(int size) {
+			this.size = size;
+		}
+
+		private boolean accept(long id) {
+			if (written == size) {
+				hasMore = true;
+				return false;
+			}
+			written++;
+			lastId = id;
+			return true;
+		}
+	}
+}
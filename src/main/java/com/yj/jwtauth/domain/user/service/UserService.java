@@ -2,7 +2,9 @@ package com.yj.jwtauth.domain.user.service;
 
 import com.yj.jwtauth.domain.user.dto.request.SignupRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
+import com.yj.jwtauth.domain.user.dto.request.RoleBulkUpdateRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.RoleUpdateRequestDto;
+import com.yj.jwtauth.domain.user.dto.response.RoleBulkUpdateResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.SignupResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.UserResponseDto;
@@ -26,6 +28,10 @@ public interface UserService {
 		RoleUpdateRequestDto roleUpdateRequestDto
 	);
 
+	RoleBulkUpdateResponseDto assignRoles(
+		RoleBulkUpdateRequestDto requestDto
+	);
+
 	UserResponseDto getMyInfo(
 		Long userId
 	);
@@ -1,12 +1,18 @@
 package com.yj.jwtauth.domain.user.service;
 
 import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.refresh.RefreshTokenStore;
 import com.yj.jwtauth.common.entity.User;
 import com.yj.jwtauth.common.exception.CustomRuntimeException;
 import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.domain.user.cache.UserSnapshot;
+import com.yj.jwtauth.domain.user.cache.UserSnapshotCache;
+import com.yj.jwtauth.domain.user.dto.projection.SigninCredentials;
+import com.yj.jwtauth.domain.user.dto.request.RoleBulkUpdateRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.RoleUpdateRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.SignupRequestDto;
+import com.yj.jwtauth.domain.user.dto.response.RoleBulkUpdateResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.SignupResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.UserResponseDto;
@@ -15,44 +21,58 @@ import com.yj.jwtauth.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
 	private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
+
+	// 역할 일괄 변경 시 UPDATE 한 번(트랜잭션 하나)에 묶는 유저 수
+	static final int ROLE_UPDATE_CHUNK_SIZE = 1000;
+
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final JwtService jwtService;
-
+	private final RefreshTokenStore refreshTokenStore;
+	private final UserSnapshotCache userSnapshotCache;
+	private final Clock clock;
+
+	/**
+	 * BCrypt는 트랜잭션 밖에서 먼저 계산하고, INSERT만 리포지토리 트랜잭션에서 실행.
+	 * 해시 풀 대기와 해시 시간 동안 커넥션을 잡거나 트랜잭션 타임아웃(기본 2초)이 흐르지 않게 함
+	 */
 	@Override
-	@Transactional
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public SignupResponseDto userSignup(SignupRequestDto requestDto) {
 		logger.debug("User signup for email: {}", requestDto.getEmail());
-		validateDuplicateEmail(requestDto.getEmail());
-
 		User user = User.builder()
 			.username(requestDto.getUsername())
 			.email(requestDto.getEmail())
 			.password(passwordEncoder.encode(requestDto.getPassword()))
 			.build();
 
-		User savedUser = userRepository.save(user);
+		User savedUser = insert(user);
 		logger.debug("User saved with ID: {}", savedUser.getId());
 
 		return toSignupResponse(savedUser);
 	}
 
 	@Override
-	@Transactional
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public SignupResponseDto adminSignup(SignupRequestDto requestDto) {
 		logger.debug("Admin signup for email: {}", requestDto.getEmail());
-		validateDuplicateEmail(requestDto.getEmail());
-
 		User admin = User.builder()
 			.username(requestDto.getUsername())
 			.email(requestDto.getEmail())
@@ -60,29 +80,32 @@ public class UserServiceImpl implements UserService {
 			.build();
 
 		admin.updateRole(UserRole.ADMIN);
-		User savedAdmin = userRepository.save(admin);
+		User savedAdmin = insert(admin);
 		logger.debug("Admin saved with ID: {}", savedAdmin.getId());
 
 		return toSignupResponse(savedAdmin);
 	}
 
+	// 조회는 리포지토리 트랜잭션에서 끝내고, BCrypt 비교 동안에는 커넥션을 잡고 있지 않음
 	@Override
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public SigninResponseDto userOrAdminSignin(SigninRequestDto requestDto) {
 		logger.debug("Signin attempt for email: {}", requestDto.getEmail());
-		User user = userRepository.findByEmail(requestDto.getEmail())
+		SigninCredentials user = userRepository.findSigninCredentials(User.normalizeEmail(requestDto.getEmail()))
 			.orElseThrow(() -> {
 				logger.warn("User not found for email: {}", requestDto.getEmail());
 				return new CustomRuntimeException(ErrorCode.INVALID_CREDENTIALS);
 			});
 
-		if (!passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
+		if (!passwordEncoder.matches(requestDto.getPassword(), user.password())) {
 			logger.warn("Invalid password for email: {}", requestDto.getEmail());
 			throw new CustomRuntimeException(ErrorCode.INVALID_CREDENTIALS);
 		}
 
-		String token = jwtService.createToken(user.getId(), user.getEmail(), user.getRole());
-		logger.debug("Generated token for user ID: {}", user.getId());
-		return new SigninResponseDto(token);
+		String token = jwtService.createToken(user.id(), user.email(), user.role());
+		String refreshToken = refreshTokenStore.issue(user.id(), clock.millis());
+		logger.debug("Generated token for user ID: {}", user.id());
+		return new SigninResponseDto(token, refreshToken);
 	}
 
 	@Override
@@ -96,27 +119,86 @@ public class UserServiceImpl implements UserService {
 			});
 
 		user.updateRole(dto.getRole());
+		userSnapshotCache.invalidate(userId);
 		logger.debug("Updated role for user ID: {}", userId);
 
 		return new UserResponseDto(user) {};
 	}
 
+	/**
+	 * 역할 일괄 변경. 엔티티를 읽지 않고 ROLE_UPDATE_CHUNK_SIZE명씩 UPDATE ... WHERE id IN (...) 실행.
+	 * 청크마다 따로 커밋해 잠금을 짧게 유지하므로 중간에 실패하면 앞 청크의 변경은 남음 (같은 요청을 다시 보내면 됨)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public RoleBulkUpdateResponseDto assignRoles(RoleBulkUpdateRequestDto dto) {
+		UserRole role = dto.getRole();
+		long requested = 0;
+		long updated = 0;
+
+		if (dto.getEmailDomain() != null) {
+			logger.debug("Assigning role {} to users of domain: {}", role, dto.getEmailDomain());
+			String pattern = "%@" + User.normalizeEmail(dto.getEmailDomain());
+			Long afterId = 0L;
+			List<Long> chunk;
+			while (!(chunk = userRepository.findIdsByEmailNormalizedLike(pattern, afterId, Limit.of(ROLE_UPDATE_CHUNK_SIZE))).isEmpty()) {
+				requested += chunk.size();
+				updated += updateRoles(chunk, role);
+				afterId = chunk.get(chunk.size() - 1);
+			}
+		} else {
+			List<Long> userIds = dto.getUserIds().stream().distinct().toList();
+			logger.debug("Assigning role {} to {} users", role, userIds.size());
+			for (int from = 0; from < userIds.size(); from += ROLE_UPDATE_CHUNK_SIZE) {
+				updated += updateRoles(userIds.subList(from, Math.min(from + ROLE_UPDATE_CHUNK_SIZE, userIds.size())), role);
+			}
+			requested = userIds.size();
+		}
+
+		logger.debug("Assigned role {} to {} of {} users", role, updated, requested);
+		return new RoleBulkUpdateResponseDto(role, requested, updated);
+	}
+
+	// 청크의 스냅샷 캐시는 커밋 후 한 번에 제거 (바뀌지 않은 유저가 섞여 있어도 제거해도 무방)
+	private int updateRoles(List<Long> userIds, UserRole role) {
+		int updated = userRepository.updateRoleByIdIn(userIds, role, LocalDateTime.now(clock));
+		userSnapshotCache.invalidateAll(userIds);
+		return updated;
+	}
+
+	// 캐시 적중 시 트랜잭션 없이 반환, 미스일 때만 프로젝션 쿼리로 조회
 	@Override
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public UserResponseDto getMyInfo(Long userId) {
 		logger.debug("Fetching info for user ID: {}", userId);
-		User user = userRepository.findById(userId)
+		UserSnapshot user = userSnapshotCache.get(userId, this::loadSnapshot);
+		return new UserResponseDto(user) {};
+	}
+
+	private UserSnapshot loadSnapshot(Long userId) {
+		UserSnapshot user = userRepository.findSnapshotById(userId)
 			.orElseThrow(() -> {
 				logger.error("User not found for ID: {}", userId);
 				return new CustomRuntimeException(ErrorCode.ACCESS_DENIED);
 			});
 
-		logger.debug("User found: email={}, role={}", user.getEmail(), user.getRole());
-		return new UserResponseDto(user) {};
+		logger.debug("User found: email={}, role={}", user.email(), user.role());
+		return user;
 	}
 
-	private void validateDuplicateEmail(String email) {
-		if (userRepository.existsByEmail(email)) {
-			logger.warn("Email already exists: {}", email);
+	/**
+	 * 존재 여부를 먼저 조회하지 않고 INSERT 한 번으로 중복을 확인함 (saveAndFlush가 자체 트랜잭션으로 실행).
+	 * 동시에 같은 이메일로 가입해도 email_normalized 유니크 제약에 걸려 하나만 성공
+	 * 그 밖의 무결성 위반(NOT NULL, 길이 등)은 이메일 중복이 아니므로 그대로 던짐
+	 */
+	private User insert(User user) {
+		try {
+			return userRepository.saveAndFlush(user);
+		} catch (DataIntegrityViolationException e) {
+			if (!User.isEmailNormalizedConflict(e)) {
+				throw e;
+			}
+			logger.warn("Email already exists: {}", user.getEmail());
 			throw new CustomRuntimeException(ErrorCode.EMAIL_ALREADY_EXISTS);
 		}
 	}
@@ -0,0 +1,36 @@
+package com.yj.jwtauth.domain.user.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.yj.jwtauth.domain.user.dto.projection.UserSummary;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// UserSummary를 JsonGenerator에 직접 기록 (행마다 리플렉션 직렬화 없이)
+// 필드 이름은 UserResponseDto의 JSON과 같음 (isDeleted()는 "deleted"로 직렬화됨)
+final class UserSummaryJson {
+
+	private UserSummaryJson() {
+	}
+
+	static void write(JsonGenerator generator, UserSummary user) throws IOException {
+		generator.writeStartObject();
+		generator.writeNumberField("id", user.id());
+		generator.writeStringField("username", user.username());
+		generator.writeStringField("email", user.email());
+		generator.writeStringField("role", user.role().name());
+		generator.writeBooleanField("deleted", user.isDeleted());
+		writeDateTime(generator, "createdAt", user.createdAt());
+		writeDateTime(generator, "updatedAt", user.updatedAt());
+		generator.writeEndObject();
+	}
+
+	private static void writeDateTime(JsonGenerator generator, String field, LocalDateTime value) throws IOException {
+		if (value == null) {
+			generator.writeNullField(field);
+		} else {
+			generator.writeStringField(field, DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+		}
+	}
+}
@@ -0,0 +1,302 @@
+package com.yj.jwtauth.auth;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.auth.key.JwkSet;
+import com.yj.jwtauth.auth.key.JwtKey;
+import com.yj.jwtauth.auth.key.JwtKeyRing;
+import com.yj.jwtauth.common.datas.SharedData;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtServiceTest {
+
+	private static final String SECRET = "test-secret-key-for-jwt-service";
+
+	private JwtService jwtService;
+
+	@BeforeEach
+	void setUp() {
+		jwtService = createJwtService("HS256");
+	}
+
+	private JwtService createJwtService(String signingAlgorithm) {
+		JwtService service = new JwtService(Clock.systemUTC(), new AuthMetrics(new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(service, "secretKey", SECRET);
+		ReflectionTestUtils.setField(service, "secretKid", "k1");
+		ReflectionTestUtils.setField(service, "expirationTime", 60L);
+		ReflectionTestUtils.setField(service, "signingAlgorithm", signingAlgorithm);
+		ReflectionTestUtils.setField(service, "ecKid", "es256-1");
+		ReflectionTestUtils.setField(service, "ecPublicKey", "");
+		ReflectionTestUtils.setField(service, "ecPrivateKey", "");
+		service.init();
+		return service;
+	}
+
+	private String createValidToken() {
+		return jwtService.createToken(SharedData.VALID_USER_ID, SharedData.VALID_EMAIL, UserRole.USER);
+	}
+
+	@Test
+	@DisplayName("success: 발급한 토큰 검증 및 kid 헤더 포함")
+	void createAndVerify() {
+		// when
+		DecodedJWT decoded = jwtService.verifyToken(createValidToken());
+
+		// then
+		assertThat(decoded.getKeyId()).isEqualTo("k1");
+		assertThat(decoded.getSubject()).isEqualTo(SharedData.VALID_USER_ID.toString());
+		assertThat(decoded.getClaim("email").asString()).isEqualTo(SharedData.VALID_EMAIL);
+		assertThat(decoded.getClaim("roles").asList(String.class)).containsExactly(UserRole.USER.getRole());
+	}
+
+	@Test
+	@DisplayName("success: 키 교체 후에도 이전 키로 서명된 토큰 검증")
+	void rotateKeepsPreviousKey() {
+		// given
+		String oldToken = createValidToken();
+
+		// when
+		jwtService.rotateKey("k2", "rotated-secret-key-for-jwt-service");
+		String newToken = createValidToken();
+
+		// then
+		assertThat(jwtService.verifyToken(oldToken).getKeyId()).isEqualTo("k1");
+		assertThat(jwtService.verifyToken(newToken).getKeyId()).isEqualTo("k2");
+	}
+
+	@Test
+	@DisplayName("fail: 폐기한 키로 서명된 토큰 검증 시 예외 발생")
+	void retiredKeyRejected() {
+		// given
+		String oldToken = createValidToken();
+		jwtService.rotateKey("k2", "rotated-secret-key-for-jwt-service");
+
+		// when
+		jwtService.retireKey("k1");
+
+		// then
+		assertThatThrownBy(() -> jwtService.verifyToken(oldToken))
+			.isInstanceOf(CustomRuntimeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+	}
+
+	@Test
+	@DisplayName("fail: 활성 키는 폐기 불가")
+	void retireActiveKeyRejected() {
+		assertThatThrownBy(() -> jwtService.retireKey("k1"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("success: kid 없는 기존 토큰은 최초 설정 키로 검증")
+	void legacyTokenWithoutKid() {
+		// given
+		Instant now = Instant.now();
+		String legacyToken = JWT.create()
+			.withIssuer("auth0")
+			.withSubject("1")
+			.withIssuedAt(now)
+			.withExpiresAt(now.plus(10, ChronoUnit.MINUTES))
+			.sign(Algorithm.HMAC256(SECRET));
+
+		// when
+		DecodedJWT decoded = jwtService.verifyToken(legacyToken);
+
+		// then
+		assertThat(decoded.getSubject()).isEqualTo("1");
+	}
+
+	@Test
+	@DisplayName("fail: 알 수 없는 kid의 토큰 검증 시 예외 발생")
+	void unknownKidRejected() {
+		// given
+		Instant now = Instant.now();
+		String foreignToken = JWT.create()
+			.withKeyId("unknown")
+			.withIssuer("auth0")
+			.withExpiresAt(now.plus(10, ChronoUnit.MINUTES))
+			.sign(Algorithm.HMAC256(SECRET));
+
+		// when, then
+		assertThatThrownBy(() -> jwtService.verifyToken(foreignToken))
+			.isInstanceOf(CustomRuntimeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+	}
+
+	@Test
+	@DisplayName("success: ES256 모드에서 ES256 토큰과 기존 HS256 토큰 동시 검증")
+	void es256AndHs256VerifyTogether() {
+		// given
+		String hs256Token = createValidToken();
+		JwtService es256Service = createJwtService("ES256");
+
+		// when
+		String es256Token = es256Service.createToken(SharedData.VALID_USER_ID, SharedData.VALID_EMAIL, UserRole.USER);
+
+		// then
+		DecodedJWT es256Decoded = es256Service.verifyToken(es256Token);
+		assertThat(es256Decoded.getAlgorithm()).isEqualTo("ES256");
+		assertThat(es256Decoded.getKeyId()).isEqualTo("es256-1");
+		assertThat(es256Service.verifyToken(hs256Token).getAlgorithm()).isEqualTo("HS256");
+	}
+
+	@Test
+	@DisplayName("success: JWKS에는 ES256 공개 키만 포함")
+	void jwkSetContainsOnlyPublicKeys() throws Exception {
+		// given
+		JwtService es256Service = createJwtService("ES256");
+
+		// when
+		JwkSet jwkSet = JwkSet.of(es256Service.getKeyRing(), new ObjectMapper(), System.currentTimeMillis());
+
+		// then
+		JsonNode keys = new ObjectMapper().readTree(jwkSet.getBody()).get("keys");
+		assertThat(keys.size()).isEqualTo(1);
+		assertThat(keys.get(0).get("kid").asText()).isEqualTo("es256-1");
+		assertThat(keys.get(0).get("kty").asText()).isEqualTo("EC");
+		assertThat(keys.get(0).has("d")).isFalse();
+		assertThat(jwkSet.getEtag()).startsWith("\"").endsWith("\"");
+	}
+
+	@Test
+	@DisplayName("success: 교체 전 키의 폐기 시각이 지나면 JWKS를 다시 만들어 해당 키를 제외")
+	void jwkSetExpiresWhenKeyRetires() throws Exception {
+		// given
+		long now = 1_745_000_000_000L;
+		JwtKeyRing ring = JwtKeyRing.of(JwtKey.es256("es256-1", JwtKey.generateEs256KeyPair()))
+			.rotate(JwtKey.es256("es256-2", JwtKey.generateEs256KeyPair()), now, 60_000L);
+		JwkSet jwkSet = JwkSet.of(ring, new ObjectMapper(), now);
+
+		// when
+		JwkSet rebuilt = JwkSet.of(ring, new ObjectMapper(), now + 60_000L);
+
+		// then
+		assertThat(new ObjectMapper().readTree(jwkSet.getBody()).get("keys").size()).isEqualTo(2);
+		assertThat(jwkSet.isCurrentFor(ring, now + 59_999L)).isTrue();
+		assertThat(jwkSet.isCurrentFor(ring, now + 60_000L)).isFalse();
+		JsonNode keys = new ObjectMapper().readTree(rebuilt.getBody()).get("keys");
+		assertThat(keys.size()).isEqualTo(1);
+		assertThat(keys.get(0).get("kid").asText()).isEqualTo("es256-2");
+		assertThat(rebuilt.getEtag()).isNotEqualTo(jwkSet.getEtag());
+		assertThat(rebuilt.isCurrentFor(ring, now + 600_000L)).isTrue();
+	}
+
+	@Test
+	@DisplayName("success: 빠른 검증 경로로 필요한 클레임만 추출")
+	void verifyClaims() {
+		// when
+		VerifiedToken verified = jwtService.verifyClaims(createValidToken());
+
+		// then
+		assertThat(verified.userId()).isEqualTo(SharedData.VALID_USER_ID);
+		assertThat(verified.email()).isEqualTo(SharedData.VALID_EMAIL);
+		assertThat(verified.role()).isEqualTo(UserRole.USER);
+		assertThat(verified.expiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+	}
+
+	@Test
+	@DisplayName("fail: 서명이 변조된 토큰은 빠른 검증 경로에서 거부")
+	void verifyClaimsTamperedSignature() {
+		// given
+		String token = createValidToken();
+		char last = token.charAt(token.length() - 1);
+		String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+		// when, then
+		assertThatThrownBy(() -> jwtService.verifyClaims(tampered))
+			.isInstanceOf(CustomRuntimeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+	}
+
+	@Test
+	@DisplayName("fail: 만료된 토큰은 빠른 검증 경로에서 거부")
+	void verifyClaimsExpired() {
+		// given
+		Instant past = Instant.now().minus(2, ChronoUnit.HOURS);
+		String expiredToken = JWT.create()
+			.withKeyId("k1")
+			.withIssuer("auth0")
+			.withSubject("1")
+			.withClaim("email", SharedData.VALID_EMAIL)
+			.withClaim("roles", java.util.List.of(UserRole.USER.getRole()))
+			.withIssuedAt(past)
+			.withExpiresAt(past.plus(1, ChronoUnit.HOURS))
+			.sign(Algorithm.HMAC256(SECRET));
+
+		// when, then
+		assertThatThrownBy(() -> jwtService.verifyClaims(expiredToken))
+			.isInstanceOf(CustomRuntimeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+	}
+
+	@Test
+	@DisplayName("success: 빠른 경로가 처리하지 않는 형태(kid 없음, 이스케이프)는 일반 경로로 검증")
+	void verifyClaimsFallback() {
+		// given
+		Instant now = Instant.now();
+		String legacyToken = JWT.create()
+			.withIssuer("auth0")
+			.withSubject("7")
+			.withClaim("email", "quote\"user@example.com")
+			.withClaim("roles", java.util.List.of(UserRole.ADMIN.getRole()))
+			.withIssuedAt(now)
+			.withExpiresAt(now.plus(10, ChronoUnit.MINUTES))
+			.sign(Algorithm.HMAC256(SECRET));
+
+		// when
+		VerifiedToken verified = jwtService.verifyClaims(legacyToken);
+
+		// then
+		assertThat(verified.userId()).isEqualTo(7L);
+		assertThat(verified.email()).isEqualTo("quote\"user@example.com");
+		assertThat(verified.role()).isEqualTo(UserRole.ADMIN);
+	}
+
+	@Test
+	@DisplayName("success: 사전 인코딩 경로로 발급한 토큰은 표준 검증기로도 검증")
+	void mintedTokenVerifiesWithStandardVerifier() {
+		// given
+		String email = "quote\"유저\\@example.com";
+		Clock fixedClock = Clock.fixed(Instant.now().truncatedTo(ChronoUnit.SECONDS), ZoneOffset.UTC);
+		JwtService fixedService = new JwtService(fixedClock, new AuthMetrics(new SimpleMeterRegistry()));
+		ReflectionTestUtils.setField(fixedService, "secretKey", SECRET);
+		ReflectionTestUtils.setField(fixedService, "secretKid", "k1");
+		ReflectionTestUtils.setField(fixedService, "expirationTime", 60L);
+		ReflectionTestUtils.setField(fixedService, "signingAlgorithm", "HS256");
+		fixedService.init();
+
+		// when
+		String token = fixedService.createToken(SharedData.VALID_USER_ID, email, UserRole.ADMIN);
+
+		// then
+		DecodedJWT decoded = JWT.require(Algorithm.HMAC256(SECRET))
+			.withIssuer("auth0")
+			.build()
+			.verify(token);
+		assertThat(decoded.getKeyId()).isEqualTo("k1");
+		assertThat(decoded.getSubject()).isEqualTo(SharedData.VALID_USER_ID.toString());
+		assertThat(decoded.getClaim("email").asString()).isEqualTo(email);
+		assertThat(decoded.getClaim("roles").asList(String.class)).containsExactly(UserRole.ADMIN.getRole());
+		assertThat(decoded.getId()).isNotBlank();
+		assertThat(decoded.getIssuedAtAsInstant()).isEqualTo(fixedClock.instant());
+		assertThat(decoded.getExpiresAtAsInstant()).isEqualTo(fixedClock.instant().plus(60, ChronoUnit.MINUTES));
+	}
+}
@@ -0,0 +1,88 @@
+package com.yj.jwtauth.auth.cache;
+
+import com.yj.jwtauth.auth.principal.AuthPrincipal;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+	private VerifiedTokenCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new VerifiedTokenCache(Clock.systemUTC());
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "maxSize", 100L);
+		cache.init();
+	}
+
+	private CachedAuthentication authenticationExpiringIn(long millis) {
+		return new CachedAuthentication(
+			"jti-1",
+			"k1",
+			new AuthPrincipal(1L, "userA@example.com", UserRole.USER),
+			System.currentTimeMillis() + millis
+		);
+	}
+
+	@Test
+	@DisplayName("success: 저장한 인증 정보를 같은 토큰으로 조회")
+	void putAndGet() {
+		// given
+		CachedAuthentication authentication = authenticationExpiringIn(60_000L);
+
+		// when
+		cache.put("token-a", authentication);
+
+		// then
+		assertThat(cache.get("token-a")).isSameAs(authentication);
+		assertThat(cache.get("token-b")).isNull();
+		assertThat(cache.stats().hitCount()).isEqualTo(1);
+		assertThat(cache.stats().missCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("fail: exp가 지난 인증 정보는 조회되지 않음")
+	void expiredNotServed() {
+		// when
+		cache.put("token-a", authenticationExpiringIn(-1L));
+
+		// then
+		assertThat(cache.get("token-a")).isNull();
+	}
+
+	@Test
+	@DisplayName("success: 무효화한 토큰은 캐시에서 제거")
+	void invalidate() {
+		// given
+		cache.put("token-a", authenticationExpiringIn(60_000L));
+
+		// when
+		cache.invalidate("token-a");
+
+		// then
+		assertThat(cache.get("token-a")).isNull();
+	}
+
+	@Test
+	@DisplayName("success: 비활성 상태에서는 저장하지 않음")
+	void disabled() {
+		// given
+		VerifiedTokenCache disabledCache = new VerifiedTokenCache(Clock.systemUTC());
+		disabledCache.init();
+
+		// when
+		disabledCache.put("token-a", authenticationExpiringIn(60_000L));
+
+		// then
+		assertThat(disabledCache.isEnabled()).isFalse();
+		assertThat(disabledCache.get("token-a")).isNull();
+	}
+}
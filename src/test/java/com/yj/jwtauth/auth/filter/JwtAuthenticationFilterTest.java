@@ -0,0 +1,94 @@
+package com.yj.jwtauth.auth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.cache.VerifiedTokenCache;
+import com.yj.jwtauth.auth.revocation.TokenRevocationList;
+import com.yj.jwtauth.auth.route.RouteRegistry;
+import com.yj.jwtauth.common.exception.error.ErrorResponseWriter;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+	@Mock
+	private TokenRevocationList tokenRevocationList;
+
+	private JwtService jwtService;
+	private VerifiedTokenCache verifiedTokenCache;
+	private JwtAuthenticationFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		AuthMetrics authMetrics = new AuthMetrics(new SimpleMeterRegistry());
+		jwtService = new JwtService(Clock.systemUTC(), authMetrics);
+		ReflectionTestUtils.setField(jwtService, "secretKey", "test-secret-key-for-jwt-filter");
+		ReflectionTestUtils.setField(jwtService, "secretKid", "k1");
+		ReflectionTestUtils.setField(jwtService, "expirationTime", 60L);
+		ReflectionTestUtils.setField(jwtService, "signingAlgorithm", "HS256");
+		ReflectionTestUtils.setField(jwtService, "ecKid", "es256-1");
+		ReflectionTestUtils.setField(jwtService, "ecPublicKey", "");
+		ReflectionTestUtils.setField(jwtService, "ecPrivateKey", "");
+		jwtService.init();
+
+		verifiedTokenCache = new VerifiedTokenCache(Clock.systemUTC());
+		ReflectionTestUtils.setField(verifiedTokenCache, "enabled", true);
+		ReflectionTestUtils.setField(verifiedTokenCache, "maxSize", 100L);
+		verifiedTokenCache.init();
+
+		filter = new JwtAuthenticationFilter(jwtService, verifiedTokenCache, tokenRevocationList, new RouteRegistry(),
+			new ErrorResponseWriter(new ObjectMapper(), authMetrics));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("fail: 캐시된 토큰이라도 서명 키를 폐기하면 401")
+	void retiredKeyRejectsCachedToken() throws Exception {
+		// given: k1로 서명한 토큰을 한 번 통과시켜 캐시에 넣고, k2로 교체
+		String token = jwtService.createToken(1L, "user@example.com", UserRole.USER);
+		MockFilterChain firstChain = new MockFilterChain();
+		filter.doFilter(request(token), new MockHttpServletResponse(), firstChain);
+		assertThat(firstChain.getRequest()).isNotNull();
+		assertThat(verifiedTokenCache.get(token)).isNotNull();
+		jwtService.rotateKey("k2", "rotated-secret-key-for-jwt-filter");
+
+		// when
+		jwtService.retireKey("k1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain secondChain = new MockFilterChain();
+		filter.doFilter(request(token), response, secondChain);
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(401);
+		assertThat(secondChain.getRequest()).isNull();
+		assertThat(verifiedTokenCache.get(token)).isNull();
+	}
+
+	private static MockHttpServletRequest request(String token) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/my-informations");
+		request.addHeader("Authorization", "Bearer " + token);
+		return request;
+	}
+}
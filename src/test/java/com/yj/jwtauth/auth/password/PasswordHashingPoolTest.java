@@ -0,0 +1,98 @@
+package com.yj.jwtauth.auth.password;
+
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordHashingPoolTest {
+
+	private SimpleMeterRegistry registry;
+	private PasswordHashingPool pool;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		pool = new PasswordHashingPool(1, 1, new AuthMetrics(registry));
+	}
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdown();
+	}
+
+	@Test
+	@DisplayName("success: 풀에서 실행한 BCrypt 결과를 그대로 반환")
+	void encodesOnPool() {
+		// given
+		PooledPasswordEncoder passwordEncoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(4), pool);
+
+		// when
+		String encoded = passwordEncoder.encode("Password123!");
+
+		// then
+		assertThat(passwordEncoder.matches("Password123!", encoded)).isTrue();
+		assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+	}
+
+	@Test
+	@DisplayName("fail: 대기열이 가득 차면 SERVER_BUSY로 즉시 거부")
+	void rejectsWhenQueueIsFull() throws Exception {
+		// given: 스레드 1개는 작업 중, 대기열 1칸은 대기 작업으로 채움
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService callers = Executors.newFixedThreadPool(2);
+		try {
+			callers.submit(() -> pool.execute(() -> {
+				started.countDown();
+				awaitQuietly(release);
+				return true;
+			}));
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			callers.submit(() -> pool.execute(() -> true));
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (registry.get("auth.password.pool.queued").gauge().value() < 1 && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+
+			// when, then
+			assertThatThrownBy(() -> pool.execute(() -> true))
+				.isInstanceOf(CustomRuntimeException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVER_BUSY);
+			assertThat(registry.get("auth.password.pool.active").gauge().value()).isEqualTo(1.0);
+		} finally {
+			release.countDown();
+			callers.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("fail: 작업에서 발생한 런타임 예외는 호출 측에 그대로 전달")
+	void propagatesRuntimeException() {
+		assertThatThrownBy(() -> pool.execute(() -> {
+			throw new IllegalArgumentException("bad hash");
+		}))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("bad hash");
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
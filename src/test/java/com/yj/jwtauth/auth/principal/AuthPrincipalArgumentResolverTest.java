@@ -0,0 +1,49 @@
+package com.yj.jwtauth.auth.principal;
+
+import com.yj.jwtauth.common.datas.SharedData;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AuthPrincipalArgumentResolverTest {
+
+	private final AuthPrincipalArgumentResolver resolver = new AuthPrincipalArgumentResolver();
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("success: SecurityContext의 AuthPrincipal을 그대로 주입")
+	void resolveAuthPrincipal() {
+		// given
+		AuthPrincipal principal = new AuthPrincipal(SharedData.VALID_USER_ID, SharedData.VALID_EMAIL, UserRole.ADMIN);
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+
+		// when, then
+		assertThat(resolver.resolveArgument(null, null, null, null)).isSameAs(principal);
+		assertThat(principal.authorities())
+			.isSameAs(new AuthPrincipal(2L, "other@example.com", UserRole.ADMIN).authorities());
+	}
+
+	@Test
+	@DisplayName("fail: 인증 정보 없이 AuthPrincipal 주입 시 예외 발생")
+	void resolveAuthPrincipalFailInvalidToken() {
+		// given
+		SecurityContextHolder.clearContext();
+
+		// when, then
+		assertThatThrownBy(() -> resolver.resolveArgument(null, null, null, null))
+			.isInstanceOf(CustomRuntimeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+	}
+}
@@ -0,0 +1,115 @@
+package com.yj.jwtauth.auth.refresh;
+
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RefreshTokenStoreTest {
+
+	private static final long NOW = 1_700_000_000_000L;
+	private static final long EXPIRATION_MINUTES = 60L;
+
+	private RefreshTokenStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = createStore(1024);
+	}
+
+	private RefreshTokenStore createStore(int capacity) {
+		RefreshTokenStore refreshTokenStore = new RefreshTokenStore();
+		ReflectionTestUtils.setField(refreshTokenStore, "expirationMinutes", EXPIRATION_MINUTES);
+		ReflectionTestUtils.setField(refreshTokenStore, "capacity", capacity);
+		refreshTokenStore.init();
+		return refreshTokenStore;
+	}
+
+	@Test
+	@DisplayName("success: 리프레시 토큰 교체 시 같은 유저의 새 토큰 발급")
+	void rotate() {
+		// given
+		String refreshToken = store.issue(1L, NOW);
+
+		// when
+		RefreshTokenRotation rotation = store.rotate(refreshToken, NOW + 1000L);
+
+		// then
+		assertThat(rotation.userId()).isEqualTo(1L);
+		assertThat(rotation.refreshToken()).isNotEqualTo(refreshToken);
+	}
+
+	@Test
+	@DisplayName("fail: 사용한 토큰 재사용 시 family 전체 폐기")
+	void reuseRevokesFamily() {
+		// given
+		String first = store.issue(1L, NOW);
+		String second = store.rotate(first, NOW).refreshToken();
+
+		// when
+		assertThatThrownBy(() -> store.rotate(first, NOW))
+			.isInstanceOf(CustomRuntimeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+
+		// then
+		assertThatThrownBy(() -> store.rotate(second, NOW))
+			.isInstanceOf(CustomRuntimeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
+		assertThat(store.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("fail: 만료되었거나 형식이 잘못된 토큰은 거부")
+	void expiredOrMalformedRejected() {
+		// given
+		String refreshToken = store.issue(1L, NOW);
+		long afterExpiry = NOW + TimeUnit.MINUTES.toMillis(EXPIRATION_MINUTES);
+
+		// when, then
+		assertThatThrownBy(() -> store.rotate(refreshToken, afterExpiry))
+			.isInstanceOf(CustomRuntimeException.class);
+		assertThatThrownBy(() -> store.rotate("not-a-refresh-token", NOW))
+			.isInstanceOf(CustomRuntimeException.class);
+	}
+
+	@Test
+	@DisplayName("success: 용량을 넘기면 가장 먼저 만료될 토큰부터 축출")
+	void evictsEarliestExpiring() {
+		// given
+		RefreshTokenStore smallStore = createStore(16);
+		String oldest = smallStore.issue(1L, NOW);
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			smallStore.issue(i + 2L, NOW + 1000L + i);
+		}
+
+		// then
+		assertThat(smallStore.size()).isLessThanOrEqualTo(24); // 슬롯 32개의 3/4
+		assertThatThrownBy(() -> smallStore.rotate(oldest, NOW + 2000L))
+			.isInstanceOf(CustomRuntimeException.class);
+	}
+
+	@Test
+	@DisplayName("success: 가득 차면 절반까지 한 번에 축출하고 최근 토큰은 유지")
+	void evictsDownToLowWater() {
+		// given: 슬롯 32개, threshold 24, lowWater 12
+		RefreshTokenStore smallStore = createStore(16);
+		String newest = null;
+
+		// when
+		for (int i = 0; i < 25; i++) {
+			newest = smallStore.issue(i + 1L, NOW + i);
+		}
+
+		// then
+		assertThat(smallStore.size()).isEqualTo(13);
+		assertThat(smallStore.rotate(newest, NOW + 100L).userId()).isEqualTo(25L);
+	}
+}
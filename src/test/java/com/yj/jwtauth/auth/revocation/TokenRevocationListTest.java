@@ -0,0 +1,73 @@
+package com.yj.jwtauth.auth.revocation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+	private static final long NOW_MILLIS = 1_745_000_000_000L;
+
+	private TokenRevocationList revocationList;
+
+	@BeforeEach
+	void setUp() {
+		revocationList = new TokenRevocationList(Clock.fixed(Instant.ofEpochMilli(NOW_MILLIS), ZoneOffset.UTC));
+		ReflectionTestUtils.setField(revocationList, "expectedSize", 1000);
+		revocationList.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		revocationList.shutdown();
+	}
+
+	@Test
+	@DisplayName("success: 폐기한 jti만 폐기된 것으로 조회")
+	void revoke() {
+		// given
+		long exp = NOW_MILLIS + 60_000L;
+
+		// when
+		revocationList.revoke("revoked-jti", exp);
+
+		// then
+		assertThat(revocationList.isRevoked("revoked-jti")).isTrue();
+		assertThat(revocationList.isRevoked("other-jti")).isFalse();
+		assertThat(revocationList.isRevoked(null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("success: exp가 지난 항목은 타이밍 휠이 제거")
+	void expiredEntriesDropped() {
+		// given
+		revocationList.revoke("short-lived", NOW_MILLIS + 1_000L);
+		revocationList.revoke("long-lived", NOW_MILLIS + 600_000L);
+
+		// when
+		revocationList.advance(NOW_MILLIS + 5_000L);
+
+		// then
+		assertThat(revocationList.isRevoked("short-lived")).isFalse();
+		assertThat(revocationList.isRevoked("long-lived")).isTrue();
+		assertThat(revocationList.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("success: 이미 만료된 토큰은 등록하지 않음")
+	void alreadyExpiredIgnored() {
+		// when
+		revocationList.revoke("expired", NOW_MILLIS);
+
+		// then
+		assertThat(revocationList.size()).isZero();
+	}
+}
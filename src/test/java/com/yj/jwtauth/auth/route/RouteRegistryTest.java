@@ -0,0 +1,70 @@
+package com.yj.jwtauth.auth.route;
+
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RouteRegistryTest {
+
+	private final RouteRegistry routeRegistry = new RouteRegistry();
+
+	@Test
+	@DisplayName("success: 공개 경로 (정확 일치, 접두사, /error)")
+	void publicRoutes() {
+		assertThat(routeRegistry.classify("/api/signin").access()).isEqualTo(RouteAccess.PUBLIC);
+		assertThat(routeRegistry.classify("/api/admins/signup").access()).isEqualTo(RouteAccess.PUBLIC);
+		assertThat(routeRegistry.classify("/v3/api-docs.yaml").access()).isEqualTo(RouteAccess.PUBLIC);
+		assertThat(routeRegistry.classify("/error").access()).isEqualTo(RouteAccess.PUBLIC);
+		assertThat(routeRegistry.classify("/swagger-ui/index.html").access()).isEqualTo(RouteAccess.PUBLIC);
+		assertThat(routeRegistry.classify("/v3/api-docs").access()).isEqualTo(RouteAccess.PUBLIC);
+	}
+
+	@Test
+	@DisplayName("success: 역할 제한 경로와 허용 권한")
+	void roleRestrictedRoutes() {
+		// when
+		Route adminRoute = routeRegistry.classify("/api/admins/users/1/roles");
+		Route myInfoRoute = routeRegistry.classify("/api/my-informations");
+
+		// then
+		assertThat(adminRoute.access()).isEqualTo(RouteAccess.ROLE_RESTRICTED);
+		assertThat(adminRoute.isGrantedTo(List.of(new SimpleGrantedAuthority(UserRole.ADMIN.getRole())))).isTrue();
+		assertThat(adminRoute.isGrantedTo(List.of(new SimpleGrantedAuthority(UserRole.USER.getRole())))).isFalse();
+		assertThat(myInfoRoute.isGrantedTo(List.of(new SimpleGrantedAuthority(UserRole.USER.getRole())))).isTrue();
+	}
+
+	@Test
+	@DisplayName("success: 접두사는 경로 구분자 단위로만 일치, 나머지는 인증 경로")
+	void prefixMatchesWholeSegments() {
+		assertThat(routeRegistry.classify("/webjarsX/app.js").access()).isEqualTo(RouteAccess.AUTHENTICATED);
+		assertThat(routeRegistry.classify("/api/adminsX").access()).isEqualTo(RouteAccess.AUTHENTICATED);
+		assertThat(routeRegistry.classify("/api/users/1").access()).isEqualTo(RouteAccess.AUTHENTICATED);
+	}
+
+	@Test
+	@DisplayName("success: 컨텍스트 경로를 제외하고 분류")
+	void classifyRequestWithContextPath() {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/app/api/signin");
+		request.setContextPath("/app");
+
+		// when, then
+		assertThat(routeRegistry.classify(request).isPublic()).isTrue();
+	}
+
+	@Test
+	@DisplayName("success: 퍼센트 인코딩된 경로는 디코딩한 경로로 분류")
+	void classifyEncodedRequest() {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin%73/users");
+
+		// when, then
+		assertThat(routeRegistry.classify(request).access()).isEqualTo(RouteAccess.ROLE_RESTRICTED);
+	}
+}
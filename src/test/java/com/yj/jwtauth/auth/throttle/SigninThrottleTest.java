@@ -0,0 +1,172 @@
+package com.yj.jwtauth.auth.throttle;
+
+import com.yj.jwtauth.common.exception.SigninThrottledException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SigninThrottleTest {
+
+	private static final String IP = "10.0.0.1";
+
+	private MutableClock clock;
+	private SigninThrottle throttle;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock();
+		// 계정: 3회, 분당 6회(10초마다 1회) 충전 / IP: 5회, 분당 60회
+		throttle = new SigninThrottle(clock, 3, 6, 5, 60, 1000);
+	}
+
+	@Test
+	@DisplayName("success: 계정별 용량까지는 허용")
+	void allowsUpToAccountCapacity() {
+		// when, then
+		assertThatCode(() -> {
+			for (int i = 0; i < 3; i++) {
+				throttle.acquire("user@example.com", IP);
+			}
+		}).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("fail: 계정별 용량을 넘으면 429와 다음 토큰까지의 Retry-After")
+	void rejectsOverAccountCapacity() {
+		// given
+		for (int i = 0; i < 3; i++) {
+			throttle.acquire("user@example.com", IP);
+		}
+
+		// when, then
+		assertThatThrownBy(() -> throttle.acquire("user@example.com", IP))
+			.isInstanceOf(SigninThrottledException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_SIGNIN_ATTEMPTS)
+			.hasFieldOrPropertyWithValue("retryAfterSeconds", 10L);
+	}
+
+	@Test
+	@DisplayName("fail: 대소문자/공백만 다른 이메일은 같은 계정으로 제한")
+	void normalizesEmail() {
+		// given
+		throttle.acquire("user@example.com", IP);
+		throttle.acquire(" USER@example.com", IP);
+		throttle.acquire("User@Example.com ", IP);
+
+		// when, then
+		assertThatThrownBy(() -> throttle.acquire("user@EXAMPLE.com", IP))
+			.isInstanceOf(SigninThrottledException.class);
+	}
+
+	@Test
+	@DisplayName("success: 시간이 지나면 충전된 만큼 다시 허용")
+	void refillsOverTime() {
+		// given
+		for (int i = 0; i < 3; i++) {
+			throttle.acquire("user@example.com", IP);
+		}
+
+		// when
+		clock.advance(10_000L);
+
+		// then
+		assertThatCode(() -> throttle.acquire("user@example.com", IP)).doesNotThrowAnyException();
+		assertThatThrownBy(() -> throttle.acquire("user@example.com", IP))
+			.isInstanceOf(SigninThrottledException.class);
+	}
+
+	@Test
+	@DisplayName("fail: 계정을 바꿔 가며 시도해도 IP별 용량을 넘으면 거부")
+	void rejectsOverIpCapacity() {
+		// given
+		for (int i = 0; i < 5; i++) {
+			throttle.acquire("user" + i + "@example.com", IP);
+		}
+
+		// when, then
+		assertThatThrownBy(() -> throttle.acquire("other@example.com", IP))
+			.isInstanceOf(SigninThrottledException.class)
+			.hasFieldOrPropertyWithValue("retryAfterSeconds", 1L);
+		assertThatCode(() -> throttle.acquire("other@example.com", "10.0.0.2")).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("success: 동시에 시도해도 정확히 용량만큼만 허용")
+	void concurrentAcquireIsExact() throws InterruptedException {
+		// given
+		SigninThrottle wide = new SigninThrottle(clock, 100, 1, 1_000_000, 1, 1000);
+		int threads = 8;
+		int attemptsPerThread = 100;
+		AtomicInteger allowed = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		// when
+		for (int t = 0; t < threads; t++) {
+			executor.execute(() -> {
+				try {
+					start.await();
+					for (int i = 0; i < attemptsPerThread; i++) {
+						try {
+							wide.acquire("user@example.com", IP);
+							allowed.incrementAndGet();
+						} catch (SigninThrottledException ignored) {
+							// 제한됨
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		// then
+		assertThat(allowed.get()).isEqualTo(100);
+	}
+
+	// 테스트에서 시간을 직접 움직이는 Clock
+	private static class MutableClock extends Clock {
+
+		private volatile long millis = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+		void advance(long deltaMillis) {
+			millis += deltaMillis;
+		}
+
+		@Override
+		public long millis() {
+			return millis;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+}
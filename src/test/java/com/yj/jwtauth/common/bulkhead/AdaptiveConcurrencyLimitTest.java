@@ -0,0 +1,87 @@
+package com.yj.jwtauth.common.bulkhead;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+	@Test
+	@DisplayName("fail: 한도만큼 실행 중이면 대기 없이 거부")
+	void rejectsWhenFull() {
+		// given
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 10, 100);
+		limit.tryAcquire();
+		limit.tryAcquire();
+
+		// when, then
+		assertThat(limit.tryAcquire()).isFalse();
+		assertThat(limit.getRejectedCount()).isEqualTo(1L);
+		assertThat(limit.getInFlight()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("success: 한도를 쓰는 중 빠른 응답이 오면 최대치까지 1씩 증가")
+	void increasesAdditivelyUpToMax() {
+		// given
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 3, 100);
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			limit.tryAcquire();
+			limit.tryAcquire();
+			limit.release(FAST, false);
+			limit.release(FAST, false);
+		}
+
+		// then
+		assertThat(limit.getLimit()).isEqualTo(3);
+		assertThat(limit.getInFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("success: 한도를 거의 쓰지 않으면 빠른 응답이 와도 늘리지 않음")
+	void doesNotGrowWhenIdle() {
+		// given
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 100, 100);
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			limit.tryAcquire();
+			limit.release(FAST, false);
+		}
+
+		// then
+		assertThat(limit.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("success: 지연 기준을 넘기거나 실패하면 곱셈으로 감소, 최소 1")
+	void decreasesMultiplicatively() {
+		// given
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, 20, 100);
+
+		// when
+		limit.tryAcquire();
+		limit.release(SLOW, false);
+		int afterSlow = limit.getLimit();
+		limit.tryAcquire();
+		limit.release(FAST, true);
+		int afterFailure = limit.getLimit();
+		for (int i = 0; i < 100; i++) {
+			limit.tryAcquire();
+			limit.release(SLOW, false);
+		}
+
+		// then
+		assertThat(afterSlow).isEqualTo(18);
+		assertThat(afterFailure).isEqualTo(16);
+		assertThat(limit.getLimit()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,91 @@
+package com.yj.jwtauth.common.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.common.exception.error.ErrorResponseWriter;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BulkheadFilterTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final AuthMetrics authMetrics = new AuthMetrics(registry);
+
+	// 분류마다 한도 1 (최대치 4의 1/4)
+	private final BulkheadFilter filter = new BulkheadFilter(true, 4, 10_000, 4, 10_000, 4, 10_000,
+		new ErrorResponseWriter(new ObjectMapper(), authMetrics), authMetrics);
+
+	@Test
+	@DisplayName("success: 엔드포인트 분류")
+	void classifiesEndpoints() {
+		assertThat(EndpointClass.of("POST", "/api/signin")).isEqualTo(EndpointClass.CREDENTIALS);
+		assertThat(EndpointClass.of("POST", "/api/admins/signup")).isEqualTo(EndpointClass.CREDENTIALS);
+		assertThat(EndpointClass.of("GET", "/api/my-informations")).isEqualTo(EndpointClass.DB_READ);
+		assertThat(EndpointClass.of("PATCH", "/api/admins/users/1/roles")).isEqualTo(EndpointClass.ADMIN_WRITE);
+		assertThat(EndpointClass.of("GET", "/api/admins/users")).isEqualTo(EndpointClass.DB_READ);
+		assertThat(EndpointClass.of("POST", "/api/token/refresh")).isNull();
+		assertThat(EndpointClass.of("POST", "/api/tokens/batch")).isNull();
+		assertThat(EndpointClass.of("POST", "/api/admins/users/import")).isNull();
+		assertThat(EndpointClass.of("GET", "/api/admins/users/export")).isNull();
+	}
+
+	@Test
+	@DisplayName("fail: 같은 분류의 한도가 차면 503, 다른 분류와 토큰 요청은 그대로 통과")
+	void shedsOnlyTheFullClass() throws Exception {
+		// given
+		AtomicInteger nestedStatus = new AtomicInteger();
+		AtomicInteger otherClassStatus = new AtomicInteger();
+		AtomicInteger tokenStatus = new AtomicInteger();
+		FilterChain holdingChain = (request, response) -> {
+			// 로그인 요청 하나가 실행 중인 동안 다른 요청 처리
+			nestedStatus.set(run("POST", "/api/signin"));
+			otherClassStatus.set(run("GET", "/api/my-informations"));
+			tokenStatus.set(run("POST", "/api/token/refresh"));
+		};
+
+		// when
+		filter.doFilter(new MockHttpServletRequest("POST", "/api/signin"), new MockHttpServletResponse(), holdingChain);
+
+		// then
+		assertThat(nestedStatus.get()).isEqualTo(503);
+		assertThat(otherClassStatus.get()).isEqualTo(200);
+		assertThat(tokenStatus.get()).isEqualTo(200);
+		assertThat(registry.get("auth.bulkhead.rejected").tag("class", "credentials").functionCounter().count())
+			.isEqualTo(1.0);
+		assertThat(registry.get("auth.bulkhead.in_flight").tag("class", "credentials").gauge().value()).isZero();
+	}
+
+	@Test
+	@DisplayName("success: 비활성화하면 제한하지 않음")
+	void disabled() throws Exception {
+		// given
+		BulkheadFilter disabled = new BulkheadFilter(false, 4, 10_000, 4, 10_000, 4, 10_000,
+			new ErrorResponseWriter(new ObjectMapper(), authMetrics), authMetrics);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		disabled.doFilter(new MockHttpServletRequest("POST", "/api/signin"), response, new MockFilterChain());
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	private int run(String method, String path) {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(new MockHttpServletRequest(method, path), response, new MockFilterChain());
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return response.getStatus();
+	}
+}
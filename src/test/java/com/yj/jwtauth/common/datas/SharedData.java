@@ -1,6 +1,8 @@
 package com.yj.jwtauth.common.datas;
 
 import com.yj.jwtauth.common.entity.User;
+import com.yj.jwtauth.domain.user.cache.UserSnapshot;
+import com.yj.jwtauth.domain.user.dto.projection.SigninCredentials;
 import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.SignupRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.RoleUpdateRequestDto;
@@ -42,6 +44,17 @@ public class SharedData {
 		return user;
 	}
 
+	// 로그인 프로젝션 (createValidUserEntity와 같은 값)
+	public static SigninCredentials createValidSigninCredentials() {
+		return new SigninCredentials(VALID_USER_ID, VALID_EMAIL, VALID_PASSWORD, UserRole.USER);
+	}
+
+	// 엔티티의 현재 값으로 내 정보 조회 프로젝션 생성
+	public static UserSnapshot createUserSnapshot(User user) {
+		return new UserSnapshot(user.getId(), user.getUsername(), user.getEmail(), user.getRole(),
+			user.isDeleted(), user.getCreatedAt(), user.getUpdatedAt());
+	}
+
 	// === 관리자 정보 ===
 	public static final Long ADMIN_USER_ID = 2L;
 	public static final String ADMIN_USERNAME = "관리자B";
@@ -0,0 +1,50 @@
+package com.yj.jwtauth.common.exception.error;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ErrorResponseWriterTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final ErrorResponseWriter errorResponseWriter =
+		new ErrorResponseWriter(objectMapper, new AuthMetrics(registry));
+
+	@Test
+	@DisplayName("success: 미리 직렬화한 본문은 ErrorResponseDto 직렬화 결과와 같음")
+	void writesPreEncodedBody() throws Exception {
+		// given
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		errorResponseWriter.write(response, ErrorCode.INVALID_TOKEN);
+
+		// then
+		assertThat(response.getStatus()).isEqualTo(401);
+		assertThat(response.getContentType()).startsWith("application/json");
+		assertThat(response.getContentAsByteArray())
+			.isEqualTo(objectMapper.writeValueAsBytes(new ErrorResponseDto(ErrorCode.INVALID_TOKEN)));
+		assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+		assertThat(registry.get("auth.errors").tag("code", "INVALID_TOKEN").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("success: 예상된 실패 예외는 스택 트레이스를 수집하지 않고 공유 인스턴스를 사용")
+	void customRuntimeExceptionIsStackless() {
+		// when
+		CustomRuntimeException shared = CustomRuntimeException.of(ErrorCode.INVALID_TOKEN);
+
+		// then
+		assertThat(shared.getStackTrace()).isEmpty();
+		assertThat(new CustomRuntimeException(ErrorCode.ACCESS_DENIED).getStackTrace()).isEmpty();
+		assertThat(CustomRuntimeException.of(ErrorCode.INVALID_TOKEN)).isSameAs(shared);
+		assertThat(shared.getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN);
+	}
+}
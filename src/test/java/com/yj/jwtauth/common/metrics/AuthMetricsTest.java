@@ -0,0 +1,61 @@
+package com.yj.jwtauth.common.metrics;
+
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AuthMetricsTest {
+
+	private SimpleMeterRegistry registry;
+	private AuthMetrics authMetrics;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		authMetrics = new AuthMetrics(registry);
+	}
+
+	@Test
+	@DisplayName("success: 모든 ErrorCode 카운터는 기동 시 미리 등록")
+	void errorCountersArePreRegistered() {
+		// when
+		authMetrics.countError(ErrorCode.INVALID_TOKEN);
+		authMetrics.countError(ErrorCode.INVALID_TOKEN);
+
+		// then
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			assertThat(registry.find("auth.errors").tag("code", errorCode.name()).counter()).isNotNull();
+		}
+		assertThat(registry.get("auth.errors").tag("code", "INVALID_TOKEN").counter().count()).isEqualTo(2.0);
+		assertThat(registry.get("auth.errors").tag("code", "ACCESS_DENIED").counter().count()).isZero();
+	}
+
+	@Test
+	@DisplayName("success: PasswordEncoder 데코레이터가 encode/matches 시간을 기록")
+	void timedPasswordEncoderRecords() {
+		// given
+		TimedPasswordEncoder passwordEncoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(4), authMetrics);
+
+		// when
+		String encoded = passwordEncoder.encode("Password123!");
+		boolean matches = passwordEncoder.matches("Password123!", encoded);
+
+		// then
+		assertThat(matches).isTrue();
+		assertThat(registry.get("auth.password.encode").timer().count()).isEqualTo(1);
+		assertThat(registry.get("auth.password.matches").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("success: 같은 이름/태그의 리포지토리 타이머는 하나로 공유")
+	void repositoryTimerIsShared() {
+		// when, then
+		assertThat(authMetrics.repositoryTimer("UserRepository", "findByEmail"))
+			.isSameAs(authMetrics.repositoryTimer("UserRepository", "findByEmail"));
+	}
+}
@@ -0,0 +1,57 @@
+package com.yj.jwtauth.common.pool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoundedObjectPoolTest {
+
+	@Test
+	@DisplayName("success: 반납한 객체를 다시 빌려 씀")
+	void reusesReleasedObject() {
+		// given
+		AtomicInteger created = new AtomicInteger();
+		BoundedObjectPool<byte[]> pool = new BoundedObjectPool<>(2, () -> {
+			created.incrementAndGet();
+			return new byte[16];
+		});
+		byte[] first = pool.acquire();
+		pool.release(first);
+
+		// when
+		byte[] second = pool.acquire();
+
+		// then
+		assertThat(second).isSameAs(first);
+		assertThat(created).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("success: 풀이 비어 있으면 새로 만들고, 가득 차면 반납된 객체는 버림")
+	void createsWhenEmptyAndDropsWhenFull() {
+		// given
+		AtomicInteger created = new AtomicInteger();
+		BoundedObjectPool<Object> pool = new BoundedObjectPool<>(2, () -> {
+			created.incrementAndGet();
+			return new Object();
+		});
+		Object a = pool.acquire();
+		Object b = pool.acquire();
+		Object c = pool.acquire();
+
+		// when
+		pool.release(a);
+		pool.release(b);
+		pool.release(c);
+
+		// then
+		assertThat(created).hasValue(3);
+		assertThat(pool.acquire()).isIn(a, b, c);
+		assertThat(pool.acquire()).isIn(a, b, c);
+		assertThat(pool.acquire()).isNotIn(a, b, c);
+		assertThat(created).hasValue(4);
+	}
+}
@@ -0,0 +1,109 @@
+package com.yj.jwtauth.domain.token.service;
+
+import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.refresh.RefreshTokenRotation;
+import com.yj.jwtauth.auth.refresh.RefreshTokenStore;
+import com.yj.jwtauth.common.datas.SharedData;
+import com.yj.jwtauth.domain.token.dto.request.TokenRefreshRequestDto;
+import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
+import com.yj.jwtauth.domain.user.dto.projection.TokenSubject;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import com.yj.jwtauth.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Optional;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceImplTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private JwtService jwtService;
+
+	@Mock
+	private RefreshTokenStore refreshTokenStore;
+
+	@Mock
+	private Clock clock;
+
+	@InjectMocks
+	private TokenServiceImpl tokenService;
+
+	@Test
+	@DisplayName("success: 요청 순서대로 토큰 NDJSON 기록, 없는 유저는 token null")
+	void issueBatchTokens() throws Exception {
+		// given
+		List<Long> userIds = List.of(SharedData.VALID_USER_ID, 999L, SharedData.ADMIN_USER_ID);
+		when(userRepository.findTokenSubjectsByIdIn(userIds)).thenReturn(List.of(
+			new TokenSubject(SharedData.VALID_USER_ID, SharedData.VALID_EMAIL, UserRole.USER),
+			new TokenSubject(SharedData.ADMIN_USER_ID, SharedData.ADMIN_EMAIL, UserRole.ADMIN)
+		));
+		when(jwtService.createToken(SharedData.VALID_USER_ID, SharedData.VALID_EMAIL, UserRole.USER))
+			.thenReturn("user-token");
+		when(jwtService.createToken(SharedData.ADMIN_USER_ID, SharedData.ADMIN_EMAIL, UserRole.ADMIN))
+			.thenReturn("admin-token");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// when
+		tokenService.issueBatchTokens(userIds, out);
+
+		// then
+		assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+			"{\"userId\":1,\"token\":\"user-token\"}",
+			"{\"userId\":999,\"token\":null}",
+			"{\"userId\":2,\"token\":\"admin-token\"}"
+		);
+	}
+
+	@Test
+	@DisplayName("success: 청크 크기를 넘는 요청은 청크마다 한 번씩 조회")
+	void issueBatchTokensInChunks() throws Exception {
+		// given
+		List<Long> userIds = LongStream.rangeClosed(1, TokenServiceImpl.CHUNK_SIZE + 1).boxed().toList();
+		when(userRepository.findTokenSubjectsByIdIn(anyList())).thenReturn(List.of());
+
+		// when
+		tokenService.issueBatchTokens(userIds, new ByteArrayOutputStream());
+
+		// then
+		verify(userRepository, times(2)).findTokenSubjectsByIdIn(anyList());
+		verifyNoInteractions(jwtService);
+	}
+
+	@Test
+	@DisplayName("success: 리프레시 토큰은 주입된 Clock의 현재 시각으로 교체하고 DB의 현재 역할로 발급")
+	void refreshToken() {
+		// given
+		long nowMillis = 1_745_000_000_000L;
+		when(clock.millis()).thenReturn(nowMillis);
+		when(refreshTokenStore.rotate("refresh-token", nowMillis))
+			.thenReturn(new RefreshTokenRotation(SharedData.VALID_USER_ID, "next-refresh-token"));
+		when(userRepository.findTokenSubjectById(SharedData.VALID_USER_ID)).thenReturn(Optional.of(
+			new TokenSubject(SharedData.VALID_USER_ID, SharedData.VALID_EMAIL, UserRole.ADMIN)));
+		when(jwtService.createToken(SharedData.VALID_USER_ID, SharedData.VALID_EMAIL, UserRole.ADMIN))
+			.thenReturn("admin-token");
+
+		// when
+		SigninResponseDto result = tokenService.refreshToken(new TokenRefreshRequestDto("refresh-token"));
+
+		// then
+		assertThat(result.getToken()).isEqualTo("admin-token");
+		assertThat(result.getRefreshToken()).isEqualTo("next-refresh-token");
+	}
+}
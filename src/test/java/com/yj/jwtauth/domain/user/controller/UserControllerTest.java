@@ -1,8 +1,11 @@
 package com.yj.jwtauth.domain.user.controller;
 
+import com.yj.jwtauth.auth.principal.AuthPrincipal;
+import com.yj.jwtauth.auth.throttle.SigninThrottle;
 import com.yj.jwtauth.common.datas.SharedData;
 import com.yj.jwtauth.common.entity.User;
 import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.SigninThrottledException;
 import com.yj.jwtauth.common.exception.error.ErrorCode;
 import com.yj.jwtauth.domain.user.dto.request.RoleUpdateRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
@@ -12,7 +15,6 @@ import com.yj.jwtauth.domain.user.dto.response.SignupResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.UserResponseDto;
 import com.yj.jwtauth.domain.user.enums.UserRole;
 import com.yj.jwtauth.domain.user.service.UserService;
-import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -36,7 +39,7 @@ class UserControllerTest {
 	private UserService userService;
 
 	@Mock
-	private HttpServletRequest request;
+	private SigninThrottle signinThrottle;
 
 	// === 테스트 대상 클래스(실제 객체) ===
 	@InjectMocks
@@ -164,12 +167,12 @@ class UserControllerTest {
 	void signinAPI() {
 		// given
 		SigninRequestDto requestDto = SharedData.createValidSigninDto();
-		SigninResponseDto responseDto = new SigninResponseDto("jwt-token");
+		SigninResponseDto responseDto = new SigninResponseDto("jwt-token", "refresh-token");
 
 		when(userService.userOrAdminSignin(requestDto)).thenReturn(responseDto);
 
 		// when
-		ResponseEntity<SigninResponseDto> response = userController.signinAPI(requestDto);
+		ResponseEntity<SigninResponseDto> response = userController.signinAPI(requestDto, new MockHttpServletRequest());
 
 		// then
 		assertThat(response).isNotNull();
@@ -177,9 +180,26 @@ class UserControllerTest {
 		assertThat(response.getBody()).isEqualTo(responseDto);
 		assertThat(response.getBody().getToken()).isEqualTo("jwt-token");
 
+		verify(signinThrottle, times(1)).acquire(requestDto.getEmail(), "127.0.0.1");
 		verify(userService, times(1)).userOrAdminSignin(requestDto);
 	}
 
+	@Test
+	@DisplayName("fail: 로그인 시도 제한에 걸리면 서비스를 호출하지 않음")
+	void signinAPIFailByThrottle() {
+		// given
+		SigninRequestDto requestDto = SharedData.createValidSigninDto();
+		doThrow(new SigninThrottledException(12L)).when(signinThrottle).acquire(requestDto.getEmail(), "127.0.0.1");
+
+		// when, then
+		assertThatThrownBy(() -> userController.signinAPI(requestDto, new MockHttpServletRequest()))
+			.isInstanceOf(SigninThrottledException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.TOO_MANY_SIGNIN_ATTEMPTS)
+			.hasFieldOrPropertyWithValue("retryAfterSeconds", 12L);
+
+		verify(userService, never()).userOrAdminSignin(any());
+	}
+
 	@Test
 	@DisplayName("fail: 존재하지 않는 이메일로 로그인 시 예외 발생")
 	void signinAPIFailByEmail() {
@@ -189,7 +209,7 @@ class UserControllerTest {
 		when(userService.userOrAdminSignin(requestDto)).thenThrow(new CustomRuntimeException(ErrorCode.INVALID_CREDENTIALS));
 
 		// when, then
-		assertThatThrownBy(() -> userController.signinAPI(requestDto))
+		assertThatThrownBy(() -> userController.signinAPI(requestDto, new MockHttpServletRequest()))
 			.isInstanceOf(CustomRuntimeException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CREDENTIALS);
 
@@ -205,7 +225,7 @@ class UserControllerTest {
 		when(userService.userOrAdminSignin(requestDto)).thenThrow(new CustomRuntimeException(ErrorCode.INVALID_CREDENTIALS));
 
 		// when, then
-		assertThatThrownBy(() -> userController.signinAPI(requestDto))
+		assertThatThrownBy(() -> userController.signinAPI(requestDto, new MockHttpServletRequest()))
 			.isInstanceOf(CustomRuntimeException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CREDENTIALS);
 
@@ -220,14 +240,14 @@ class UserControllerTest {
 	void getMyInfoAPI() {
 		// given
 		Long userId = SharedData.VALID_USER_ID;
+		AuthPrincipal principal = new AuthPrincipal(userId, SharedData.VALID_EMAIL, UserRole.USER);
 		User user = initializeUser(SharedData.createValidUserEntity());
 		UserResponseDto responseDto = new TestUserResponseDto(user);
 
-		when(request.getAttribute("userId")).thenReturn(userId);
 		when(userService.getMyInfo(userId)).thenReturn(responseDto);
 
 		// when
-		ResponseEntity<UserResponseDto> response = userController.getMyInfoAPI(request);
+		ResponseEntity<UserResponseDto> response = userController.getMyInfoAPI(principal);
 
 		// then
 		assertThat(response).isNotNull();
@@ -237,40 +257,23 @@ class UserControllerTest {
 		assertThat(response.getBody().getEmail()).isEqualTo(SharedData.VALID_EMAIL);
 		assertThat(response.getBody().getRoles()).containsExactly("USER");
 
-		verify(request, times(1)).getAttribute("userId");
 		verify(userService, times(1)).getMyInfo(userId);
 	}
 
-	@Test
-	@DisplayName("fail: 유효하지 않은 토큰으로 내 정보 조회 시 예외 발생")
-	void getMyInfoAPIFailInvalidToken() {
-		// given
-		when(request.getAttribute("userId")).thenReturn(null);
-
-		// when, then
-		assertThatThrownBy(() -> userController.getMyInfoAPI(request))
-			.isInstanceOf(CustomRuntimeException.class)
-			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TOKEN);
-
-		verify(request, times(1)).getAttribute("userId");
-		verify(userService, never()).getMyInfo(anyLong());
-	}
-
 	@Test
 	@DisplayName("fail: 존재하지 않는 유저 조회 시 예외 발생")
 	void getMyInfoAPIFailUserNotFound() {
 		// given
 		Long userId = 999L;
+		AuthPrincipal principal = new AuthPrincipal(userId, SharedData.VALID_EMAIL, UserRole.USER);
 
-		when(request.getAttribute("userId")).thenReturn(userId);
 		when(userService.getMyInfo(userId)).thenThrow(new CustomRuntimeException(ErrorCode.ACCESS_DENIED));
 
 		// when, then
-		assertThatThrownBy(() -> userController.getMyInfoAPI(request))
+		assertThatThrownBy(() -> userController.getMyInfoAPI(principal))
 			.isInstanceOf(CustomRuntimeException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
 
-		verify(request, times(1)).getAttribute("userId");
 		verify(userService, times(1)).getMyInfo(userId);
 	}
 
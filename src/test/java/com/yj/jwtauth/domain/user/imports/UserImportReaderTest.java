@@ -0,0 +1,78 @@
+package com.yj.jwtauth.domain.user.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UserImportReaderTest {
+
+	@Test
+	@DisplayName("success: NDJSON은 줄마다 파싱하고 깨진 줄은 그 행만 형식 오류로 반환")
+	void readsNdjsonLineByLine() throws IOException {
+		// given
+		String body = """
+			{"username":"사용자A","email":"a@example.com","password":"Password123!"}
+
+			{"username":"사용자B",
+			{"username":"사용자C","email":"c@example.com","passwordHash":"$2a$10$hash"}
+			""";
+
+		// when
+		List<UserImportRow> rows = readAll(UserImportFormat.NDJSON, body);
+
+		// then
+		assertThat(rows).containsExactly(
+			new UserImportRow(1, "사용자A", "a@example.com", "Password123!", null),
+			new UserImportRow(3, null, null, null, null),
+			new UserImportRow(4, "사용자C", "c@example.com", null, "$2a$10$hash"));
+	}
+
+	@Test
+	@DisplayName("success: CSV는 헤더로 열 순서를 정하고 따옴표로 감싼 쉼표를 값으로 읽음")
+	void readsCsvByHeader() throws IOException {
+		// given
+		String body = """
+			email,password_hash,username
+			a@example.com,$2a$10$hash,"홍, 길동"
+			b@example.com,,"따옴표 ""이름""\"
+			c@example.com,"닫히지 않음
+			""";
+
+		// when
+		List<UserImportRow> rows = readAll(UserImportFormat.CSV, body);
+
+		// then
+		assertThat(rows).containsExactly(
+			new UserImportRow(2, "홍, 길동", "a@example.com", null, "$2a$10$hash"),
+			new UserImportRow(3, "따옴표 \"이름\"", "b@example.com", null, null),
+			new UserImportRow(4, null, null, null, null));
+	}
+
+	@Test
+	@DisplayName("success: Content-Type으로 형식 결정")
+	void resolvesFormatFromContentType() {
+		assertThat(UserImportFormat.of("application/x-ndjson")).isEqualTo(UserImportFormat.NDJSON);
+		assertThat(UserImportFormat.of("text/csv; charset=UTF-8")).isEqualTo(UserImportFormat.CSV);
+		assertThat(UserImportFormat.of("application/json")).isNull();
+	}
+
+	private static List<UserImportRow> readAll(UserImportFormat format, String body) throws IOException {
+		List<UserImportRow> rows = new ArrayList<>();
+		try (UserImportReader reader = format.open(
+			new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), new ObjectMapper())) {
+			UserImportRow row;
+			while ((row = reader.next()) != null) {
+				rows.add(row);
+			}
+		}
+		return rows;
+	}
+}
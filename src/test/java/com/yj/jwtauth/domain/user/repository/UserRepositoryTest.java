@@ -2,17 +2,25 @@ package com.yj.jwtauth.domain.user.repository;
 
 import com.yj.jwtauth.common.datas.SharedData;
 import com.yj.jwtauth.common.entity.User;
+import com.yj.jwtauth.domain.user.cache.UserSnapshot;
+import com.yj.jwtauth.domain.user.dto.projection.SigninCredentials;
 import com.yj.jwtauth.domain.user.enums.UserRole;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 class UserRepositoryTest {
@@ -31,18 +39,18 @@ class UserRepositoryTest {
 	}
 
 	/*
-	 * findByEmail
+	 * findByEmailNormalized
 	 */
 	@Test
-	@DisplayName("success: 이메일로 유저 조회 성공")
-	void findByEmail() {
+	@DisplayName("success: 정규화한 이메일로 유저 조회 성공")
+	void findByEmailNormalized() {
 		// given
 		User user = prepareUserForPersist(SharedData.createValidUserEntity());
 		entityManager.persist(user);
 		entityManager.flush();
 
 		// when
-		Optional<User> result = userRepository.findByEmail(user.getEmail());
+		Optional<User> result = userRepository.findByEmailNormalized(User.normalizeEmail(" USERA@Example.com "));
 
 		// then
 		assertThat(result).isPresent();
@@ -53,45 +61,150 @@ class UserRepositoryTest {
 
 	@Test
 	@DisplayName("fail: 존재하지 않는 이메일로 유저 조회 시 빈 Optional 반환")
-	void findByEmailNotFound() {
+	void findByEmailNormalizedNotFound() {
 		// given
 		String nonExistentEmail = "nonexistent@example.com";
 
 		// when
-		Optional<User> result = userRepository.findByEmail(nonExistentEmail);
+		Optional<User> result = userRepository.findByEmailNormalized(nonExistentEmail);
 
 		// then
 		assertThat(result).isNotPresent();
 	}
 
 	/*
-	 * existsByEmail
+	 * 프로젝션 조회
 	 */
 	@Test
-	@DisplayName("success: 이미 가입된 이메일 확인 - 존재함")
-	void existsByEmailTrue() {
+	@DisplayName("success: 로그인 프로젝션은 필요한 컬럼만 담고 영속성 컨텍스트에 엔티티를 남기지 않음")
+	void findSigninCredentials() {
 		// given
 		User user = prepareUserForPersist(SharedData.createValidUserEntity());
 		entityManager.persist(user);
 		entityManager.flush();
+		entityManager.clear();
 
 		// when
-		boolean exists = userRepository.existsByEmail(user.getEmail());
+		Optional<SigninCredentials> result = userRepository.findSigninCredentials(User.normalizeEmail(SharedData.VALID_EMAIL));
 
 		// then
-		assertThat(exists).isTrue();
+		assertThat(result).hasValue(new SigninCredentials(user.getId(), SharedData.VALID_EMAIL, SharedData.VALID_PASSWORD, UserRole.USER));
+		assertThat(managedEntityCount()).isZero();
 	}
 
 	@Test
-	@DisplayName("success: 이미 가입된 이메일 확인 - 존재하지 않음")
-	void existsByEmailFalse() {
+	@DisplayName("success: 내 정보 프로젝션 조회")
+	void findSnapshotById() {
 		// given
-		String nonExistentEmail = "nonexistent@example.com";
+		User user = prepareUserForPersist(SharedData.createValidUserEntity());
+		entityManager.persist(user);
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		Optional<UserSnapshot> result = userRepository.findSnapshotById(user.getId());
+
+		// then
+		assertThat(result).isPresent();
+		assertThat(result.get().email()).isEqualTo(SharedData.VALID_EMAIL);
+		assertThat(result.get().role()).isEqualTo(UserRole.USER);
+		assertThat(result.get().createdAt()).isNotNull();
+		assertThat(managedEntityCount()).isZero();
+		assertThat(userRepository.findSnapshotById(-1L)).isNotPresent();
+	}
+
+	/*
+	 * email_normalized 유니크 제약
+	 */
+	@Test
+	@DisplayName("fail: 대소문자만 다른 이메일로 저장 시 무결성 위반")
+	void saveDuplicateNormalizedEmail() {
+		// given
+		userRepository.saveAndFlush(prepareUserForPersist(SharedData.createValidUserEntity()));
+		User duplicate = User.builder()
+			.username("다른사용자")
+			.email(SharedData.VALID_EMAIL.toUpperCase())
+			.password(SharedData.VALID_PASSWORD)
+			.build();
+
+		// when, then
+		assertThatThrownBy(() -> userRepository.saveAndFlush(duplicate))
+			.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	@DisplayName("success: 정규화한 이메일이 다르면 저장 성공")
+	void saveDistinctEmails() {
+		// given
+		userRepository.saveAndFlush(prepareUserForPersist(SharedData.createValidUserEntity()));
+		User other = User.builder()
+			.username("다른사용자")
+			.email("other@example.com")
+			.password(SharedData.VALID_PASSWORD)
+			.build();
 
 		// when
-		boolean exists = userRepository.existsByEmail(nonExistentEmail);
+		User saved = userRepository.saveAndFlush(other);
 
 		// then
-		assertThat(exists).isFalse();
+		assertThat(saved.getId()).isNotNull();
+		assertThat(saved.getEmailNormalized()).isEqualTo("other@example.com");
+	}
+
+	/*
+	 * 역할 일괄 변경
+	 */
+	@Test
+	@DisplayName("success: 역할 일괄 변경은 역할이 다른 행만 바꾸고 바뀐 행 수를 반환")
+	void updateRoleByIdIn() {
+		// given
+		User user = prepareUserForPersist(SharedData.createValidUserEntity());
+		User admin = prepareUserForPersist(SharedData.createAdminUserEntity());
+		entityManager.persist(user);
+		entityManager.persist(admin);
+		entityManager.flush();
+		LocalDateTime updatedAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+		// when
+		int updated = userRepository.updateRoleByIdIn(List.of(user.getId(), admin.getId(), -1L), UserRole.ADMIN, updatedAt);
+
+		// then
+		assertThat(updated).isEqualTo(1);
+		UserSnapshot result = userRepository.findSnapshotById(user.getId()).orElseThrow();
+		assertThat(result.role()).isEqualTo(UserRole.ADMIN);
+		assertThat(result.updatedAt()).isEqualTo(updatedAt);
+	}
+
+	@Test
+	@DisplayName("success: 이메일 도메인으로 유저 ID를 id 순 청크로 조회")
+	void findIdsByEmailNormalizedLike() {
+		// given
+		Long[] ids = new Long[3];
+		for (int i = 0; i < ids.length; i++) {
+			User user = User.builder()
+				.username("파트너" + i)
+				.email("member" + i + "@Partner.com")
+				.password(SharedData.VALID_PASSWORD)
+				.build();
+			entityManager.persist(user);
+			ids[i] = user.getId();
+		}
+		entityManager.persist(prepareUserForPersist(SharedData.createValidUserEntity()));
+		entityManager.flush();
+
+		// when
+		List<Long> first = userRepository.findIdsByEmailNormalizedLike("%@partner.com", 0L, Limit.of(2));
+		List<Long> second = userRepository.findIdsByEmailNormalizedLike("%@partner.com", first.get(1), Limit.of(2));
+
+		// then
+		assertThat(first).containsExactly(ids[0], ids[1]);
+		assertThat(second).containsExactly(ids[2]);
+	}
+
+	// 영속성 컨텍스트가 관리 중인 엔티티 수 (dirty checking 스냅샷 대상)
+	private int managedEntityCount() {
+		return entityManager.getEntityManager().unwrap(SessionImplementor.class)
+			.getPersistenceContextInternal()
+			.getNumberOfManagedEntities();
 	}
-}
\ No newline at end of file
+}
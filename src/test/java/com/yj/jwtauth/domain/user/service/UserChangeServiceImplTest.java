@@ -0,0 +1,113 @@
+package com.yj.jwtauth.domain.user.service;
+
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.domain.user.changes.ChangeCursor;
+import com.yj.jwtauth.domain.user.dto.projection.UserSummary;
+import com.yj.jwtauth.domain.user.dto.response.UserChangesResponseDto;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import com.yj.jwtauth.domain.user.repository.UserQueryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserChangeServiceImplTest {
+
+	private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 4, 19, 11, 0, 0, 123_456_000);
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 4, 19, 11, 0, 5);
+	private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+	@Mock
+	private UserQueryRepository userQueryRepository;
+
+	@Test
+	@DisplayName("success: limit + 1행이 조회되면 limit행만 반환하고 마지막 행의 위치를 커서로 반환")
+	void getChangesWithMore() throws Exception {
+		// given
+		UserChangeServiceImpl userChangeService = new UserChangeServiceImpl(userQueryRepository, CLOCK, 0, 1000, 10);
+		ChangeCursor since = new ChangeCursor(UPDATED_AT, 10L);
+		// settleMillis = 0이므로 주입한 Clock의 현재 시각 이전 변경만 조회
+		when(userQueryRepository.findChanges(eq(since), eq(NOW), eq(3)))
+			.thenReturn(List.of(summary(11L), summary(12L), summary(13L)));
+
+		// when
+		UserChangesResponseDto page = userChangeService.getChanges(since.encode(), 2, 0).get();
+
+		// then
+		assertThat(page.getChanges()).extracting(UserSummary::id).containsExactly(11L, 12L);
+		assertThat(page.isHasMore()).isTrue();
+		assertThat(ChangeCursor.decode(page.getCursor())).isEqualTo(new ChangeCursor(UPDATED_AT, 12L));
+	}
+
+	@Test
+	@DisplayName("success: 변경을 기다리는 요청은 최신 변경 위치가 커서보다 뒤로 가면 다시 조회해서 완료")
+	void waitForChanges() throws Exception {
+		// given
+		UserChangeServiceImpl userChangeService = new UserChangeServiceImpl(userQueryRepository, CLOCK, 0, 1000, 10);
+		ChangeCursor since = new ChangeCursor(UPDATED_AT, 10L);
+		when(userQueryRepository.findChanges(eq(since), any(), eq(101)))
+			.thenReturn(List.of())
+			.thenReturn(List.of(summary(11L)));
+		CompletableFuture<UserChangesResponseDto> result = userChangeService.getChanges(since.encode(), 100, 5);
+		assertThat(result).isNotDone();
+
+		// 커서와 같은 위치까지만 변경이 있으면 계속 대기
+		when(userQueryRepository.findLatestChange(any()))
+			.thenReturn(Optional.of(since))
+			.thenReturn(Optional.of(new ChangeCursor(UPDATED_AT, 11L)));
+		userChangeService.wakeWaiters();
+		assertThat(result).isNotDone();
+
+		// when
+		userChangeService.wakeWaiters();
+
+		// then
+		assertThat(result.get().getChanges()).extracting(UserSummary::id).containsExactly(11L);
+		assertThat(userChangeService.waiterCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("fail: 대기자가 가득 차면 SERVER_BUSY")
+	void waitForChangesWhenFull() {
+		// given
+		UserChangeServiceImpl userChangeService = new UserChangeServiceImpl(userQueryRepository, CLOCK, 0, 1000, 1);
+		when(userQueryRepository.findChanges(any(), any(), anyInt())).thenReturn(List.of());
+		userChangeService.getChanges(null, 100, 5);
+
+		// when & then
+		assertThatThrownBy(() -> userChangeService.getChanges(null, 100, 5))
+			.isInstanceOf(CustomRuntimeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVER_BUSY);
+	}
+
+	@Test
+	@DisplayName("fail: 형식이 잘못된 커서는 INVALID_CURSOR")
+	void getChangesWithInvalidCursor() {
+		// given
+		UserChangeServiceImpl userChangeService = new UserChangeServiceImpl(userQueryRepository, CLOCK, 0, 1000, 10);
+
+		// when & then
+		assertThatThrownBy(() -> userChangeService.getChanges("bm90LWEtY3Vyc29y", 100, 0))
+			.isInstanceOf(CustomRuntimeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+		verifyNoInteractions(userQueryRepository);
+	}
+
+	private static UserSummary summary(long id) {
+		return new UserSummary(id, "user" + id, "user" + id + "@example.com", UserRole.USER, false, UPDATED_AT, UPDATED_AT);
+	}
+}
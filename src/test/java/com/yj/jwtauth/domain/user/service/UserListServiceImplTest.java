@@ -0,0 +1,144 @@
+package com.yj.jwtauth.domain.user.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.domain.user.dto.projection.UserSummary;
+import com.yj.jwtauth.domain.user.enums.UserRole;
+import com.yj.jwtauth.domain.user.repository.UserQueryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserListServiceImplTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Mock
+	private UserQueryRepository userQueryRepository;
+
+	@Test
+	@DisplayName("success: size + 1행이 조회되면 size행만 기록하고 마지막 id를 nextAfterId로 반환")
+	void listUsersWithNextPage() throws Exception {
+		// given
+		UserListServiceImpl userListService = new UserListServiceImpl(userQueryRepository, objectMapper, 1);
+		stubPage(10L, 3, 11L, 12L, 13L);
+
+		// when
+		JsonNode page = list(userListService, 10L, 2, null, null);
+
+		// then
+		assertThat(page.get("users")).hasSize(2);
+		assertThat(page.get("users").get(0).get("id").asLong()).isEqualTo(11L);
+		assertThat(page.get("users").get(0).get("email").asText()).isEqualTo("user11@example.com");
+		assertThat(page.get("users").get(0).get("role").asText()).isEqualTo("USER");
+		assertThat(page.get("users").get(0).get("deleted").asBoolean()).isFalse();
+		assertThat(page.get("users").get(0).get("createdAt").asText()).isEqualTo("2025-04-19T11:00:00");
+		assertThat(page.get("nextAfterId").asLong()).isEqualTo(12L);
+	}
+
+	@Test
+	@DisplayName("success: 마지막 페이지는 nextAfterId가 null, 이메일 접두사는 정규화해서 조회")
+	void listUsersLastPage() throws Exception {
+		// given
+		UserListServiceImpl userListService = new UserListServiceImpl(userQueryRepository, objectMapper, 1);
+		doAnswer(invocation -> {
+			Consumer<UserSummary> consumer = invocation.getArgument(4);
+			consumer.accept(summary(21L));
+			return null;
+		}).when(userQueryRepository).findPage(eq(20L), eq(3), eq(UserRole.ADMIN), eq("partner"), any());
+
+		// when
+		JsonNode page = list(userListService, 20L, 2, UserRole.ADMIN, " Partner");
+
+		// then
+		assertThat(page.get("users")).hasSize(1);
+		assertThat(page.get("nextAfterId").isNull()).isTrue();
+	}
+
+	@Test
+	@DisplayName("success: 내보내기는 유저마다 한 줄씩 기록하고 스트림을 닫음")
+	void exportUsers() throws Exception {
+		// given
+		UserListServiceImpl userListService = new UserListServiceImpl(userQueryRepository, objectMapper, 1);
+		LocalDateTime updatedSince = LocalDateTime.of(2025, 4, 1, 0, 0);
+		when(userQueryRepository.streamAll(eq(updatedSince), any())).thenAnswer(invocation -> {
+			Consumer<UserSummary> consumer = invocation.getArgument(1);
+			consumer.accept(summary(1L));
+			consumer.accept(summary(2L));
+			return 2L;
+		});
+		ClosableOutput output = new ClosableOutput();
+
+		// when
+		long exported = userListService.exportUsers(updatedSince, () -> output);
+
+		// then
+		String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(exported).isEqualTo(2L);
+		assertThat(lines).hasSize(2);
+		assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(2L);
+		assertThat(output.closed).isTrue();
+	}
+
+	@Test
+	@DisplayName("fail: 동시 내보내기 한도를 넘으면 응답을 열기 전에 SERVER_BUSY")
+	void exportUsersBusy() {
+		// given
+		UserListServiceImpl userListService = new UserListServiceImpl(userQueryRepository, objectMapper, 0);
+
+		// when, then
+		assertThatThrownBy(() -> userListService.exportUsers(null, () -> {
+			throw new AssertionError("열리면 안 됨");
+		}))
+			.isInstanceOf(CustomRuntimeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.SERVER_BUSY);
+		verifyNoInteractions(userQueryRepository);
+	}
+
+	private void stubPage(long afterId, int limit, long... ids) {
+		doAnswer(invocation -> {
+			Consumer<UserSummary> consumer = invocation.getArgument(4);
+			for (long id : ids) {
+				consumer.accept(summary(id));
+			}
+			return null;
+		}).when(userQueryRepository).findPage(eq(afterId), eq(limit), isNull(), isNull(), any());
+	}
+
+	private JsonNode list(
+		UserListServiceImpl userListService, long afterId, int size, UserRole role, String emailPrefix
+	) throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		userListService.listUsers(afterId, size, role, emailPrefix, output);
+		return objectMapper.readTree(output.toByteArray());
+	}
+
+	private static UserSummary summary(long id) {
+		LocalDateTime time = LocalDateTime.of(2025, 4, 19, 11, 0);
+		return new UserSummary(id, "사용자" + id, "user" + id + "@example.com", UserRole.USER, false, time, time);
+	}
+
+	private static final class ClosableOutput extends ByteArrayOutputStream {
+
+		private boolean closed;
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+}
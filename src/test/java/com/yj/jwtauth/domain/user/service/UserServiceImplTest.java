@@ -1,27 +1,44 @@
 package com.yj.jwtauth.domain.user.service;
 
 import com.yj.jwtauth.auth.JwtService;
+import com.yj.jwtauth.auth.refresh.RefreshTokenStore;
 import com.yj.jwtauth.common.datas.SharedData;
 import com.yj.jwtauth.common.entity.User;
 import com.yj.jwtauth.common.exception.CustomRuntimeException;
 import com.yj.jwtauth.common.exception.error.ErrorCode;
+import com.yj.jwtauth.common.metrics.AuthMetrics;
+import com.yj.jwtauth.domain.user.cache.UserSnapshotCache;
+import com.yj.jwtauth.domain.user.dto.projection.SigninCredentials;
+import com.yj.jwtauth.domain.user.dto.request.RoleBulkUpdateRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.RoleUpdateRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.SignupRequestDto;
+import com.yj.jwtauth.domain.user.dto.response.RoleBulkUpdateResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.SigninResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.SignupResponseDto;
 import com.yj.jwtauth.domain.user.dto.response.UserResponseDto;
 import com.yj.jwtauth.domain.user.enums.UserRole;
 import com.yj.jwtauth.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,6 +46,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class UserServiceImplTest {
 
+	private static final long NOW_MILLIS = 1_745_000_000_000L;
+	private static final LocalDateTime NOW = LocalDateTime.ofInstant(Instant.ofEpochMilli(NOW_MILLIS), ZoneOffset.UTC);
+
 	// === 가짜 객체(Mock) ===
 	@Mock
 	private UserRepository userRepository;
@@ -39,6 +59,16 @@ class UserServiceImplTest {
 	@Mock
 	private JwtService jwtService;
 
+	@Mock
+	private RefreshTokenStore refreshTokenStore;
+
+	@Mock
+	private Clock clock;
+
+	// 실제 캐시 사용 (적중/무효화 동작 확인)
+	@Spy
+	private UserSnapshotCache userSnapshotCache = new UserSnapshotCache(100, 60, new AuthMetrics(new SimpleMeterRegistry()));
+
 	// === 테스트 대상 클래스(실제 객체) ===
 	@InjectMocks
 	private UserServiceImpl userService;
@@ -53,9 +83,8 @@ class UserServiceImplTest {
 		SignupRequestDto requestDto = SharedData.createValidSignupDto();
 		User user = SharedData.createValidUserEntity();
 
-		when(userRepository.existsByEmail(requestDto.getEmail())).thenReturn(false);
 		when(passwordEncoder.encode(requestDto.getPassword())).thenReturn("encodedPassword");
-		when(userRepository.save(any(User.class))).thenReturn(user);
+		when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
 
 		// when
 		SignupResponseDto result = userService.userSignup(requestDto);
@@ -66,9 +95,8 @@ class UserServiceImplTest {
 		assertThat(result.getUsername()).isEqualTo(user.getUsername());
 		assertThat(UserRole.valueOf(result.getRole())).isEqualTo(UserRole.USER);
 
-		verify(userRepository, times(1)).existsByEmail(requestDto.getEmail());
 		verify(passwordEncoder, times(1)).encode(requestDto.getPassword());
-		verify(userRepository, times(1)).save(any(User.class));
+		verify(userRepository, times(1)).saveAndFlush(any(User.class));
 	}
 
 	@Test
@@ -77,15 +105,29 @@ class UserServiceImplTest {
 		// given
 		SignupRequestDto requestDto = SharedData.createDuplicateEmailSignupDto();
 
-		when(userRepository.existsByEmail(requestDto.getEmail())).thenReturn(true);
+		when(userRepository.saveAndFlush(any(User.class)))
+			.thenThrow(new DataIntegrityViolationException(User.EMAIL_NORMALIZED_UNIQUE));
 
 		// when, then
 		assertThatThrownBy(() -> userService.userSignup(requestDto))
 			.isInstanceOf(CustomRuntimeException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMAIL_ALREADY_EXISTS);
 
-		verify(userRepository, times(1)).existsByEmail(requestDto.getEmail());
-		verify(userRepository, never()).save(any());
+		verify(userRepository, times(1)).saveAndFlush(any(User.class));
+	}
+
+	@Test
+	@DisplayName("fail: 이메일 유니크 제약이 아닌 무결성 위반은 이메일 중복으로 바꾸지 않음")
+	void userSignupOtherIntegrityViolation() {
+		// given
+		SignupRequestDto requestDto = SharedData.createDuplicateEmailSignupDto();
+		DataIntegrityViolationException notNullViolation =
+			new DataIntegrityViolationException("NULL not allowed for column \"USERNAME\"");
+
+		when(userRepository.saveAndFlush(any(User.class))).thenThrow(notNullViolation);
+
+		// when, then
+		assertThatThrownBy(() -> userService.userSignup(requestDto)).isSameAs(notNullViolation);
 	}
 
 	/*
@@ -98,9 +140,8 @@ class UserServiceImplTest {
 		SignupRequestDto requestDto = SharedData.createAdminSignupDto();
 		User admin = SharedData.createAdminUserEntity();
 
-		when(userRepository.existsByEmail(requestDto.getEmail())).thenReturn(false);
 		when(passwordEncoder.encode(requestDto.getPassword())).thenReturn("encodedPassword");
-		when(userRepository.save(any(User.class))).thenReturn(admin);
+		when(userRepository.saveAndFlush(any(User.class))).thenReturn(admin);
 
 		// when
 		SignupResponseDto result = userService.adminSignup(requestDto);
@@ -111,9 +152,8 @@ class UserServiceImplTest {
 		assertThat(result.getUsername()).isEqualTo(admin.getUsername());
 		assertThat(UserRole.valueOf(result.getRole())).isEqualTo(UserRole.ADMIN);
 
-		verify(userRepository, times(1)).existsByEmail(requestDto.getEmail());
 		verify(passwordEncoder, times(1)).encode(requestDto.getPassword());
-		verify(userRepository, times(1)).save(any(User.class));
+		verify(userRepository, times(1)).saveAndFlush(any(User.class));
 	}
 
 	@Test
@@ -122,15 +162,15 @@ class UserServiceImplTest {
 		// given
 		SignupRequestDto requestDto = SharedData.createDuplicateEmailSignupDto();
 
-		when(userRepository.existsByEmail(requestDto.getEmail())).thenReturn(true);
+		when(userRepository.saveAndFlush(any(User.class)))
+			.thenThrow(new DataIntegrityViolationException(User.EMAIL_NORMALIZED_UNIQUE));
 
 		// when, then
 		assertThatThrownBy(() -> userService.adminSignup(requestDto))
 			.isInstanceOf(CustomRuntimeException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMAIL_ALREADY_EXISTS);
 
-		verify(userRepository, times(1)).existsByEmail(requestDto.getEmail());
-		verify(userRepository, never()).save(any());
+		verify(userRepository, times(1)).saveAndFlush(any(User.class));
 	}
 
 	/*
@@ -141,11 +181,13 @@ class UserServiceImplTest {
 	void userOrAdminSignin() {
 		// given
 		SigninRequestDto requestDto = SharedData.createValidSigninDto();
-		User user = SharedData.createValidUserEntity();
+		SigninCredentials user = SharedData.createValidSigninCredentials();
 
-		when(userRepository.findByEmail(requestDto.getEmail())).thenReturn(Optional.of(user));
-		when(passwordEncoder.matches(requestDto.getPassword(), user.getPassword())).thenReturn(true);
-		when(jwtService.createToken(user.getId(), user.getEmail(), user.getRole())).thenReturn("jwt-token");
+		when(userRepository.findSigninCredentials(User.normalizeEmail(requestDto.getEmail()))).thenReturn(Optional.of(user));
+		when(passwordEncoder.matches(requestDto.getPassword(), user.password())).thenReturn(true);
+		when(jwtService.createToken(user.id(), user.email(), user.role())).thenReturn("jwt-token");
+		when(clock.millis()).thenReturn(NOW_MILLIS);
+		when(refreshTokenStore.issue(user.id(), NOW_MILLIS)).thenReturn("refresh-token");
 
 		// when
 		SigninResponseDto result = userService.userOrAdminSignin(requestDto);
@@ -153,10 +195,11 @@ class UserServiceImplTest {
 		// then
 		assertThat(result).isNotNull();
 		assertThat(result.getToken()).isEqualTo("jwt-token"); // "Bearer " 접두사 제거
+		assertThat(result.getRefreshToken()).isEqualTo("refresh-token");
 
-		verify(userRepository, times(1)).findByEmail(requestDto.getEmail());
-		verify(passwordEncoder, times(1)).matches(requestDto.getPassword(), user.getPassword());
-		verify(jwtService, times(1)).createToken(user.getId(), user.getEmail(), user.getRole());
+		verify(userRepository, times(1)).findSigninCredentials(User.normalizeEmail(requestDto.getEmail()));
+		verify(passwordEncoder, times(1)).matches(requestDto.getPassword(), user.password());
+		verify(jwtService, times(1)).createToken(user.id(), user.email(), user.role());
 	}
 
 	@Test
@@ -165,14 +208,14 @@ class UserServiceImplTest {
 		// given
 		SigninRequestDto requestDto = SharedData.createNonexistentUserSigninDto();
 
-		when(userRepository.findByEmail(requestDto.getEmail())).thenReturn(Optional.empty());
+		when(userRepository.findSigninCredentials(User.normalizeEmail(requestDto.getEmail()))).thenReturn(Optional.empty());
 
 		// when, then
 		assertThatThrownBy(() -> userService.userOrAdminSignin(requestDto))
 			.isInstanceOf(CustomRuntimeException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CREDENTIALS);
 
-		verify(userRepository, times(1)).findByEmail(requestDto.getEmail());
+		verify(userRepository, times(1)).findSigninCredentials(User.normalizeEmail(requestDto.getEmail()));
 	}
 
 	@Test
@@ -180,18 +223,18 @@ class UserServiceImplTest {
 	void signinFailByPassword() {
 		// given
 		SigninRequestDto requestDto = SharedData.createInvalidPasswordSigninDto();
-		User user = SharedData.createValidUserEntity();
+		SigninCredentials user = SharedData.createValidSigninCredentials();
 
-		when(userRepository.findByEmail(requestDto.getEmail())).thenReturn(Optional.of(user));
-		when(passwordEncoder.matches(requestDto.getPassword(), user.getPassword())).thenReturn(false);
+		when(userRepository.findSigninCredentials(User.normalizeEmail(requestDto.getEmail()))).thenReturn(Optional.of(user));
+		when(passwordEncoder.matches(requestDto.getPassword(), user.password())).thenReturn(false);
 
 		// when, then
 		assertThatThrownBy(() -> userService.userOrAdminSignin(requestDto))
 			.isInstanceOf(CustomRuntimeException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CREDENTIALS);
 
-		verify(userRepository, times(1)).findByEmail(requestDto.getEmail());
-		verify(passwordEncoder, times(1)).matches(requestDto.getPassword(), user.getPassword());
+		verify(userRepository, times(1)).findSigninCredentials(User.normalizeEmail(requestDto.getEmail()));
+		verify(passwordEncoder, times(1)).matches(requestDto.getPassword(), user.password());
 	}
 
 	/*
@@ -234,6 +277,62 @@ class UserServiceImplTest {
 		verify(userRepository, times(1)).findById(userId);
 	}
 
+	/*
+	 * assignRoles
+	 */
+	@Test
+	@DisplayName("success: 유저 ID 목록의 역할 일괄 변경은 중복을 제거하고 청크마다 UPDATE 후 캐시 제거")
+	void assignRolesByUserIds() {
+		// given
+		List<Long> userIds = new ArrayList<>(LongStream.rangeClosed(1, 1500).boxed().toList());
+		userIds.add(1L);
+		RoleBulkUpdateRequestDto requestDto = new RoleBulkUpdateRequestDto(userIds, null, UserRole.ADMIN);
+
+		stubClock();
+		when(userRepository.updateRoleByIdIn(anyList(), eq(UserRole.ADMIN), eq(NOW)))
+			.thenReturn(1000, 400);
+
+		// when
+		RoleBulkUpdateResponseDto result = userService.assignRoles(requestDto);
+
+		// then
+		assertThat(result.getRole()).isEqualTo("ADMIN");
+		assertThat(result.getRequested()).isEqualTo(1500);
+		assertThat(result.getUpdated()).isEqualTo(1400);
+		verify(userRepository, times(2)).updateRoleByIdIn(anyList(), eq(UserRole.ADMIN), eq(NOW));
+		verify(userSnapshotCache, times(2)).invalidateAll(anyList());
+		verify(userRepository, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("success: 이메일 도메인의 역할 일괄 변경은 ID를 키셋 청크로 조회해 UPDATE")
+	void assignRolesByEmailDomain() {
+		// given
+		RoleBulkUpdateRequestDto requestDto = new RoleBulkUpdateRequestDto(null, "Partner.com", UserRole.ADMIN);
+
+		when(userRepository.findIdsByEmailNormalizedLike(eq("%@partner.com"), eq(0L), any(Limit.class)))
+			.thenReturn(List.of(3L, 7L));
+		when(userRepository.findIdsByEmailNormalizedLike(eq("%@partner.com"), eq(7L), any(Limit.class)))
+			.thenReturn(List.of());
+		stubClock();
+		when(userRepository.updateRoleByIdIn(eq(List.of(3L, 7L)), eq(UserRole.ADMIN), eq(NOW)))
+			.thenReturn(2);
+
+		// when
+		RoleBulkUpdateResponseDto result = userService.assignRoles(requestDto);
+
+		// then
+		assertThat(result.getRequested()).isEqualTo(2);
+		assertThat(result.getUpdated()).isEqualTo(2);
+		verify(userSnapshotCache, times(1)).invalidateAll(List.of(3L, 7L));
+	}
+
+	// updatedAt은 주입한 Clock 기준
+	private void stubClock() {
+		when(clock.instant()).thenReturn(Instant.ofEpochMilli(NOW_MILLIS));
+		when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+	}
+
 	/*
 	 * getMyInfo
 	 */
@@ -244,7 +343,7 @@ class UserServiceImplTest {
 		Long userId = SharedData.VALID_USER_ID;
 		User user = SharedData.createValidUserEntity();
 
-		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+		when(userRepository.findSnapshotById(userId)).thenReturn(Optional.of(SharedData.createUserSnapshot(user)));
 
 		// when
 		UserResponseDto result = userService.getMyInfo(userId);
@@ -255,7 +354,49 @@ class UserServiceImplTest {
 		assertThat(result.getEmail()).isEqualTo(user.getEmail());
 		assertThat(result.getRoles()).containsExactly("USER");
 
+		verify(userRepository, times(1)).findSnapshotById(userId);
+	}
+
+	@Test
+	@DisplayName("success: 두 번째 내 정보 조회는 캐시에서 반환")
+	void getMyInfoCached() {
+		// given
+		Long userId = SharedData.VALID_USER_ID;
+		User user = SharedData.createValidUserEntity();
+
+		when(userRepository.findSnapshotById(userId)).thenReturn(Optional.of(SharedData.createUserSnapshot(user)));
+		userService.getMyInfo(userId);
+
+		// when
+		UserResponseDto result = userService.getMyInfo(userId);
+
+		// then
+		assertThat(result.getEmail()).isEqualTo(user.getEmail());
+		assertThat(userSnapshotCache.stats().hitCount()).isEqualTo(1L);
+		verify(userRepository, times(1)).findSnapshotById(userId);
+	}
+
+	@Test
+	@DisplayName("success: 권한 부여 후 내 정보 조회는 바뀐 권한을 반환")
+	void getMyInfoAfterAssignAdminRole() {
+		// given
+		Long userId = SharedData.VALID_USER_ID;
+		User user = SharedData.createValidUserEntity();
+
+		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+		when(userRepository.findSnapshotById(userId))
+			.thenAnswer(invocation -> Optional.of(SharedData.createUserSnapshot(user)));
+		userService.getMyInfo(userId);
+
+		// when
+		userService.assignAdminRole(userId, SharedData.createAssignAdminRoleDto());
+		UserResponseDto result = userService.getMyInfo(userId);
+
+		// then
+		assertThat(result.getRoles()).containsExactly("ADMIN");
+		verify(userSnapshotCache, times(1)).invalidate(userId);
 		verify(userRepository, times(1)).findById(userId);
+		verify(userRepository, times(2)).findSnapshotById(userId);
 	}
 
 	@Test
@@ -264,13 +405,13 @@ class UserServiceImplTest {
 		// given
 		Long userId = 999L;
 
-		when(userRepository.findById(userId)).thenReturn(Optional.empty());
+		when(userRepository.findSnapshotById(userId)).thenReturn(Optional.empty());
 
 		// when, then
 		assertThatThrownBy(() -> userService.getMyInfo(userId))
 			.isInstanceOf(CustomRuntimeException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.ACCESS_DENIED);
 
-		verify(userRepository, times(1)).findById(userId);
+		verify(userRepository, times(1)).findSnapshotById(userId);
 	}
 }
\ No newline at end of file
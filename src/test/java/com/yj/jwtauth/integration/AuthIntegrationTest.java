@@ -1,27 +1,62 @@
 package com.yj.jwtauth.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yj.jwtauth.common.entity.User;
+import com.yj.jwtauth.common.exception.CustomRuntimeException;
+import com.yj.jwtauth.common.exception.error.ErrorCode;
 import com.yj.jwtauth.domain.user.dto.request.RoleUpdateRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.SigninRequestDto;
 import com.yj.jwtauth.domain.user.dto.request.SignupRequestDto;
 import com.yj.jwtauth.domain.user.enums.UserRole;
 import com.yj.jwtauth.domain.user.repository.UserRepository;
+import com.yj.jwtauth.domain.user.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+// 테스트마다 같은 계정/IP로 로그인하므로 시도 제한은 넉넉하게, 변경 피드는 지연 없이 바로 보이도록
+@SpringBootTest(properties = {
+	"signin.throttle.account.capacity=1000",
+	"signin.throttle.ip.capacity=1000",
+	"user.changes.settle-millis=0",
+	"user.changes.poll-millis=100"
+})
 @AutoConfigureMockMvc
 // 통합 테스트
 class AuthIntegrationTest {
@@ -29,7 +64,8 @@ class AuthIntegrationTest {
 	@Autowired private MockMvc mockMvc;
 	@Autowired private ObjectMapper objectMapper;
 	@Autowired private UserRepository userRepository;
-	@Autowired private PasswordEncoder passwordEncoder;
+	@SpyBean private PasswordEncoder passwordEncoder;
+	@Autowired private UserService userService;
 
 	private Long userId;
 
@@ -61,6 +97,25 @@ class AuthIntegrationTest {
 			.andExpect(jsonPath("$.role").value("USER"));
 	}
 
+	@Test
+	@DisplayName("success: 회원가입의 비밀번호 해시는 트랜잭션 밖에서 계산")
+	void signupHashesOutsideTransaction() throws Exception {
+		// given
+		List<Boolean> hashedInTransaction = new CopyOnWriteArrayList<>();
+		doAnswer(invocation -> {
+			hashedInTransaction.add(TransactionSynchronizationManager.isActualTransactionActive());
+			return invocation.callRealMethod();
+		}).when(passwordEncoder).encode(any());
+
+		// when
+		userService.userSignup(new SignupRequestDto("tx-user@example.com", "사용자", "Password123!"));
+		userService.adminSignup(new SignupRequestDto("tx-admin@example.com", "관리자", "Password123!"));
+
+		// then
+		assertThat(hashedInTransaction).containsExactly(false, false);
+		assertThat(userRepository.count()).isEqualTo(3);
+	}
+
 	@Test
 	@DisplayName("fail: 중복 이메일 회원가입 시 예외 발생")
 	void signupUser_fail_duplicateEmail() throws Exception {
@@ -113,6 +168,15 @@ class AuthIntegrationTest {
 			.andExpect(status().isUnauthorized());
 	}
 
+	@Test
+	@DisplayName("fail: 유효하지 않은 토큰으로 내 정보 조회 시 401")
+	void getMyInfoWithInvalidToken() throws Exception {
+		mockMvc.perform(get("/api/my-informations")
+				.header("Authorization", "Bearer invalid.token.value"))
+			.andExpect(status().isUnauthorized())
+			.andExpect(jsonPath("$.error.code").value(ErrorCode.INVALID_TOKEN.name()));
+	}
+
 	@Test
 	@DisplayName("success: JWT 포함 보호 API 접근 성공")
 	void accessProtectedApiWithJwt() throws Exception {
@@ -146,6 +210,38 @@ class AuthIntegrationTest {
 			.andExpect(jsonPath("$.role").value("ADMIN"));
 	}
 
+	@Test
+	@DisplayName("success: 권한 부여 직후 내 정보 조회에 바뀐 권한이 반영됨")
+	void myInfoReflectsRoleChangeImmediately() throws Exception {
+		User admin = User.builder()
+			.email("admin3@example.com")
+			.password(passwordEncoder.encode("Admin123!"))
+			.username("관리자3")
+			.build();
+		admin.updateRole(UserRole.ADMIN);
+		userRepository.save(admin);
+
+		String userToken = loginAndGetToken("user@example.com", "Password123!");
+		String adminToken = loginAndGetToken("admin3@example.com", "Admin123!");
+
+		// 캐시에 USER로 적재
+		mockMvc.perform(get("/api/my-informations")
+				.header("Authorization", userToken))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.role").value("USER"));
+
+		mockMvc.perform(patch("/api/admins/users/" + userId + "/roles")
+				.header("Authorization", adminToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new RoleUpdateRequestDto(UserRole.ADMIN))))
+			.andExpect(status().isOk());
+
+		mockMvc.perform(get("/api/my-informations")
+				.header("Authorization", userToken))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.role").value("ADMIN"));
+	}
+
 	@Test
 	@DisplayName("fail: JWT 없이 관리자 권한 부여 시 401")
 	void assignAdminRoleWithoutJwt() throws Exception {
@@ -157,6 +253,16 @@ class AuthIntegrationTest {
 			.andExpect(status().isUnauthorized());
 	}
 
+	@Test
+	@DisplayName("fail: 일반 유저 JWT로 인코딩된 관리자 경로를 호출해도 403")
+	void accessEncodedAdminPathWithUserJwt() throws Exception {
+		String userToken = loginAndGetToken("user@example.com", "Password123!");
+
+		mockMvc.perform(get(URI.create("/api/admin%73/users"))
+				.header("Authorization", userToken))
+			.andExpect(status().isForbidden());
+	}
+
 	@Test
 	@DisplayName("fail: 일반 유저 JWT로 권한 부여 시 403")
 	void assignAdminRoleWithUserJwt() throws Exception {
@@ -191,6 +297,343 @@ class AuthIntegrationTest {
 			.andExpect(status().isForbidden());
 	}
 
+	@Test
+	@DisplayName("fail: 폐기한 토큰으로 보호 API 접근 시 401")
+	void accessProtectedApiWithRevokedJwt() throws Exception {
+		String token = loginAndGetToken("user@example.com", "Password123!");
+
+		mockMvc.perform(post("/api/token/revoke")
+				.header("Authorization", token))
+			.andExpect(status().isNoContent());
+
+		mockMvc.perform(get("/api/my-informations")
+				.header("Authorization", token))
+			.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	@DisplayName("success: 같은 이메일(대소문자만 다름)로 동시에 가입해도 계정은 하나만 생성")
+	void concurrentSignupCreatesExactlyOneAccount() throws Exception {
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger created = new AtomicInteger();
+		AtomicInteger duplicated = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (int i = 0; i < threads; i++) {
+			String email = i % 2 == 0 ? "race@example.com" : "Race@Example.COM";
+			futures.add(executor.submit(() -> {
+				start.await();
+				try {
+					userService.userSignup(new SignupRequestDto(email, "경쟁", "Password123!"));
+					created.incrementAndGet();
+				} catch (CustomRuntimeException e) {
+					if (e.getErrorCode() == ErrorCode.EMAIL_ALREADY_EXISTS) {
+						duplicated.incrementAndGet();
+					}
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertThat(created.get()).isEqualTo(1);
+		assertThat(duplicated.get()).isEqualTo(threads - 1);
+		assertThat(userRepository.findAll())
+			.filteredOn(user -> user.getEmailNormalized().equals("race@example.com"))
+			.hasSize(1);
+	}
+
+	@Test
+	@DisplayName("success: NDJSON 대량 가져오기, 중복/형식 오류 행만 거부하고 나머지는 로그인 가능")
+	void importUsersFromNdjson() throws Exception {
+		String adminToken = createAdminAndGetToken("importer@example.com");
+		String hash = passwordEncoder.encode("Hashed123!");
+		String body = String.join("\n",
+			"{\"username\":\"가져온1\",\"email\":\"imp1@example.com\",\"password\":\"Password123!\"}",
+			"{\"username\":\"가져온2\",\"email\":\"imp2@example.com\",\"passwordHash\":\"" + hash + "\"}",
+			"{\"username\":\"기존\",\"email\":\"USER@example.com\",\"password\":\"Password123!\"}",
+			"{\"username\":\"파일중복\",\"email\":\"Imp1@Example.com\",\"password\":\"Password123!\"}",
+			"{\"username\":\"비밀번호없음\",\"email\":\"imp3@example.com\"}");
+		clearInvocations(passwordEncoder);
+
+		MvcResult result = mockMvc.perform(post("/api/admins/users/import")
+				.header("Authorization", adminToken)
+				.contentType("application/x-ndjson")
+				.content(body))
+			.andExpect(status().isOk())
+			.andReturn();
+
+		String[] lines = result.getResponse().getContentAsString().split("\n");
+		assertThat(lines).hasSize(4);
+		assertThat(objectMapper.readTree(lines[0]).get("line").asInt()).isEqualTo(3);
+		assertThat(objectMapper.readTree(lines[0]).get("error").asText()).isEqualTo("EMAIL_ALREADY_EXISTS");
+		assertThat(objectMapper.readTree(lines[1]).get("line").asInt()).isEqualTo(4);
+		assertThat(objectMapper.readTree(lines[1]).get("error").asText()).isEqualTo("EMAIL_ALREADY_EXISTS");
+		assertThat(objectMapper.readTree(lines[2]).get("line").asInt()).isEqualTo(5);
+		assertThat(objectMapper.readTree(lines[2]).get("error").asText()).isEqualTo("INVALID_IMPORT_ROW");
+		assertThat(objectMapper.readTree(lines[3]).get("imported").asLong()).isEqualTo(2);
+		assertThat(objectMapper.readTree(lines[3]).get("rejected").asLong()).isEqualTo(3);
+		// 가져오기 해시는 로그인용 풀(PasswordEncoder 빈)을 거치지 않음
+		verify(passwordEncoder, never()).encode(any());
+
+		loginAndGetToken("imp1@example.com", "Password123!");
+		loginAndGetToken("imp2@example.com", "Hashed123!");
+	}
+
+	@Test
+	@DisplayName("success: 여러 청크에 걸친 CSV 가져오기")
+	void importUsersFromCsvAcrossChunks() throws Exception {
+		String adminToken = createAdminAndGetToken("importer2@example.com");
+		String hash = passwordEncoder.encode("Hashed123!");
+		int rows = 1201;
+		StringBuilder body = new StringBuilder("username,email,password_hash\n");
+		for (int i = 0; i < rows; i++) {
+			body.append("사용자").append(i).append(",bulk").append(i).append("@example.com,").append(hash).append('\n');
+		}
+
+		MvcResult result = mockMvc.perform(post("/api/admins/users/import")
+				.header("Authorization", adminToken)
+				.contentType("text/csv")
+				.content(body.toString()))
+			.andExpect(status().isOk())
+			.andReturn();
+
+		assertThat(objectMapper.readTree(result.getResponse().getContentAsString()).get("imported").asLong())
+			.isEqualTo(rows);
+		assertThat(userRepository.count()).isEqualTo(rows + 2);
+	}
+
+	@Test
+	@DisplayName("fail: 일반 유저 JWT로 대량 가져오기 시 403")
+	void importUsersWithUserJwt() throws Exception {
+		String userToken = loginAndGetToken("user@example.com", "Password123!");
+
+		mockMvc.perform(post("/api/admins/users/import")
+				.header("Authorization", userToken)
+				.contentType("application/x-ndjson")
+				.content("{}"))
+			.andExpect(status().isForbidden());
+	}
+
+	@Test
+	@DisplayName("success: 역할 일괄 변경 후 대상 유저의 내 정보 조회에 바뀐 역할이 반영됨")
+	void assignRolesInBulk() throws Exception {
+		String adminToken = createAdminAndGetToken("bulk-admin@example.com");
+		String userToken = loginAndGetToken("user@example.com", "Password123!");
+
+		// 캐시에 USER로 적재
+		mockMvc.perform(get("/api/my-informations")
+				.header("Authorization", userToken))
+			.andExpect(jsonPath("$.role").value("USER"));
+
+		mockMvc.perform(patch("/api/admins/users/roles")
+				.header("Authorization", adminToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"userIds\":[" + userId + ", 99999],\"role\":\"ADMIN\"}"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.requested").value(2))
+			.andExpect(jsonPath("$.updated").value(1));
+
+		mockMvc.perform(get("/api/my-informations")
+				.header("Authorization", userToken))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.role").value("ADMIN"));
+	}
+
+	@Test
+	@DisplayName("fail: 역할 일괄 변경에 ID 목록과 도메인을 함께 보내면 400")
+	void assignRolesInBulkWithBothTargets() throws Exception {
+		String adminToken = createAdminAndGetToken("bulk-admin2@example.com");
+
+		mockMvc.perform(patch("/api/admins/users/roles")
+				.header("Authorization", adminToken)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"userIds\":[" + userId + "],\"emailDomain\":\"example.com\",\"role\":\"ADMIN\"}"))
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("success: 유저 목록을 키셋 페이지로 끝까지 조회하면 모든 유저가 id 순으로 한 번씩 나옴")
+	void listUsersByKeysetPages() throws Exception {
+		String adminToken = createAdminAndGetToken("list-admin@example.com");
+		for (int i = 0; i < 5; i++) {
+			userRepository.save(User.builder()
+				.email("member" + i + "@partner.com")
+				.password("encoded")
+				.username("파트너" + i)
+				.build());
+		}
+
+		List<Long> ids = new ArrayList<>();
+		String afterId = "0";
+		int pages = 0;
+		while (afterId != null) {
+			MvcResult result = mockMvc.perform(get("/api/admins/users")
+					.header("Authorization", adminToken)
+					.param("afterId", afterId)
+					.param("size", "3"))
+				.andExpect(status().isOk())
+				.andReturn();
+			JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+			page.get("users").forEach(user -> ids.add(user.get("id").asLong()));
+			afterId = page.get("nextAfterId").isNull() ? null : page.get("nextAfterId").asText();
+			pages++;
+		}
+
+		assertThat(pages).isEqualTo(3);
+		assertThat(ids).hasSize(7).isSorted().doesNotHaveDuplicates();
+	}
+
+	@Test
+	@DisplayName("success: 역할과 이메일 접두사로 유저 목록 필터")
+	void listUsersWithFilters() throws Exception {
+		String adminToken = createAdminAndGetToken("list-admin2@example.com");
+
+		mockMvc.perform(get("/api/admins/users")
+				.header("Authorization", adminToken)
+				.param("role", "ADMIN"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.users.length()").value(1))
+			.andExpect(jsonPath("$.users[0].email").value("list-admin2@example.com"))
+			.andExpect(jsonPath("$.users[0].password").doesNotExist())
+			.andExpect(jsonPath("$.nextAfterId").isEmpty());
+
+		mockMvc.perform(get("/api/admins/users")
+				.header("Authorization", adminToken)
+				.param("emailPrefix", "USER@"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.users.length()").value(1))
+			.andExpect(jsonPath("$.users[0].id").value(userId));
+	}
+
+	@Test
+	@DisplayName("fail: 일반 유저 JWT로 유저 목록 조회 시 403")
+	void listUsersWithUserJwt() throws Exception {
+		String userToken = loginAndGetToken("user@example.com", "Password123!");
+
+		mockMvc.perform(get("/api/admins/users")
+				.header("Authorization", userToken))
+			.andExpect(status().isForbidden());
+	}
+
+	@Test
+	@DisplayName("success: 유저 내보내기는 한 줄에 한 명씩, gzip 요청 시 압축하고 updatedSince 이후 변경분만 거름")
+	void exportUsers() throws Exception {
+		String adminToken = createAdminAndGetToken("export-admin@example.com");
+
+		MvcResult plain = mockMvc.perform(get("/api/admins/users/export")
+				.header("Authorization", adminToken))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist("Content-Encoding"))
+			.andReturn();
+		assertThat(plain.getResponse().getContentAsString().split("\n")).hasSize(2);
+
+		MvcResult gzipped = mockMvc.perform(get("/api/admins/users/export")
+				.header("Authorization", adminToken)
+				.header("Accept-Encoding", "gzip, deflate"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Encoding", "gzip"))
+			.andReturn();
+		try (GZIPInputStream input = new GZIPInputStream(
+			new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray()))) {
+			String[] lines = new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+			assertThat(lines).hasSize(2);
+			assertThat(objectMapper.readTree(lines[0]).get("email").asText()).isEqualTo("user@example.com");
+		}
+
+		mockMvc.perform(get("/api/admins/users/export")
+				.header("Authorization", adminToken)
+				.param("updatedSince", LocalDateTime.now().plusDays(1).toString()))
+			.andExpect(status().isOk())
+			.andExpect(content().string(""));
+	}
+
+	@Test
+	@DisplayName("success: 변경 피드를 커서로 이어 조회하면 모든 유저가 한 번씩 나오고, 변경이 없으면 같은 커서를 반환")
+	void getUserChangesByCursor() throws Exception {
+		String adminToken = createAdminAndGetToken("changes-admin@example.com");
+
+		JsonNode first = getChanges(adminToken, get("/api/admins/users/changes").param("limit", "1"));
+		assertThat(first.get("changes")).hasSize(1);
+		assertThat(first.get("changes").get(0).get("email").asText()).isEqualTo("user@example.com");
+		assertThat(first.get("hasMore").asBoolean()).isTrue();
+
+		JsonNode second = getChanges(adminToken, get("/api/admins/users/changes")
+			.param("since", first.get("cursor").asText()));
+		assertThat(second.get("changes")).hasSize(1);
+		assertThat(second.get("changes").get(0).get("email").asText()).isEqualTo("changes-admin@example.com");
+		assertThat(second.get("changes").get(0).get("deleted").asBoolean()).isFalse();
+		assertThat(second.get("hasMore").asBoolean()).isFalse();
+
+		JsonNode third = getChanges(adminToken, get("/api/admins/users/changes")
+			.param("since", second.get("cursor").asText()));
+		assertThat(third.get("changes")).isEmpty();
+		assertThat(third.get("cursor").asText()).isEqualTo(second.get("cursor").asText());
+	}
+
+	@Test
+	@DisplayName("success: waitSeconds를 주면 변경이 생길 때까지 기다렸다가 그 변경을 반환")
+	void waitForUserChanges() throws Exception {
+		String adminToken = createAdminAndGetToken("changes-admin2@example.com");
+		String cursor = getChanges(adminToken, get("/api/admins/users/changes")).get("cursor").asText();
+
+		MvcResult waiting = mockMvc.perform(get("/api/admins/users/changes")
+				.header("Authorization", adminToken)
+				.param("since", cursor)
+				.param("waitSeconds", "5"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		userService.userSignup(new SignupRequestDto("changed@example.com", "변경", "Password123!"));
+
+		MvcResult result = mockMvc.perform(asyncDispatch(waiting))
+			.andExpect(status().isOk())
+			.andReturn();
+		JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+		assertThat(page.get("changes")).hasSize(1);
+		assertThat(page.get("changes").get(0).get("email").asText()).isEqualTo("changed@example.com");
+	}
+
+	@Test
+	@DisplayName("fail: 형식이 잘못된 커서로 변경 피드를 조회하면 400")
+	void getUserChangesWithInvalidCursor() throws Exception {
+		String adminToken = createAdminAndGetToken("changes-admin3@example.com");
+
+		mockMvc.perform(get("/api/admins/users/changes")
+				.header("Authorization", adminToken)
+				.param("since", "not-a-cursor"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.error.code").value(ErrorCode.INVALID_CURSOR.name()));
+	}
+
+	// 변경 피드는 비동기 응답이라 디스패치까지 마친 결과를 반환
+	private JsonNode getChanges(String token, MockHttpServletRequestBuilder builder) throws Exception {
+		MvcResult started = mockMvc.perform(builder.header("Authorization", token))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		MvcResult result = mockMvc.perform(asyncDispatch(started))
+			.andExpect(status().isOk())
+			.andReturn();
+		return objectMapper.readTree(result.getResponse().getContentAsString());
+	}
+
+	// 관리자 생성 후 JWT 반환 유틸
+	private String createAdminAndGetToken(String email) throws Exception {
+		User admin = User.builder()
+			.email(email)
+			.password(passwordEncoder.encode("Admin123!"))
+			.username("관리자")
+			.build();
+		admin.updateRole(UserRole.ADMIN);
+		userRepository.save(admin);
+		return loginAndGetToken(email, "Admin123!");
+	}
+
 	// 로그인 후 JWT 반환 유틸
 	private String loginAndGetToken(String email, String password) throws Exception {
 		SigninRequestDto dto = new SigninRequestDto(email, password);
@@ -0,0 +1,147 @@
+package com.yj.jwtauth.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yj.jwtauth.common.entity.User;
+import com.yj.jwtauth.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로그인 폭주 중 내 정보 조회 p99 확인 (./gradlew loadTest, 기본 test 태스크에서는 제외).
+ * BCrypt 풀 스레드 + 대기열을 넘는 로그인은 503으로 즉시 거부되므로 요청 스레드가 로그인으로 가득 차지 않고,
+ * 토큰만 검증하는 요청의 지연은 폭주 전과 비슷하게 유지되어야 함
+ */
+@Tag("load")
+// BCrypt 부하를 재는 테스트라 로그인 시도 제한은 사실상 끔
+@SpringBootTest(
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = {
+		"signin.throttle.account.capacity=1000000",
+		"signin.throttle.ip.capacity=1000000"
+	}
+)
+class SigninStormLoadTest {
+
+	private static final int SAMPLES = 2000;
+	private static final int STORM_CLIENTS = 64;
+	private static final String EMAIL = "storm@example.com";
+	private static final String PASSWORD = "Password123!";
+
+	@LocalServerPort private int port;
+	@Autowired private UserRepository userRepository;
+	@Autowired private PasswordEncoder passwordEncoder;
+	@Autowired private ObjectMapper objectMapper;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@BeforeEach
+	void setUp() {
+		userRepository.deleteAll();
+		userRepository.save(User.builder()
+			.email(EMAIL)
+			.password(passwordEncoder.encode(PASSWORD))
+			.username("부하테스트")
+			.build());
+	}
+
+	@Test
+	@DisplayName("load: 로그인 폭주 중에도 내 정보 조회 p99 유지")
+	void myInfoLatencyStaysFlatDuringSigninStorm() throws Exception {
+		// given
+		String authorization = "Bearer " + objectMapper.readTree(signin().body()).get("token").asText();
+		measureMyInfo(authorization, SAMPLES / 4); // 워밍업
+		long baselineP99 = p99(measureMyInfo(authorization, SAMPLES));
+
+		// when
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicLong signins = new AtomicLong();
+		AtomicLong rejected = new AtomicLong();
+		AtomicLong unexpected = new AtomicLong();
+		ExecutorService storm = Executors.newFixedThreadPool(STORM_CLIENTS);
+		long stormP99;
+		try {
+			for (int i = 0; i < STORM_CLIENTS; i++) {
+				storm.submit(() -> {
+					while (running.get()) {
+						int status = signin().statusCode();
+						if (status == 200) {
+							signins.incrementAndGet();
+						} else if (status == 503) {
+							rejected.incrementAndGet();
+						} else {
+							unexpected.incrementAndGet();
+						}
+					}
+					return null;
+				});
+			}
+			Thread.sleep(1000); // BCrypt 풀이 포화될 때까지 대기
+			stormP99 = p99(measureMyInfo(authorization, SAMPLES));
+		} finally {
+			running.set(false);
+			storm.shutdown();
+			storm.awaitTermination(30, TimeUnit.SECONDS);
+		}
+
+		// then
+		// 코어 수 × 3(스레드 + 대기열)보다 클라이언트가 많으면 나머지는 SERVER_BUSY로 거부됨
+		System.out.printf("my-info p99: baseline %.2fms, during storm %.2fms (%d signins, %d rejected)%n",
+			baselineP99 / 1e6, stormP99 / 1e6, signins.get(), rejected.get());
+		assertThat(signins.get()).isPositive();
+		assertThat(unexpected.get()).isZero();
+		assertThat(stormP99).isLessThanOrEqualTo(baselineP99 * 3 + TimeUnit.MILLISECONDS.toNanos(20));
+	}
+
+	private HttpResponse<String> signin() throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(uri("/api/signin"))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(
+				"{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}"))
+			.build();
+		return client.send(request, HttpResponse.BodyHandlers.ofString());
+	}
+
+	private long[] measureMyInfo(String authorization, int samples) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(uri("/api/my-informations"))
+			.header("Authorization", authorization)
+			.GET()
+			.build();
+		long[] latencies = new long[samples];
+		for (int i = 0; i < samples; i++) {
+			long start = System.nanoTime();
+			HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+			latencies[i] = System.nanoTime() - start;
+			assertThat(response.statusCode()).isEqualTo(200);
+		}
+		return latencies;
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private static long p99(long[] latencies) {
+		long[] sorted = latencies.clone();
+		Arrays.sort(sorted);
+		return sorted[(int)Math.ceil(sorted.length * 0.99) - 1];
+	}
+}